@@ -14,72 +14,281 @@
  */
 package org.databene.commons;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 /**
- * Codes/Decodes Base64 strings.
+ * Codes/Decodes Base64 strings. Besides Strings and arrays, {@link ByteBuffer}s, {@link CharBuffer}s 
+ * and {@link Appendable}s are supported, so large payloads can be processed without intermediate copies.
+ * Decoding validates the code in the same pass.
  * @author Volker Bergmann
  * @since 0.2.04
+ * @see org.databene.commons.io.Base64InputStream
+ * @see org.databene.commons.io.Base64OutputStream
  */
 public class Base64Codec {
 
     private static final char[] DIGITS  = createDigits();
     private static final byte[] INDICES = createIndices();
+    
+    private static final int CHUNK_SIZE = 3 * 1024;
 
     private Base64Codec() {}
     
     // interface ----------------------------------------------------------------------------------------
 
     public static String encode(byte[] source) {
-        int srcLength = source.length;
-        int srcCursor = 0;
-        int unpaddedLength = (srcLength * 4 + 2) / 3;
-        int paddedLength = ((srcLength + 2) / 3) * 4;
-        char[] buffer = new char[paddedLength];
-        int bufferCursor = 0;
-        while (srcCursor < srcLength) {
+        byte[] buffer = new byte[encodedLength(source.length)];
+        encode(source, 0, source.length, buffer, 0);
+        // ISO-8859-1 maps each byte to one char and lets the JVM store the String compactly
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Appends the Base64 code of a byte array to an {@link Appendable} in chunks, 
+     * without creating the complete code as String.
+     * @param source the bytes to encode
+     * @param toAppendTo the target to which to append the code
+     * @param <E> the type of the target
+     * @return the target
+     */
+    public static <E extends Appendable> E encode(byte[] source, E toAppendTo) {
+        char[] buffer = new char[encodedLength(Math.min(source.length, CHUNK_SIZE))];
+        try {
+            for (int offset = 0; offset < source.length; offset += CHUNK_SIZE) {
+                int length = encode(source, offset, Math.min(CHUNK_SIZE, source.length - offset), buffer, 0);
+                if (toAppendTo instanceof Writer)
+                    ((Writer) toAppendTo).write(buffer, 0, length);
+                else if (toAppendTo instanceof StringBuilder)
+                    ((StringBuilder) toAppendTo).append(buffer, 0, length);
+                else
+                    toAppendTo.append(CharBuffer.wrap(buffer, 0, length));
+            }
+            return toAppendTo;
+        } catch (IOException e) {
+            throw new ConversionException("Error writing Base64 code", e);
+        }
+    }
+
+    /**
+     * Encodes the remaining bytes of a {@link ByteBuffer}.
+     * @param source the bytes to encode, its position is moved to its limit
+     * @return a {@link CharBuffer} with the code, ready for reading
+     */
+    public static CharBuffer encode(ByteBuffer source) {
+        int length = source.remaining();
+        char[] code = new char[encodedLength(length)];
+        if (source.hasArray()) {
+            encode(source.array(), source.arrayOffset() + source.position(), length, code, 0);
+            source.position(source.limit());
+        } else {
+            byte[] chunk = new byte[Math.min(length, CHUNK_SIZE)];
+            int codeCursor = 0;
+            while (source.hasRemaining()) {
+                int chunkLength = Math.min(chunk.length, source.remaining());
+                source.get(chunk, 0, chunkLength);
+                codeCursor += encode(chunk, 0, chunkLength, code, codeCursor);
+            }
+        }
+        return CharBuffer.wrap(code);
+    }
+
+    /**
+     * Encodes a section of a byte array into a char array. Only the last section of a payload 
+     * may have a length that is not a multiple of 3, since it is padded.
+     * @param source the array with the bytes to encode
+     * @param offset the index of the first byte to encode
+     * @param length the number of bytes to encode
+     * @param target the array to receive the code
+     * @param targetOffset the index at which to write the first char
+     * @return the number of chars written
+     */
+    public static int encode(byte[] source, int offset, int length, char[] target, int targetOffset) {
+        int srcCursor = offset;
+        int srcEnd = offset + length;
+        int cursor = targetOffset;
+        while (srcEnd - srcCursor >= 3) {
+            int d0 = source[srcCursor++] & 0xff;
+            int d1 = source[srcCursor++] & 0xff;
+            int d2 = source[srcCursor++] & 0xff;
+            target[cursor++] = DIGITS[d0 >>> 2];
+            target[cursor++] = DIGITS[((d0 & 0x3) << 4) | (d1 >>> 4)];
+            target[cursor++] = DIGITS[((d1 & 0xf) << 2) | (d2 >>> 6)];
+            target[cursor++] = DIGITS[d2 & 0x3F];
+        }
+        if (srcCursor < srcEnd) {
+            int d0 = source[srcCursor++] & 0xff;
+            int d1 = srcCursor < srcEnd ? source[srcCursor++] & 0xff : -1;
+            target[cursor++] = DIGITS[d0 >>> 2];
+            if (d1 < 0) {
+                target[cursor++] = DIGITS[(d0 & 0x3) << 4];
+                target[cursor++] = '=';
+            } else {
+                target[cursor++] = DIGITS[((d0 & 0x3) << 4) | (d1 >>> 4)];
+                target[cursor++] = DIGITS[(d1 & 0xf) << 2];
+            }
+            target[cursor++] = '=';
+        }
+        return cursor - targetOffset;
+    }
+
+    /**
+     * Encodes a section of a byte array into a byte array of ASCII codes. 
+     * Like with {@link #encode(byte[], int, int, char[], int)}, only the last section may be padded.
+     * @param source the array with the bytes to encode
+     * @param offset the index of the first byte to encode
+     * @param length the number of bytes to encode
+     * @param target the array to receive the code
+     * @param targetOffset the index at which to write the first code byte
+     * @return the number of bytes written
+     */
+    public static int encode(byte[] source, int offset, int length, byte[] target, int targetOffset) {
+        int srcCursor = offset;
+        int srcEnd = offset + length;
+        int cursor = targetOffset;
+        while (srcEnd - srcCursor >= 3) {
             int d0 = source[srcCursor++] & 0xff;
-            int d1 = srcCursor < srcLength ? source[srcCursor++] & 0xff : 0;
-            int d2 = srcCursor < srcLength ? source[srcCursor++] & 0xff : 0;
-            buffer[bufferCursor++] = DIGITS[d0 >>> 2];
-            buffer[bufferCursor++] = DIGITS[((d0 & 0x3) << 4) | (d1 >>> 4)];
-            buffer[bufferCursor] = bufferCursor++ < unpaddedLength ? DIGITS[((d1 & 0xf) << 2) | (d2 >>> 6)] : '=';
-            buffer[bufferCursor] = bufferCursor++ < unpaddedLength ? DIGITS[d2 & 0x3F] : '=';
+            int d1 = source[srcCursor++] & 0xff;
+            int d2 = source[srcCursor++] & 0xff;
+            target[cursor++] = (byte) DIGITS[d0 >>> 2];
+            target[cursor++] = (byte) DIGITS[((d0 & 0x3) << 4) | (d1 >>> 4)];
+            target[cursor++] = (byte) DIGITS[((d1 & 0xf) << 2) | (d2 >>> 6)];
+            target[cursor++] = (byte) DIGITS[d2 & 0x3F];
         }
-        return new String(buffer);
+        if (srcCursor < srcEnd) {
+            int d0 = source[srcCursor++] & 0xff;
+            int d1 = srcCursor < srcEnd ? source[srcCursor++] & 0xff : -1;
+            target[cursor++] = (byte) DIGITS[d0 >>> 2];
+            if (d1 < 0) {
+                target[cursor++] = (byte) DIGITS[(d0 & 0x3) << 4];
+                target[cursor++] = '=';
+            } else {
+                target[cursor++] = (byte) DIGITS[((d0 & 0x3) << 4) | (d1 >>> 4)];
+                target[cursor++] = (byte) DIGITS[(d1 & 0xf) << 2];
+            }
+            target[cursor++] = '=';
+        }
+        return cursor - targetOffset;
+    }
+
+    public static int encodedLength(int byteCount) {
+        return ((byteCount + 2) / 3) * 4;
     }
 
     public static byte[] decode(String code) {
+        return decode((CharSequence) code);
+    }
+
+    /**
+     * Decodes a Base64 code, validating it in the same pass.
+     * @param code the code to decode
+     * @return the decoded bytes
+     */
+    public static byte[] decode(CharSequence code) {
         if (code == null)
             throw new IllegalArgumentException("code is null");
-        char[] codeBuffer = code.toCharArray();
-        int codeLength = codeBuffer.length;
+        byte[] result = new byte[decodedLength(code)];
+        decode(code, result, 0);
+        return result;
+    }
+
+    /**
+     * Decodes the remaining chars of a {@link CharBuffer}.
+     * @param code the code to decode, its position is moved to its limit
+     * @return a {@link ByteBuffer} with the decoded bytes, ready for reading
+     */
+    public static ByteBuffer decode(CharBuffer code) {
+        ByteBuffer result = ByteBuffer.wrap(decode((CharSequence) code));
+        code.position(code.limit());
+        return result;
+    }
+
+    /**
+     * Decodes a Base64 code into a {@link ByteBuffer}, validating it in the same pass.
+     * @param code the code to decode
+     * @param target the buffer to receive the decoded bytes; 
+     * 		it must have at least {@link #decodedLength(CharSequence)} bytes remaining
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the target has less bytes remaining than the code represents; 
+     * 		in this case nothing is written
+     */
+    public static int decode(CharSequence code, ByteBuffer target) {
+        int length = decodedLength(code);
+        if (length > target.remaining())
+            throw new BufferOverflowException();
+        if (target.hasArray()) {
+            decode(code, target.array(), target.arrayOffset() + target.position());
+            target.position(target.position() + length);
+        } else {
+            byte[] buffer = new byte[length];
+            decode(code, buffer, 0);
+            target.put(buffer);
+        }
+        return length;
+    }
+
+    /**
+     * Calculates the number of bytes represented by a Base64 code and checks its length.
+     * @param code the Base64 code
+     * @return the number of bytes represented by the code
+     */
+    public static int decodedLength(CharSequence code) {
+        int codeLength = code.length();
         if (codeLength % 4 != 0)
             throw new IllegalArgumentException("Length of Base64 encoded input string is not a multiple of 4.");
-        while (codeLength > 0 && codeBuffer[codeLength - 1] == '=')
+        return (unpaddedLength(code) * 3) / 4;
+    }
+
+    /**
+     * @param c the character to look up
+     * @return the 6-bit value of a Base64 character or -1 if it is no Base64 character
+     */
+    public static int indexOf(char c) {
+        return (c < 128 ? INDICES[c] : -1);
+    }
+
+    // private helpers -------------------------------------------------------------------------------------
+    
+    private static int unpaddedLength(CharSequence code) {
+        int codeLength = code.length();
+        while (codeLength > 0 && code.charAt(codeLength - 1) == '=')
             codeLength--;
-        for (int i = 0; i < codeLength; i++)
-            if (!isBase64Char(codeBuffer[i]))
-                throw new IllegalArgumentException("Not a base64 code: " + code);
-        int resultLength = (codeLength * 3) / 4;
-        byte[] result = new byte[resultLength];
+        return codeLength;
+    }
+
+    private static void decode(CharSequence code, byte[] result, int offset) {
+        int codeLength = unpaddedLength(code);
+        int resultEnd = offset + (codeLength * 3) / 4;
         int codeCursor = 0;
-        int resultCursor = 0;
-        while (codeCursor < codeLength) {
-            int b0 = INDICES[codeBuffer[codeCursor++]];
-            int b1 = INDICES[codeBuffer[codeCursor++]];
-            int b2 = (codeCursor < codeLength ? INDICES[codeBuffer[codeCursor++]] : 0);
-            int b3 = (codeCursor < codeLength ? INDICES[codeBuffer[codeCursor++]] : 0);
+        int resultCursor = offset;
+        while (codeLength - codeCursor >= 4) {
+            int b0 = indexOf(code.charAt(codeCursor++));
+            int b1 = indexOf(code.charAt(codeCursor++));
+            int b2 = indexOf(code.charAt(codeCursor++));
+            int b3 = indexOf(code.charAt(codeCursor++));
+            if ((b0 | b1 | b2 | b3) < 0)
+                throw new IllegalArgumentException("Not a base64 code: " + code);
             result[resultCursor++] = (byte) ((b0 << 2) | (b1 >>> 4));
-            if (resultCursor < resultLength)
+            result[resultCursor++] = (byte) (((b1 & 0xf) << 4) | (b2 >>> 2));
+            result[resultCursor++] = (byte) (((b2 & 3) << 6) | b3);
+        }
+        if (codeCursor < codeLength) {
+            int b0 = indexOf(code.charAt(codeCursor++));
+            int b1 = (codeCursor < codeLength ? indexOf(code.charAt(codeCursor++)) : -1);
+            int b2 = (codeCursor < codeLength ? indexOf(code.charAt(codeCursor++)) : 0);
+            if ((b0 | b1 | b2) < 0)
+                throw new IllegalArgumentException("Not a base64 code: " + code);
+            result[resultCursor++] = (byte) ((b0 << 2) | (b1 >>> 4));
+            if (resultCursor < resultEnd)
                 result[resultCursor++] = (byte) (((b1 & 0xf) << 4) | (b2 >>> 2));
-            if (resultCursor < resultLength)
-                result[resultCursor++] = (byte) (((b2 & 3) << 6) | b3);
         }
-        return result;
     }
-    
-    // private helpers -------------------------------------------------------------------------------------
+
     
     public static boolean isBase64Char(char c) {
         return ('A' <= c && c <= 'Z') || ('a' <= c && c <= 'z') || ('0' <= c && c <= '9') || c == '+' || c =='/';
@@ -56,8 +56,6 @@ public final class BeanUtil {
 
     // (static) attributes ---------------------------------------------------------------------------------------------
 
-    private static final Map<String, PropertyDescriptor> propertyDescriptors = new HashMap<String, PropertyDescriptor>();
-
     /**
      * List of simple Java types.
      */
@@ -771,40 +769,7 @@ public final class BeanUtil {
      * @return the attribute's property descriptor
      */
     public static PropertyDescriptor getPropertyDescriptor(Class<?> beanClass, String propertyName) {
-        if (beanClass == null)
-            throw new IllegalArgumentException("beanClass is null");
-        String propertyId = beanClass.getName() + '#' + propertyName;
-        PropertyDescriptor result = propertyDescriptors.get(propertyId);
-        if (result != null)
-            return result;
-        // descriptor is new
-
-        int separatorIndex = propertyName.indexOf('.');
-        if (separatorIndex >= 0) {
-            String localProperty = propertyName.substring(0, separatorIndex);
-            String remoteProperty = propertyName.substring(separatorIndex + 1);
-            PropertyDescriptor localPropertyDescriptor = getPropertyDescriptor(beanClass, localProperty);
-            if (localPropertyDescriptor == null)
-            	return null;
-			Class<?> localPropertyType = localPropertyDescriptor.getPropertyType();
-            result = getPropertyDescriptor(localPropertyType, remoteProperty);
-        } else {
-            try {
-                BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-                PropertyDescriptor[] descriptors = beanInfo.getPropertyDescriptors();
-                for (PropertyDescriptor descriptor : descriptors) {
-                    String name = descriptor.getName();
-                    if (name.equals(propertyName)) {
-                        result = descriptor;
-                        break;
-                    }
-                }
-            } catch (IntrospectionException e) {
-                throw ExceptionMapper.configurationException(e, propertyName);
-            }
-        }
-        propertyDescriptors.put(propertyId, result);
-        return result;
+        return PropertyTable.of(beanClass).resolve(propertyName);
     }
 
     public static PropertyDescriptor getPropertyDescriptor(
@@ -852,11 +817,7 @@ public final class BeanUtil {
      * @return all found property descriptors
      */
     public static PropertyDescriptor[] getPropertyDescriptors(Class<?> type) {
-        try {
-            return Introspector.getBeanInfo(type).getPropertyDescriptors();
-        } catch (IntrospectionException e) {
-            throw new RuntimeException(e);
-        }
+        return PropertyTable.of(type).getDescriptors();
     }
     /**
      * Copies a Map's values to the properties of a JavaBean,
@@ -37,4 +37,19 @@ public interface Converter<S, T> extends ThreadAware {
      */
     T convert(S sourceValue) throws ConversionException;
     
+    /**
+     * Converts a range of source values, storing each result at the same index of the target array.
+     * Callers may pass arrays of any runtime component type which can hold the values, e.g. Object[], 
+     * so implementations must not override this method with more specific array parameter types.
+     * @param sourceValues the array that holds the objects to convert
+     * @param fromIndex the index of the first element to convert (inclusive)
+     * @param toIndex the index of the last element to convert (exclusive)
+     * @param targetValues the array that receives the converted objects
+     * @throws org.databene.commons.ConversionException if the conversion fails
+     */
+    default void convertAll(S[] sourceValues, int fromIndex, int toIndex, T[] targetValues) throws ConversionException {
+    	for (int i = fromIndex; i < toIndex; i++)
+    		targetValues[i] = convert(sourceValues[i]);
+    }
+    
 }
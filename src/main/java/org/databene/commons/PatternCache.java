@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Concurrent, size-bounded cache of compiled regular expression {@link Pattern}s by expression and flags. 
+ * When the maximum size is exceeded, approximately the least recently used tenth of the entries is evicted: 
+ * The access clock only advances on misses, and a hit only writes an entry's access time if the clock 
+ * has advanced since, so hits on the same entries do not contend for a shared memory location. 
+ * The cache counts hits, misses and evictions. Most callers use the shared instance via the static 
+ * {@link #compile(String)} and {@link #compile(String, int)} methods.
+ * Created: 17.10.2026 16:31:05
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class PatternCache {
+	
+	public static final int DEFAULT_MAX_SIZE = 1000;
+	
+	private static final PatternCache DEFAULT_INSTANCE = new PatternCache(DEFAULT_MAX_SIZE);
+	
+	private final ConcurrentMap<Key, Entry> entries;
+	private final AtomicLong clock;
+	private volatile int maxSize;
+	
+	private final LongAdder hits;
+	private final LongAdder misses;
+	private final LongAdder evictions;
+	
+	public PatternCache(int maxSize) {
+		this.entries = new ConcurrentHashMap<Key, Entry>();
+		this.clock = new AtomicLong();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+		setMaxSize(maxSize);
+	}
+	
+	public static PatternCache getInstance() {
+		return DEFAULT_INSTANCE;
+	}
+	
+	/**
+	 * Provides a compiled {@link Pattern} from the shared cache.
+	 * @param regex the regular expression
+	 * @return the compiled pattern
+	 */
+	public static Pattern compile(String regex) {
+		return DEFAULT_INSTANCE.getPattern(regex, 0);
+	}
+	
+	/**
+	 * Provides a compiled {@link Pattern} from the shared cache.
+	 * @param regex the regular expression
+	 * @param flags the match flags as defined by {@link Pattern#compile(String, int)}
+	 * @return the compiled pattern
+	 */
+	public static Pattern compile(String regex, int flags) {
+		return DEFAULT_INSTANCE.getPattern(regex, flags);
+	}
+	
+	// properties ------------------------------------------------------------------------------------------------------
+	
+	public int getMaxSize() {
+		return maxSize;
+	}
+	
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 1)
+			throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+		this.maxSize = maxSize;
+		evictIfFull();
+	}
+	
+	public int size() {
+		return entries.size();
+	}
+	
+	public long getHitCount() {
+		return hits.sum();
+	}
+	
+	public long getMissCount() {
+		return misses.sum();
+	}
+	
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+	
+	// operational interface -------------------------------------------------------------------------------------------
+	
+	public Pattern getPattern(String regex, int flags) {
+		Key key = new Key(regex, flags);
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			hits.increment();
+			long now = clock.get();
+			if (entry.lastAccess != now)
+				entry.lastAccess = now;
+			return entry.pattern;
+		}
+		misses.increment();
+		Entry newEntry = new Entry(Pattern.compile(regex, flags), clock.incrementAndGet());
+		entry = entries.putIfAbsent(key, newEntry);
+		if (entry != null)
+			return entry.pattern;
+		evictIfFull();
+		return newEntry.pattern;
+	}
+	
+	/** Removes all patterns and resets the statistics. */
+	public void clear() {
+		entries.clear();
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size=" + size() + ", hits=" + getHitCount() + 
+			", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private void evictIfFull() {
+		int limit = maxSize;
+		if (entries.size() <= limit)
+			return;
+		synchronized (this) {
+			int excess = entries.size() - limit;
+			if (excess <= 0)
+				return;
+			// determine the access time below which entries are removed
+			int toRemove = Math.max(excess, limit / 10);
+			long[] accessTimes = new long[entries.size()];
+			int count = 0;
+			for (Entry entry : entries.values())
+				if (count < accessTimes.length)
+					accessTimes[count++] = entry.lastAccess;
+			Arrays.sort(accessTimes, 0, count);
+			long threshold = accessTimes[Math.min(toRemove, count) - 1];
+			// remove the older entries first, then as many entries of the threshold time as needed
+			int removed = removeEntries(threshold, false, toRemove);
+			removeEntries(threshold, true, toRemove - removed);
+		}
+	}
+	
+	private int removeEntries(long threshold, boolean equal, int max) {
+		int removed = 0;
+		Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+		while (removed < max && iterator.hasNext()) {
+			long lastAccess = iterator.next().getValue().lastAccess;
+			if (equal ? lastAccess == threshold : lastAccess < threshold) {
+				iterator.remove();
+				evictions.increment();
+				removed++;
+			}
+		}
+		return removed;
+	}
+	
+	private static final class Key {
+		
+		final String regex;
+		final int flags;
+		
+		Key(String regex, int flags) {
+			this.regex = regex;
+			this.flags = flags;
+		}
+
+		@Override
+		public int hashCode() {
+			return regex.hashCode() * 31 + flags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key that = (Key) obj;
+			return (this.flags == that.flags && this.regex.equals(that.regex));
+		}
+	}
+	
+	private static final class Entry {
+		
+		final Pattern pattern;
+		volatile long lastAccess;
+		
+		Entry(Pattern pattern, long lastAccess) {
+			this.pattern = pattern;
+			this.lastAccess = lastAccess;
+		}
+	}
+	
+}
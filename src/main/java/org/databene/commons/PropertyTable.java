@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+
+/**
+ * Immutable table of the JavaBean properties of a class. 
+ * Tables are created once per class and held in a {@link ClassValue}, 
+ * so they can be shared by any number of threads without locking. 
+ * Lookups use an open addressing hash table over the property names 
+ * and can be applied to a section of a property path 
+ * (like 'address' in 'address.city') without creating a substring.
+ * Created: 17.10.2026 17:14:40
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public final class PropertyTable {
+	
+	private static final ClassValue<PropertyTable> TABLES = new ClassValue<PropertyTable>() {
+		@Override
+		protected PropertyTable computeValue(Class<?> beanClass) {
+			return new PropertyTable(beanClass);
+		}
+	};
+	
+	private final Class<?> beanClass;
+	private final String[] names;
+	private final PropertyDescriptor[] descriptors;
+	private final int[] slots;
+	private final int mask;
+	
+	private PropertyTable(Class<?> beanClass) {
+		this.beanClass = beanClass;
+		try {
+			this.descriptors = Introspector.getBeanInfo(beanClass).getPropertyDescriptors();
+		} catch (IntrospectionException e) {
+			throw ExceptionMapper.configurationException(e, beanClass);
+		}
+		this.names = new String[descriptors.length];
+		int capacity = 4;
+		while (capacity < descriptors.length * 2)
+			capacity <<= 1;
+		this.slots = new int[capacity];
+		this.mask = capacity - 1;
+		for (int i = 0; i < descriptors.length; i++) {
+			String name = descriptors[i].getName();
+			names[i] = name;
+			int slot = name.hashCode() & mask;
+			while (slots[slot] != 0)
+				slot = (slot + 1) & mask;
+			slots[slot] = i + 1;
+		}
+	}
+	
+	/**
+	 * Provides the property table of a class.
+	 * @param beanClass the class to examine
+	 * @return the class' property table
+	 */
+	public static PropertyTable of(Class<?> beanClass) {
+		if (beanClass == null)
+			throw new IllegalArgumentException("beanClass is null");
+		return TABLES.get(beanClass);
+	}
+	
+	public Class<?> getBeanClass() {
+		return beanClass;
+	}
+	
+	public int size() {
+		return descriptors.length;
+	}
+	
+	public String getName(int index) {
+		return names[index];
+	}
+	
+	public PropertyDescriptor getDescriptor(int index) {
+		return descriptors[index];
+	}
+	
+	/** @return a copy of the descriptor array in the order provided by the {@link Introspector} */
+	public PropertyDescriptor[] getDescriptors() {
+		return descriptors.clone();
+	}
+	
+	public PropertyDescriptor get(String propertyName) {
+		int index = indexOf(propertyName, 0, propertyName.length());
+		return (index >= 0 ? descriptors[index] : null);
+	}
+	
+	public int indexOf(String propertyName) {
+		return indexOf(propertyName, 0, propertyName.length());
+	}
+	
+	/**
+	 * Looks up the property whose name equals the characters from position 
+	 * <code>start</code> (inclusive) to <code>end</code> (exclusive) of a path.
+	 * @param path the text that contains the property name
+	 * @param start the index of the first character of the property name
+	 * @param end the index after the last character of the property name
+	 * @return the index of the property or -1 if it was not found
+	 */
+	public int indexOf(String path, int start, int end) {
+		int hash = 0;
+		for (int i = start; i < end; i++)
+			hash = 31 * hash + path.charAt(i);
+		int length = end - start;
+		int slot = hash & mask;
+		int entry;
+		while ((entry = slots[slot]) != 0) {
+			String name = names[entry - 1];
+			if (name.length() == length && name.regionMatches(0, path, start, length))
+				return entry - 1;
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Resolves a property path like 'address.city', following the declared property types.
+	 * @param path the property path
+	 * @return the descriptor of the last property in the path or null if a path element was not found
+	 */
+	public PropertyDescriptor resolve(String path) {
+		PropertyTable table = this;
+		int start = 0;
+		while (true) {
+			int end = path.indexOf('.', start);
+			if (end < 0)
+				end = path.length();
+			int index = table.indexOf(path, start, end);
+			if (index < 0)
+				return null;
+			PropertyDescriptor descriptor = table.descriptors[index];
+			if (end == path.length())
+				return descriptor;
+			table = of(descriptor.getPropertyType());
+			start = end + 1;
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + '[' + beanClass.getName() + ']';
+	}
+	
+}
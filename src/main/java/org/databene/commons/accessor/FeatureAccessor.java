@@ -41,9 +41,15 @@ public class FeatureAccessor<C, V> implements Accessor<C, V> {
     private static Logger LOGGER = LoggerFactory.getLogger(FeatureAccessor.class);
     
     private static Escalator escalator = new LoggerEscalator();
+    
+    /** The maximum number of target classes for which access strategies are cached */
+    static final int MAX_INLINE_CACHE_SIZE = 4;
 
     private String featureName;
     
+    /** Inline cache of the access strategies for the most recent target classes */
+    private Strategy strategies;
+    
     // constructors ----------------------------------------------------------------------------------------------------
 
     public FeatureAccessor(String featureName) {
@@ -61,6 +67,7 @@ public class FeatureAccessor<C, V> implements Accessor<C, V> {
 
 	public void setFeatureName(String featureName) {
 		this.featureName = featureName;
+		this.strategies = null;
 	}
 
     // Accessor interface implementation -------------------------------------------------------------------------------
@@ -68,9 +75,30 @@ public class FeatureAccessor<C, V> implements Accessor<C, V> {
 	@Override
 	@SuppressWarnings("unchecked")
     public V getValue(C target) {
+		if (target == null)
+			return null;
+		Class<?> type = target.getClass();
+		Strategy head = strategies;
+		for (Strategy strategy = head; strategy != null; strategy = strategy.next)
+			if (strategy.type == type)
+				return (V) strategy.getValue(target);
+		if (head == null || head.size < MAX_INLINE_CACHE_SIZE) {
+			Strategy strategy = createStrategy(type, featureName, head);
+			if (strategy != null) {
+				strategies = strategy;
+				return (V) strategy.getValue(target);
+			}
+		}
+		// megamorphic site or a feature which needs to be resolved on each call
         return (V) getValue(target, featureName);
     }
 
+	/** @return the number of target classes for which an access strategy is cached */
+	int getInlineCacheSize() {
+		Strategy head = strategies;
+		return (head != null ? head.size : 0);
+	}
+
     // static convenience methods --------------------------------------------------------------------------------------
 
     public static Object getValue(Object target, String featureName) {
@@ -117,6 +145,138 @@ public class FeatureAccessor<C, V> implements Accessor<C, V> {
         return null;
     }
     
+    // inline cache ----------------------------------------------------------------------------------------------------
+
+    /** 
+     * Resolves how {@link #getValue(Object, String, boolean)} would read a feature 
+     * from objects of a given class, following the same precedence. 
+     * @return the strategy or null if the feature cannot be resolved by class
+     */
+    private static Strategy createStrategy(Class<?> type, String featureName, Strategy next) {
+    	if (type == Class.class)
+    		return null; // static fields are resolved from the target object
+    	if (Map.class.isAssignableFrom(type))
+    		return new MapStrategy(type, featureName, next);
+    	if (Context.class.isAssignableFrom(type))
+    		return new ContextStrategy(type, featureName, next);
+    	if (Composite.class.isAssignableFrom(type))
+    		return new CompositeStrategy(type, featureName, next);
+    	Method genericGetMethod = BeanUtil.findMethod(type, "get", String.class);
+    	if (genericGetMethod != null)
+    		return new GenericGetStrategy(type, featureName, next, genericGetMethod);
+        PropertyDescriptor propertyDescriptor = BeanUtil.getPropertyDescriptor(type, featureName);
+        if (propertyDescriptor != null && propertyDescriptor.getReadMethod() != null)
+        	return new PropertyStrategy(type, featureName, next, propertyDescriptor.getReadMethod());
+        try {
+			return new FieldStrategy(type, featureName, next, type.getField(featureName));
+		} catch (NoSuchFieldException e) {
+			return null; // let the generic lookup report the failure
+		}
+    }
+    
+    /** Immutable node of the inline cache, which reads the feature from objects of one class. */
+    private static abstract class Strategy {
+    	
+    	final Class<?> type;
+    	final String featureName;
+    	final Strategy next;
+    	final int size;
+    	
+    	Strategy(Class<?> type, String featureName, Strategy next) {
+    		this.type = type;
+    		this.featureName = featureName;
+    		this.next = next;
+    		this.size = (next != null ? next.size + 1 : 1);
+    	}
+    	
+    	abstract Object getValue(Object target);
+    }
+    
+    private static final class MapStrategy extends Strategy {
+    	
+    	MapStrategy(Class<?> type, String featureName, Strategy next) {
+    		super(type, featureName, next);
+    	}
+    	
+    	@Override
+    	Object getValue(Object target) {
+    		return ((Map<?, ?>) target).get(featureName);
+    	}
+    }
+    
+    private static final class ContextStrategy extends Strategy {
+    	
+    	ContextStrategy(Class<?> type, String featureName, Strategy next) {
+    		super(type, featureName, next);
+    	}
+    	
+    	@Override
+    	Object getValue(Object target) {
+    		return ((Context) target).get(featureName);
+    	}
+    }
+    
+    private static final class CompositeStrategy extends Strategy {
+    	
+    	CompositeStrategy(Class<?> type, String featureName, Strategy next) {
+    		super(type, featureName, next);
+    	}
+    	
+    	@Override
+    	Object getValue(Object target) {
+    		return ((Composite) target).getComponent(featureName);
+    	}
+    }
+    
+    private static final class GenericGetStrategy extends Strategy {
+    	
+    	private final Method method;
+    	
+    	GenericGetStrategy(Class<?> type, String featureName, Strategy next, Method method) {
+    		super(type, featureName, next);
+    		this.method = method;
+    	}
+    	
+    	@Override
+    	Object getValue(Object target) {
+    		return BeanUtil.invoke(target, method, new Object[] { featureName });
+    	}
+    }
+    
+    private static final class PropertyStrategy extends Strategy {
+    	
+    	private final Method readMethod;
+    	
+    	PropertyStrategy(Class<?> type, String featureName, Strategy next, Method readMethod) {
+    		super(type, featureName, next);
+    		this.readMethod = readMethod;
+    	}
+    	
+    	@Override
+    	Object getValue(Object target) {
+            try {
+                return readMethod.invoke(target);
+            } catch (Exception e) {
+                throw new ConfigurationError("Unable to read property '" + featureName + "'", e);
+            }
+    	}
+    }
+    
+    private static final class FieldStrategy extends Strategy {
+    	
+    	private final Field field;
+    	
+    	FieldStrategy(Class<?> type, String featureName, Strategy next, Field field) {
+    		super(type, featureName, next);
+    		this.field = field;
+    	}
+    	
+    	@Override
+    	Object getValue(Object target) {
+    		return BeanUtil.getFieldValue(field, target, false);
+    	}
+    }
+    
     // java.lang.Object overrides --------------------------------------------------------------------------------------
 
     @Override
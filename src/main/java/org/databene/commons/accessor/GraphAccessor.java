@@ -15,6 +15,7 @@
 package org.databene.commons.accessor;
 
 import org.databene.commons.Accessor;
+import org.databene.commons.bean.PropertyPath;
 
 /**
  * Accesses object graphs by splitting a path names into tokens by a dot separator('.').
@@ -58,7 +59,7 @@ public class GraphAccessor implements Accessor {
     // static utility methods ------------------------------------------------------------------------------------------
     
     public static Object getValue(String path, Object o) {
-    	return new GraphAccessor(path).getValue(o);
+    	return PropertyPath.of(path).getValue(o);
     }
     
 }
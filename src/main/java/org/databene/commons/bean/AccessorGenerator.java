@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.bean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.databene.commons.BeanUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link Getter}s and {@link Setter}s for JavaBean read and write methods 
+ * which avoid the overhead of {@link Method#invoke(Object, Object...)}.
+ * If a method is not accessible or its types are not visible to the class loader of this class, 
+ * no accessor is created and callers fall back to reflection.
+ * The generated code casts the bean to the method's declaring class, so callers need to check 
+ * the bean type before invoking an accessor in order to report a mismatch like reflection does.
+ * Created: 17.10.2026 18:09:51
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+final class AccessorGenerator {
+	
+	private static final Logger LOGGER = LoggerFactory.getLogger(AccessorGenerator.class);
+	
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	
+	private static final MethodType GETTER_SIGNATURE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_SIGNATURE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType LONG_GETTER_SIGNATURE = MethodType.methodType(long.class, Object.class);
+	private static final MethodType DOUBLE_GETTER_SIGNATURE = MethodType.methodType(double.class, Object.class);
+	
+	private AccessorGenerator() {
+	}
+	
+	interface Getter {
+		Object get(Object bean) throws Throwable;
+	}
+	
+	interface Setter {
+		void set(Object bean, Object value) throws Throwable;
+	}
+	
+	interface LongGetter {
+		long get(Object bean) throws Throwable;
+	}
+	
+	interface DoubleGetter {
+		double get(Object bean) throws Throwable;
+	}
+	
+	/**
+	 * @param readMethod the property read method to call
+	 * @param mode the {@link AccessorMode} to apply
+	 * @return a {@link Getter} for the method or null if reflection needs to be used
+	 */
+	static Getter createGetter(Method readMethod, AccessorMode mode) {
+		if (!isGeneratable(readMethod, mode))
+			return null;
+		try {
+			return generateGetter(readMethod, LOOKUP.unreflect(readMethod));
+		} catch (IllegalAccessException e) {
+			LOGGER.debug("Falling back to reflection for {}: {}", readMethod, e.toString());
+			return null;
+		}
+	}
+	
+	/**
+	 * @param writeMethod the property write method to call
+	 * @param mode the {@link AccessorMode} to apply
+	 * @return a {@link Setter} for the method or null if reflection needs to be used
+	 */
+	static Setter createSetter(Method writeMethod, AccessorMode mode) {
+		if (!isGeneratable(writeMethod, mode))
+			return null;
+		try {
+			return generateSetter(writeMethod, LOOKUP.unreflect(writeMethod));
+		} catch (IllegalAccessException e) {
+			LOGGER.debug("Falling back to reflection for {}: {}", writeMethod, e.toString());
+			return null;
+		}
+	}
+	
+	/**
+	 * @param readMethod a property read method with a primitive integral return type
+	 * @param mode the {@link AccessorMode} to apply
+	 * @return a {@link LongGetter} which reads the property without boxing 
+	 * 		or null if the return type is not integral or reflection needs to be used
+	 */
+	static LongGetter createLongGetter(Method readMethod, AccessorMode mode) {
+		Class<?> type = readMethod.getReturnType();
+		if (type != long.class && type != int.class && type != short.class && type != byte.class && type != char.class)
+			return null;
+		if (!isGeneratable(readMethod, mode))
+			return null;
+		try {
+			return (LongGetter) generate(readMethod, LOOKUP.unreflect(readMethod), LongGetter.class, 
+					LONG_GETTER_SIGNATURE, MethodType.methodType(long.class, readMethod.getDeclaringClass()));
+		} catch (IllegalAccessException e) {
+			LOGGER.debug("Falling back to reflection for {}: {}", readMethod, e.toString());
+			return null;
+		}
+	}
+	
+	/**
+	 * @param readMethod a property read method with a primitive numerical return type
+	 * @param mode the {@link AccessorMode} to apply
+	 * @return a {@link DoubleGetter} which reads the property without boxing 
+	 * 		or null if the return type is not numerical or reflection needs to be used
+	 */
+	static DoubleGetter createDoubleGetter(Method readMethod, AccessorMode mode) {
+		Class<?> type = readMethod.getReturnType();
+		if (!type.isPrimitive() || type == boolean.class || type == void.class)
+			return null;
+		if (!isGeneratable(readMethod, mode))
+			return null;
+		try {
+			return (DoubleGetter) generate(readMethod, LOOKUP.unreflect(readMethod), DoubleGetter.class, 
+					DOUBLE_GETTER_SIGNATURE, MethodType.methodType(double.class, readMethod.getDeclaringClass()));
+		} catch (IllegalAccessException e) {
+			LOGGER.debug("Falling back to reflection for {}: {}", readMethod, e.toString());
+			return null;
+		}
+	}
+	
+	/** @return the wrapper class of a primitive type or the type itself */
+	static Class<?> boxed(Class<?> type) {
+		return (type.isPrimitive() ? BeanUtil.getWrapper(type.getName()) : type);
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private static Getter generateGetter(Method readMethod, MethodHandle handle) {
+		try {
+			MethodType instantiatedType = MethodType.methodType(
+					boxed(readMethod.getReturnType()), readMethod.getDeclaringClass());
+			CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Getter.class), 
+					GETTER_SIGNATURE, handle, instantiatedType);
+			return (Getter) site.getTarget().invoke();
+		} catch (Throwable t) {
+			LOGGER.debug("Unable to generate getter for {}: {}", readMethod, t.toString());
+			return null;
+		}
+	}
+	
+	private static Setter generateSetter(Method writeMethod, MethodHandle handle) {
+		try {
+			MethodType instantiatedType = MethodType.methodType(
+					void.class, writeMethod.getDeclaringClass(), boxed(writeMethod.getParameterTypes()[0]));
+			CallSite site = LambdaMetafactory.metafactory(LOOKUP, "set", MethodType.methodType(Setter.class), 
+					SETTER_SIGNATURE, handle, instantiatedType);
+			return (Setter) site.getTarget().invoke();
+		} catch (Throwable t) {
+			LOGGER.debug("Unable to generate setter for {}: {}", writeMethod, t.toString());
+			return null;
+		}
+	}
+	
+	private static Object generate(Method method, MethodHandle handle, 
+			Class<?> accessorType, MethodType signature, MethodType instantiatedType) {
+		try {
+			CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(accessorType), 
+					signature, handle, instantiatedType);
+			return site.getTarget().invoke();
+		} catch (Throwable t) {
+			LOGGER.debug("Unable to generate {} for {}: {}", accessorType.getSimpleName(), method, t.toString());
+			return null;
+		}
+	}
+	
+	private static boolean isGeneratable(Method method, AccessorMode mode) {
+		return (mode == AccessorMode.GENERATED && isAccessible(method) && isVisible(method));
+	}
+	
+	private static boolean isAccessible(Method method) {
+		return Modifier.isPublic(method.getModifiers()) 
+				&& Modifier.isPublic(method.getDeclaringClass().getModifiers())
+				&& !Modifier.isStatic(method.getModifiers());
+	}
+	
+	/** Generated classes link against the method's types, so they must be resolvable from this class' loader */
+	private static boolean isVisible(Method method) {
+		if (!isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType()))
+			return false;
+		for (Class<?> parameterType : method.getParameterTypes())
+			if (!isVisible(parameterType))
+				return false;
+		return true;
+	}
+	
+	private static boolean isVisible(Class<?> type) {
+		while (type.isArray())
+			type = type.getComponentType();
+		if (type.isPrimitive())
+			return true;
+		try {
+			return (Class.forName(type.getName(), false, AccessorGenerator.class.getClassLoader()) == type);
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+	
+}
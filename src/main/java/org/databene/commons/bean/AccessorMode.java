@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.bean;
+
+/**
+ * Selects how typed property accessors and mutators invoke the bean's read and write methods.
+ * Created: 17.10.2026 18:02:27
+ * @since 1.0.13
+ * @author Volker Bergmann
+ * @see PropertyAccessorFactory#setAccessorMode(AccessorMode)
+ * @see PropertyMutatorFactory#setAccessorMode(AccessorMode)
+ */
+public enum AccessorMode {
+	
+	/** Calls {@link java.lang.reflect.Method#invoke(Object, Object...)} on each access. */
+	REFLECTION,
+	
+	/** 
+	 * Spins a class with the {@link java.lang.invoke.LambdaMetafactory} which calls the method directly. 
+	 * If this is not possible, {@link #REFLECTION} is used. 
+	 */
+	GENERATED
+	
+}
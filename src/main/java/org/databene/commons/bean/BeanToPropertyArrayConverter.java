@@ -26,6 +26,7 @@ import org.databene.commons.converter.ThreadSafeConverter;
 public class BeanToPropertyArrayConverter<E> extends ThreadSafeConverter<E, Object[]> {
 
     private PropertyAccessor<E, ?>[] accessors;
+    private RowExtractor<E> extractor;
 
     public BeanToPropertyArrayConverter(String ... propertyNames) {
         this(null, propertyNames);
@@ -34,17 +35,37 @@ public class BeanToPropertyArrayConverter<E> extends ThreadSafeConverter<E, Obje
     @SuppressWarnings("unchecked")
     public BeanToPropertyArrayConverter(Class<E> beanClass, String ... propertyNames) {
     	super(beanClass, Object[].class);
-        this.accessors = new PropertyAccessor[propertyNames.length];
-        for (int i = 0; i < propertyNames.length; i++)
-            this.accessors[i] = PropertyAccessorFactory.getAccessor(beanClass, propertyNames[i]);
+        if (beanClass != null) {
+            this.extractor = new RowExtractor<E>(beanClass, propertyNames);
+        } else {
+            this.accessors = new PropertyAccessor[propertyNames.length];
+            for (int i = 0; i < propertyNames.length; i++)
+                this.accessors[i] = PropertyAccessorFactory.getAccessor(beanClass, propertyNames[i]);
+        }
+    }
+
+    /** @return the {@link RowExtractor} for the bean class or null if no bean class was specified */
+    public RowExtractor<E> getExtractor() {
+    	return extractor;
     }
 
     @Override
 	public Object[] convert(E bean) throws ConversionException {
-        Object[] propertyValues = new Object[accessors.length];
+        return convert(bean, new Object[extractor != null ? extractor.getColumnCount() : accessors.length]);
+    }
+    
+    /**
+     * Extracts the property values of a bean into a reusable array.
+     * @param bean the bean to read
+     * @param target the array to fill, at least as long as the number of properties
+     * @return the target array
+     */
+    public Object[] convert(E bean, Object[] target) throws ConversionException {
+    	if (extractor != null)
+    		return extractor.extract(bean, target);
         for (int i = 0; i < accessors.length; i++)
-            propertyValues[i] = accessors[i].getValue(bean);
-        return propertyValues;
+            target[i] = accessors[i].getValue(bean);
+        return target;
     }
     
 }
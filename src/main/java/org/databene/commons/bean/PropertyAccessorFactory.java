@@ -31,10 +31,29 @@ import java.beans.PropertyDescriptor;
 @SuppressWarnings("unchecked")
 public class PropertyAccessorFactory {
 
+    private static volatile AccessorMode accessorMode = AccessorMode.REFLECTION;
+
     /** private constructor for preventing that the class is instantiated */
     private PropertyAccessorFactory() {
     }
 
+    /** @return the {@link AccessorMode} of the typed PropertyAccessors created by this factory */
+    public static AccessorMode getAccessorMode() {
+        return accessorMode;
+    }
+
+    /**
+     * Sets the {@link AccessorMode} of the typed PropertyAccessors created subsequently. 
+     * The default is {@link AccessorMode#REFLECTION}, 
+     * {@link AccessorMode#GENERATED} falls back to reflection for methods it cannot access.
+     * @param accessorMode the mode to apply
+     */
+    public static void setAccessorMode(AccessorMode accessorMode) {
+        if (accessorMode == null)
+            throw new IllegalArgumentException("accessorMode is null");
+        PropertyAccessorFactory.accessorMode = accessorMode;
+    }
+
     /**
      * @param propertyName the name of the property to access
      * @return a property accessor without knowledge about the bean type
@@ -14,7 +14,6 @@
  */
 package org.databene.commons.bean;
 
-import org.databene.commons.BeanUtil;
 import org.databene.commons.StringUtil;
 import org.databene.commons.accessor.TypedAccessor;
 import org.databene.commons.accessor.TypedAccessorChain;
@@ -43,12 +42,7 @@ public class PropertyGraphAccessor extends TypedAccessorChain implements Propert
     // static utility methods ------------------------------------------------------------------------------------------
     
     public static Object getPropertyGraph(String path, Object bean) {
-    	String[] tokens = StringUtil.splitOnFirstSeparator(path, '.');
-    	Object tmp = BeanUtil.getPropertyValue(bean, tokens[0]);
-    	if (tokens[1] != null && tmp != null)
-    		return getPropertyGraph(tokens[1], tmp);
-    	else
-    		return tmp;
+    	return PropertyPath.of(path).getPropertyValue(bean);
     }
 
     private static TypedAccessor[] createSubAccessors(Class<?> beanClass, String propertyName, boolean strict) {
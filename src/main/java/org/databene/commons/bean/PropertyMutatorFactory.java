@@ -25,6 +25,25 @@ import org.databene.commons.mutator.NamedMutator;
  */
 public class PropertyMutatorFactory {
 
+    private static volatile AccessorMode accessorMode = AccessorMode.REFLECTION;
+
+    /** @return the {@link AccessorMode} of the typed NamedMutators created by this factory */
+    public static AccessorMode getAccessorMode() {
+        return accessorMode;
+    }
+
+    /**
+     * Sets the {@link AccessorMode} of the typed NamedMutators created subsequently. 
+     * The default is {@link AccessorMode#REFLECTION}, 
+     * {@link AccessorMode#GENERATED} falls back to reflection for methods it cannot access.
+     * @param accessorMode the mode to apply
+     */
+    public static void setAccessorMode(AccessorMode accessorMode) {
+        if (accessorMode == null)
+            throw new IllegalArgumentException("accessorMode is null");
+        PropertyMutatorFactory.accessorMode = accessorMode;
+    }
+
     public static NamedMutator getPropertyMutator(String propertyName) {
         return getPropertyMutator(null, propertyName, true, true);
     }
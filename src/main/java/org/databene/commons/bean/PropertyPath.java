@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.bean;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.databene.commons.BeanUtil;
+import org.databene.commons.Composite;
+import org.databene.commons.ConfigurationError;
+import org.databene.commons.Context;
+import org.databene.commons.ExceptionMapper;
+import org.databene.commons.PropertyTable;
+import org.databene.commons.StringUtil;
+import org.databene.commons.accessor.FeatureAccessor;
+import org.databene.commons.converter.AnyConverter;
+import org.databene.commons.mutator.AnyMutator;
+
+/**
+ * Compiled form of a dotted feature path like 'order.customer.name'. 
+ * The path is split once into steps, and each step remembers the read and write methods 
+ * it resolved for the last class it was applied to, so repeated evaluations on objects 
+ * of the same types neither parse the path nor look up properties again. The resolved methods 
+ * are cached per class and feature name, so switching between classes does not resolve them again.
+ * Objects which are not plain JavaBeans (Maps, Contexts, Composites and classes 
+ * with a generic get(String) method) are handled like in {@link FeatureAccessor} 
+ * and {@link AnyMutator}. Instances are immutable apart from their step bindings 
+ * and are shared by {@link #of(String)} and {@link #of(Class, String)}.
+ * Created: 17.10.2026 19:20:44
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public final class PropertyPath {
+	
+	private static final int MAX_CACHE_SIZE = 1000;
+	
+	private static final Object[] NO_ARGS = new Object[0];
+	
+	private static final ConcurrentMap<String, PropertyPath> UNTYPED = new ConcurrentHashMap<String, PropertyPath>();
+	
+	private static final ClassValue<ConcurrentMap<String, PropertyPath>> TYPED = 
+			new ClassValue<ConcurrentMap<String, PropertyPath>>() {
+		@Override
+		protected ConcurrentMap<String, PropertyPath> computeValue(Class<?> rootClass) {
+			return new ConcurrentHashMap<String, PropertyPath>();
+		}
+	};
+	
+	/** Resolved features per class and feature name */
+	private static final ClassValue<ConcurrentMap<String, Binding>> BINDINGS = 
+			new ClassValue<ConcurrentMap<String, Binding>>() {
+		@Override
+		protected ConcurrentMap<String, Binding> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<String, Binding>();
+		}
+	};
+	
+	private final String path;
+	private final Step[] steps;
+	
+	private PropertyPath(Class<?> rootClass, String path) {
+		this.path = path;
+		String[] names = StringUtil.tokenize(path, '.');
+		this.steps = new Step[names.length];
+		Class<?> type = rootClass;
+		for (int i = 0; i < names.length; i++) {
+			Step step = new Step(names[i]);
+			if (type != null) {
+				// bind the step in advance to the declared type
+				Binding binding = step.bind(type);
+				type = (binding.readMethod != null ? binding.readMethod.getReturnType() : null);
+			}
+			steps[i] = step;
+		}
+	}
+	
+	/**
+	 * Provides the compiled form of a path.
+	 * @param path the dotted path
+	 * @return the compiled path
+	 */
+	public static PropertyPath of(String path) {
+		return lookup(UNTYPED, null, path);
+	}
+	
+	/**
+	 * Provides the compiled form of a path that is evaluated on objects of a known class.
+	 * The steps are bound to the declared property types in advance.
+	 * @param rootClass the class of the objects on which the path is evaluated
+	 * @param path the dotted path
+	 * @return the compiled path
+	 */
+	public static PropertyPath of(Class<?> rootClass, String path) {
+		if (rootClass == null)
+			return of(path);
+		return lookup(TYPED.get(rootClass), rootClass, path);
+	}
+	
+	public String getPath() {
+		return path;
+	}
+	
+	public int length() {
+		return steps.length;
+	}
+	
+	public String getName(int index) {
+		return steps[index].name;
+	}
+	
+	// operational interface -------------------------------------------------------------------------------------------
+	
+	/**
+	 * Evaluates the path like a {@link org.databene.commons.accessor.GraphAccessor}. 
+	 * @param root the object on which to evaluate the path
+	 * @return the value of the last feature or null if an intermediate value was null
+	 */
+	public Object getValue(Object root) {
+		return getValue(root, true);
+	}
+	
+	public Object getValue(Object root, boolean required) {
+		Object value = root;
+		for (int i = 0; i < steps.length && value != null; i++)
+			value = steps[i].getFeature(value, required);
+		return value;
+	}
+	
+	/**
+	 * Evaluates the path on JavaBean properties only, like {@link BeanUtil#getPropertyValue(Object, String)}.
+	 * @param root the bean on which to evaluate the path
+	 * @return the value of the last property or null if an intermediate value was null
+	 */
+	public Object getPropertyValue(Object root) {
+		Object value = root;
+		for (int i = 0; i < steps.length && value != null; i++)
+			value = steps[i].getProperty(value);
+		return value;
+	}
+	
+	/**
+	 * Assigns a value to the last feature of the path like an {@link AnyMutator}. 
+	 * Intermediate features that are null are initialized with a new instance of their type.
+	 * @param root the object on which to evaluate the path
+	 * @param value the value to assign
+	 * @param required if set, a missing feature causes an exception, otherwise it is reported to an escalator
+	 * @param autoConvert if set, the value is converted to the feature's type
+	 */
+	public void setValue(Object root, Object value, boolean required, boolean autoConvert) {
+		Object target = root;
+		int last = steps.length - 1;
+		for (int i = 0; i < last; i++) {
+			Step step = steps[i];
+			Object child = step.getFeature(target, true);
+			if (child == null)
+				child = AnyMutator.setFeatureDefault(target, step.name);
+			target = child;
+		}
+		steps[last].setFeature(target, value, required, autoConvert);
+	}
+	
+	// java.lang.Object overrides --------------------------------------------------------------------------------------
+	
+	@Override
+	public String toString() {
+		return path;
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private static PropertyPath lookup(ConcurrentMap<String, PropertyPath> cache, Class<?> rootClass, String path) {
+		PropertyPath result = cache.get(path);
+		if (result == null) {
+			result = new PropertyPath(rootClass, path);
+			if (cache.size() >= MAX_CACHE_SIZE)
+				cache.clear();
+			PropertyPath existing = cache.putIfAbsent(path, result);
+			if (existing != null)
+				result = existing;
+		}
+		return result;
+	}
+	
+	private static Binding lookupBinding(Class<?> type, String name) {
+		ConcurrentMap<String, Binding> cache = BINDINGS.get(type);
+		Binding result = cache.get(name);
+		if (result == null) {
+			result = new Binding(type, name);
+			if (cache.size() >= MAX_CACHE_SIZE)
+				cache.clear();
+			Binding existing = cache.putIfAbsent(name, result);
+			if (existing != null)
+				result = existing;
+		}
+		return result;
+	}
+	
+	/** One feature name of the path with the binding resolved for the class it was last applied to. */
+	private static final class Step {
+		
+		final String name;
+		
+		/** Immutable, so it can be published without synchronization */
+		private Binding binding;
+		
+		Step(String name) {
+			this.name = name;
+		}
+		
+		Binding bind(Class<?> type) {
+			Binding result = binding;
+			if (result == null || result.type != type)
+				binding = result = lookupBinding(type, name);
+			return result;
+		}
+		
+		Object getFeature(Object target, boolean required) {
+			Binding binding = bind(target.getClass());
+			if (!binding.plainBean || binding.readMethod == null)
+				return FeatureAccessor.getValue(target, name, required);
+			try {
+				return binding.read(target);
+			} catch (Exception e) {
+				throw new ConfigurationError("Unable to read property '" + name + "'", e);
+			}
+		}
+		
+		Object getProperty(Object bean) {
+			Binding binding = bind(bean.getClass());
+			if (binding.readMethod == null)
+				return BeanUtil.getPropertyValue(bean, name);
+			try {
+				return binding.read(bean);
+			} catch (IllegalAccessException e) {
+				throw ExceptionMapper.configurationException(e, binding.readMethod);
+			} catch (InvocationTargetException e) {
+				throw ExceptionMapper.configurationException(e, binding.readMethod);
+			}
+		}
+		
+		void setFeature(Object target, Object value, boolean required, boolean autoConvert) {
+			Binding binding = bind(target.getClass());
+			if (binding.writeMethod == null) {
+				AnyMutator.setValue(target, name, value, required, autoConvert);
+				return;
+			}
+			if (value != null && !binding.boxedWriteType.isInstance(value)) {
+				if (!autoConvert)
+					throw new IllegalArgumentException("ArgumentType mismatch: expected " 
+							+ binding.writeType.getName() + ", found " + value.getClass().getName());
+				value = AnyConverter.convert(value, binding.writeType);
+			}
+			try {
+				binding.write(target, value);
+			} catch (IllegalAccessException e) {
+				throw ExceptionMapper.configurationException(e, binding.writeMethod);
+			} catch (InvocationTargetException e) {
+				throw ExceptionMapper.configurationException(e, binding.writeMethod);
+			}
+		}
+		
+	}
+	
+	/** The resolved accessors of a feature in a certain class. */
+	private static final class Binding {
+		
+		final Class<?> type;
+		
+		/** tells if {@link FeatureAccessor} would read the feature as JavaBean property */
+		final boolean plainBean;
+		
+		final Method readMethod;
+		final AccessorGenerator.Getter getter;
+		
+		final Method writeMethod;
+		final Class<?> writeType;
+		final Class<?> boxedWriteType;
+		final AccessorGenerator.Setter setter;
+		
+		Binding(Class<?> type, String name) {
+			this.type = type;
+			this.plainBean = !Map.class.isAssignableFrom(type) && !Context.class.isAssignableFrom(type) 
+					&& !Composite.class.isAssignableFrom(type) && BeanUtil.findMethod(type, "get", String.class) == null;
+			PropertyDescriptor descriptor = PropertyTable.of(type).get(name);
+			this.readMethod = (descriptor != null ? descriptor.getReadMethod() : null);
+			this.getter = (readMethod != null ? 
+					AccessorGenerator.createGetter(readMethod, PropertyAccessorFactory.getAccessorMode()) : null);
+			this.writeMethod = (descriptor != null ? descriptor.getWriteMethod() : null);
+			this.writeType = (writeMethod != null ? writeMethod.getParameterTypes()[0] : null);
+			this.boxedWriteType = (writeType != null ? AccessorGenerator.boxed(writeType) : null);
+			this.setter = (writeMethod != null ? 
+					AccessorGenerator.createSetter(writeMethod, PropertyMutatorFactory.getAccessorMode()) : null);
+		}
+		
+		Object read(Object target) throws IllegalAccessException, InvocationTargetException {
+			if (getter == null)
+				return readMethod.invoke(target, NO_ARGS);
+			try {
+				return getter.get(target);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+		
+		void write(Object target, Object value) throws IllegalAccessException, InvocationTargetException {
+			// the generated code only accepts exact wrapper instances, others are handled like Method.invoke() does
+			if (setter == null || (value == null ? writeType.isPrimitive() : !boxedWriteType.isInstance(value))) {
+				writeMethod.invoke(target, value);
+				return;
+			}
+			try {
+				setter.set(target, value);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+		
+	}
+	
+}
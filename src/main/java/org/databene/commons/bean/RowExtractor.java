@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.bean;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Date;
+import java.util.Iterator;
+
+import org.databene.commons.ConversionException;
+import org.databene.commons.ExceptionMapper;
+import org.databene.commons.PropertyTable;
+
+/**
+ * Extracts a fixed list of property values from JavaBeans of one class into caller-supplied arrays, 
+ * either row by row into Object[], long[] or double[] buffers or for a batch of beans into columns. 
+ * The property accessors are resolved once on construction, so extraction itself only allocates 
+ * for the boxing of primitive values into Object arrays. Numerical properties of primitive type 
+ * are read without boxing into long and double buffers if the {@link PropertyAccessorFactory}'s 
+ * {@link AccessorMode} is not {@link AccessorMode#REFLECTION}.
+ * Instances are immutable and thread-safe.
+ * Created: 17.10.2026 21:05:36
+ * @param <E> the bean type to access
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public final class RowExtractor<E> {
+	
+	private final Class<E> beanClass;
+	private final String[] propertyNames;
+	private final PropertyAccessor<E, ?>[] accessors;
+	private final AccessorGenerator.LongGetter[] longGetters;
+	private final AccessorGenerator.DoubleGetter[] doubleGetters;
+	private final Method[] readMethods;
+	
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public RowExtractor(Class<E> beanClass, String... propertyNames) {
+		if (beanClass == null)
+			throw new IllegalArgumentException("beanClass is null");
+		this.beanClass = beanClass;
+		this.propertyNames = propertyNames.clone();
+		int n = propertyNames.length;
+		this.accessors = new PropertyAccessor[n];
+		this.longGetters = new AccessorGenerator.LongGetter[n];
+		this.doubleGetters = new AccessorGenerator.DoubleGetter[n];
+		this.readMethods = new Method[n];
+		AccessorMode mode = PropertyAccessorFactory.getAccessorMode();
+		for (int i = 0; i < n; i++) {
+			String propertyName = propertyNames[i];
+			accessors[i] = PropertyAccessorFactory.getAccessor(beanClass, propertyName);
+			if (propertyName.indexOf('.') < 0) {
+				PropertyDescriptor descriptor = PropertyTable.of(beanClass).get(propertyName);
+				if (descriptor != null && descriptor.getReadMethod() != null) {
+					readMethods[i] = descriptor.getReadMethod();
+					longGetters[i] = AccessorGenerator.createLongGetter(descriptor.getReadMethod(), mode);
+					doubleGetters[i] = AccessorGenerator.createDoubleGetter(descriptor.getReadMethod(), mode);
+				}
+			}
+		}
+	}
+	
+	// properties ------------------------------------------------------------------------------------------------------
+	
+	public Class<E> getBeanClass() {
+		return beanClass;
+	}
+	
+	public String[] getPropertyNames() {
+		return propertyNames.clone();
+	}
+	
+	public int getColumnCount() {
+		return accessors.length;
+	}
+	
+	public Class<?> getColumnType(int column) {
+		return accessors[column].getValueType();
+	}
+	
+	// row-wise extraction ---------------------------------------------------------------------------------------------
+	
+	/**
+	 * Reads the property values of a bean into an array.
+	 * @param bean the bean to read
+	 * @param row the array to fill, at least as long as the number of columns
+	 * @return the row array
+	 */
+	public Object[] extract(E bean, Object[] row) {
+		checkBean(bean);
+		checkLength(row.length);
+		for (int i = 0; i < accessors.length; i++)
+			row[i] = accessors[i].getValue(bean);
+		return row;
+	}
+	
+	/**
+	 * Reads numerical property values of a bean into a long array. 
+	 * @param bean the bean to read
+	 * @param row the array to fill, at least as long as the number of columns
+	 * @return the row array
+	 * @throws ConversionException if a property value is null or not a number or date
+	 * @see #getLong(Object, int)
+	 */
+	public long[] extractLongs(E bean, long[] row) {
+		checkBean(bean);
+		checkLength(row.length);
+		for (int i = 0; i < accessors.length; i++)
+			row[i] = readLong(bean, i);
+		return row;
+	}
+	
+	/**
+	 * Reads numerical property values of a bean into a double array. 
+	 * @param bean the bean to read
+	 * @param row the array to fill, at least as long as the number of columns
+	 * @return the row array
+	 * @throws ConversionException if a property value is null or not a number
+	 * @see #getDouble(Object, int)
+	 */
+	public double[] extractDoubles(E bean, double[] row) {
+		checkBean(bean);
+		checkLength(row.length);
+		for (int i = 0; i < accessors.length; i++)
+			row[i] = readDouble(bean, i);
+		return row;
+	}
+	
+	/**
+	 * Reads a property value as long. Values of integral primitive type are read without boxing, 
+	 * other {@link Number}s are mapped with {@link Number#longValue()} and {@link Date}s to their milliseconds.
+	 * @param bean the bean to read
+	 * @param column the index of the property
+	 * @return the property value
+	 */
+	public long getLong(E bean, int column) {
+		checkBean(bean);
+		return readLong(bean, column);
+	}
+	
+	/**
+	 * Reads a property value as double. Values of numerical primitive type are read without boxing, 
+	 * other {@link Number}s are mapped with {@link Number#doubleValue()}.
+	 * @param bean the bean to read
+	 * @param column the index of the property
+	 * @return the property value
+	 */
+	public double getDouble(E bean, int column) {
+		checkBean(bean);
+		return readDouble(bean, column);
+	}
+	
+	// batch extraction ------------------------------------------------------------------------------------------------
+	
+	/**
+	 * Reads beans into a columnar buffer in which <code>columns[c][i]</code> 
+	 * receives the value of column c of the i-th bean. 
+	 * Extraction stops when the iterator is exhausted or the column arrays are full.
+	 * @param beans the beans to read
+	 * @param columns one array per column, all of the same length
+	 * @return the number of beans that were read
+	 */
+	public int extractColumns(Iterator<? extends E> beans, Object[][] columns) {
+		int capacity = checkColumns(columns);
+		int count = 0;
+		while (count < capacity && beans.hasNext()) {
+			E bean = beans.next();
+			checkBean(bean);
+			for (int i = 0; i < accessors.length; i++)
+				columns[i][count] = accessors[i].getValue(bean);
+			count++;
+		}
+		return count;
+	}
+	
+	/**
+	 * Reads beans into a columnar buffer of long values like {@link #extractColumns(Iterator, Object[][])}.
+	 * @param beans the beans to read
+	 * @param columns one array per column, all of the same length
+	 * @return the number of beans that were read
+	 */
+	public int extractLongColumns(Iterator<? extends E> beans, long[][] columns) {
+		int capacity = checkColumns(columns);
+		int count = 0;
+		while (count < capacity && beans.hasNext()) {
+			E bean = beans.next();
+			checkBean(bean);
+			for (int i = 0; i < accessors.length; i++)
+				columns[i][count] = readLong(bean, i);
+			count++;
+		}
+		return count;
+	}
+	
+	/**
+	 * Reads beans into a columnar buffer of double values like {@link #extractColumns(Iterator, Object[][])}.
+	 * @param beans the beans to read
+	 * @param columns one array per column, all of the same length
+	 * @return the number of beans that were read
+	 */
+	public int extractDoubleColumns(Iterator<? extends E> beans, double[][] columns) {
+		int capacity = checkColumns(columns);
+		int count = 0;
+		while (count < capacity && beans.hasNext()) {
+			E bean = beans.next();
+			checkBean(bean);
+			for (int i = 0; i < accessors.length; i++)
+				columns[i][count] = readDouble(bean, i);
+			count++;
+		}
+		return count;
+	}
+	
+	// java.lang.Object overrides --------------------------------------------------------------------------------------
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + '[' + beanClass.getName() + ": " + String.join(", ", propertyNames) + ']';
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private long readLong(E bean, int column) {
+		AccessorGenerator.LongGetter getter = longGetters[column];
+		if (getter != null && beanClass.isInstance(bean)) {
+			try {
+				return getter.get(bean);
+			} catch (Throwable t) {
+				throw mapGetterException(t, column);
+			}
+		}
+		Object value = accessors[column].getValue(bean);
+		if (value instanceof Number)
+			return ((Number) value).longValue();
+		else if (value instanceof Date)
+			return ((Date) value).getTime();
+		else if (value instanceof Character)
+			return ((Character) value).charValue();
+		else
+			throw new ConversionException("Cannot map value of property '" + propertyNames[column] + "' to long: " + value);
+	}
+	
+	private double readDouble(E bean, int column) {
+		AccessorGenerator.DoubleGetter getter = doubleGetters[column];
+		if (getter != null && beanClass.isInstance(bean)) {
+			try {
+				return getter.get(bean);
+			} catch (Throwable t) {
+				throw mapGetterException(t, column);
+			}
+		}
+		Object value = accessors[column].getValue(bean);
+		if (value instanceof Number)
+			return ((Number) value).doubleValue();
+		else if (value instanceof Character)
+			return ((Character) value).charValue();
+		else
+			throw new ConversionException("Cannot map value of property '" + propertyNames[column] + "' to double: " + value);
+	}
+	
+	/** maps an exception of a primitive getter like the reflective accessors do */
+	private RuntimeException mapGetterException(Throwable t, int column) {
+		if (t instanceof RuntimeException)
+			return (RuntimeException) t;
+		if (t instanceof Error)
+			throw (Error) t;
+		return ExceptionMapper.configurationException(new InvocationTargetException(t), readMethods[column]);
+	}
+	
+	private void checkBean(E bean) {
+		if (bean == null)
+			throw new IllegalArgumentException("Trying to extract properties from null");
+	}
+	
+	private void checkLength(int length) {
+		if (length < accessors.length)
+			throw new IllegalArgumentException("Row length " + length + " is less than the column count " + accessors.length);
+	}
+	
+	/** @return the number of beans that fit into the columns */
+	private int checkColumns(Object[] columns) {
+		checkLength(columns.length);
+		int capacity = (accessors.length > 0 ? Array.getLength(columns[0]) : 0);
+		for (int i = 1; i < accessors.length; i++)
+			if (Array.getLength(columns[i]) != capacity)
+				throw new IllegalArgumentException("Column " + i + " differs in length from column 0");
+		return capacity;
+	}
+	
+}
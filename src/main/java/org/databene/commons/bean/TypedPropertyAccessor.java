@@ -17,6 +17,7 @@ package org.databene.commons.bean;
 import org.databene.commons.BeanUtil;
 import org.databene.commons.ConfigurationError;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.beans.PropertyDescriptor;
 
@@ -30,9 +31,14 @@ class TypedPropertyAccessor<E> implements PropertyAccessor<E, Object> {
 
     private String propertyName;
     private Method accessorMethod;
+    private AccessorGenerator.Getter getter;
     private boolean strict;
 
     public TypedPropertyAccessor(Class<E> beanClass, String propertyName, boolean strict) {
+        this(beanClass, propertyName, strict, PropertyAccessorFactory.getAccessorMode());
+    }
+
+    public TypedPropertyAccessor(Class<E> beanClass, String propertyName, boolean strict, AccessorMode mode) {
         this.propertyName = propertyName;
         this.strict = strict;
         try {
@@ -45,6 +51,7 @@ class TypedPropertyAccessor<E> implements PropertyAccessor<E, Object> {
                 if (accessorMethod == null)
                     throw new ConfigurationError("No read method for property '" + propertyName + "'" +
                             " found on " + beanClass);
+                this.getter = AccessorGenerator.createGetter(accessorMethod, mode);
             }
         } catch (SecurityException e) {
             throw new RuntimeException(e);
@@ -58,6 +65,14 @@ class TypedPropertyAccessor<E> implements PropertyAccessor<E, Object> {
                 throw new IllegalArgumentException("Trying to get property value '" + propertyName + "' from null");
             else
                 return null;
+        // the generated code casts the bean, so other types take the reflective path which reports the mismatch
+        if (getter != null && accessorMethod.getDeclaringClass().isInstance(object)) {
+            try {
+                return getter.get(object);
+            } catch (Throwable t) {
+                throw new RuntimeException(new InvocationTargetException(t));
+            }
+        }
         try {
             return (accessorMethod != null ? accessorMethod.invoke(object) : null);
         } catch (Exception e) {
@@ -17,9 +17,11 @@ package org.databene.commons.bean;
 import org.databene.commons.BeanUtil;
 import org.databene.commons.ConfigurationError;
 import org.databene.commons.ConversionException;
+import org.databene.commons.ExceptionMapper;
 import org.databene.commons.UpdateFailedException;
 import org.databene.commons.converter.AnyConverter;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.beans.PropertyDescriptor;
 
@@ -33,8 +35,16 @@ public class TypedPropertyMutator extends AbstractNamedMutator {
     private boolean required;
     private boolean autoConvert;
     private Method writeMethod;
+    private AccessorGenerator.Setter setter;
+    private Class<?> valueType;
+    private Class<?> boxedValueType;
 
     public TypedPropertyMutator(Class<?> beanClass, String propertyName, boolean required, boolean autoConvert) {
+        this(beanClass, propertyName, required, autoConvert, PropertyMutatorFactory.getAccessorMode());
+    }
+
+    public TypedPropertyMutator(Class<?> beanClass, String propertyName, boolean required, boolean autoConvert, 
+    		AccessorMode mode) {
         super(propertyName);
         this.required = required;
         this.autoConvert = autoConvert;
@@ -48,6 +58,9 @@ public class TypedPropertyMutator extends AbstractNamedMutator {
             writeMethod = propertyDescriptor.getWriteMethod();
             if (writeMethod == null)
                 throw new ConfigurationError("No write method found for property '" + propertyName + "' in class " + beanClass.getName());
+            setter = AccessorGenerator.createSetter(writeMethod, mode);
+            valueType = writeMethod.getParameterTypes()[0];
+            boxedValueType = AccessorGenerator.boxed(valueType);
         }
     }
 
@@ -70,7 +83,17 @@ public class TypedPropertyMutator extends AbstractNamedMutator {
                 throw new ConfigurationError(e);
             }
         }
-        BeanUtil.invoke(bean, writeMethod, new Object[] { value });
+        // the generated code only accepts exact wrapper instances and beans of the declaring class, 
+        // so values which need a widening conversion or are rejected by Method.invoke() take the reflective path
+        if (setter != null && writeMethod.getDeclaringClass().isInstance(bean) 
+        		&& (value == null ? !valueType.isPrimitive() : boxedValueType.isInstance(value))) {
+            try {
+                setter.set(bean, value);
+            } catch (Throwable t) {
+                throw ExceptionMapper.configurationException(new InvocationTargetException(t), writeMethod);
+            }
+        } else
+            BeanUtil.invoke(bean, writeMethod, new Object[] { value });
     }
     
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.collection;
+
+/**
+ * Thread-safe map from primitive <code>long</code> keys to <code>long</code> values, which uses 
+ * open addressing in a number of independently locked stripes. It needs about 32 bytes per entry 
+ * and no object per entry, which makes it suitable for hundreds of millions of entries, e.g. fingerprints.
+ * Created: 18.10.2026 11:04:19
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class StripedLongMap {
+	
+	private static final int DEFAULT_STRIPES = 64;
+	/** marks unused slots, the key 0 itself is tracked by each stripe's zero entry */
+	private static final long EMPTY = 0;
+	
+	private final Stripe[] stripes;
+	private final int stripeMask;
+
+	public StripedLongMap() {
+		this(DEFAULT_STRIPES);
+	}
+
+	/**
+	 * @param stripeCount the number of independently locked stripes, rounded up to a power of two
+	 */
+	public StripedLongMap(int stripeCount) {
+		int count = 1;
+		while (count < stripeCount)
+			count <<= 1;
+		this.stripes = new Stripe[count];
+		for (int i = 0; i < count; i++)
+			stripes[i] = new Stripe();
+		this.stripeMask = count - 1;
+	}
+
+	/**
+	 * Adds an entry if the key is not contained yet. Existing entries are never changed.
+	 * @param key the key of the entry
+	 * @param value the value of the entry
+	 * @return true if the entry was added, false if the key was contained before
+	 */
+	public boolean putIfAbsent(long key, long value) {
+		long hash = mix(key);
+		return stripes[(int) hash & stripeMask].putIfAbsent(key, value, (int) (hash >>> 32));
+	}
+
+	/**
+	 * @param key the key to look up
+	 * @param defaultValue the value to return if the key is not contained
+	 * @return the value of the key or the default value
+	 */
+	public long get(long key, long defaultValue) {
+		long hash = mix(key);
+		return stripes[(int) hash & stripeMask].get(key, defaultValue, (int) (hash >>> 32));
+	}
+
+	/**
+	 * Adds a delta to the value of a key, an absent key is treated as having the value 0.
+	 * @param key the key of the entry to change
+	 * @param delta the value to add
+	 * @return the value before the change
+	 */
+	public long getAndAdd(long key, long delta) {
+		long hash = mix(key);
+		return stripes[(int) hash & stripeMask].getAndAdd(key, delta, (int) (hash >>> 32));
+	}
+
+	public long size() {
+		long size = 0;
+		for (Stripe stripe : stripes)
+			size += stripe.size();
+		return size;
+	}
+
+	public void clear() {
+		for (Stripe stripe : stripes)
+			stripe.clear();
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private static long mix(long key) {
+		// finalizer of MurmurHash3, spreads the bits over stripe and slot index
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		key *= 0xc4ceb9fe1a85ec53L;
+		key ^= key >>> 33;
+		return key;
+	}
+	
+	private static final class Stripe {
+
+		private static final int INITIAL_CAPACITY = 16;
+		
+		private long[] keys = new long[INITIAL_CAPACITY];
+		private long[] values = new long[INITIAL_CAPACITY];
+		private int size = 0;
+		private boolean containsZero = false;
+		private long zeroValue;
+
+		synchronized boolean putIfAbsent(long key, long value, int hash) {
+			if (key == EMPTY) {
+				if (containsZero)
+					return false;
+				containsZero = true;
+				zeroValue = value;
+				return true;
+			}
+			int index = indexOf(key, hash);
+			if (keys[index] == key)
+				return false;
+			insertAt(index, key, value);
+			return true;
+		}
+
+		synchronized long get(long key, long defaultValue, int hash) {
+			if (key == EMPTY)
+				return (containsZero ? zeroValue : defaultValue);
+			int index = indexOf(key, hash);
+			return (keys[index] == key ? values[index] : defaultValue);
+		}
+
+		synchronized long getAndAdd(long key, long delta, int hash) {
+			if (key == EMPTY) {
+				long result = (containsZero ? zeroValue : 0);
+				containsZero = true;
+				zeroValue = result + delta;
+				return result;
+			}
+			int index = indexOf(key, hash);
+			if (keys[index] != key) {
+				insertAt(index, key, delta);
+				return 0;
+			}
+			long result = values[index];
+			values[index] = result + delta;
+			return result;
+		}
+
+		synchronized long size() {
+			return size + (containsZero ? 1 : 0);
+		}
+
+		synchronized void clear() {
+			keys = new long[INITIAL_CAPACITY];
+			values = new long[INITIAL_CAPACITY];
+			size = 0;
+			containsZero = false;
+		}
+
+		/** @return the index of the key's slot or of the empty slot where it would be inserted */
+		private int indexOf(long key, int hash) {
+			int mask = keys.length - 1;
+			for (int i = hash & mask; ; i = (i + 1) & mask) {
+				long slot = keys[i];
+				if (slot == key || slot == EMPTY)
+					return i;
+			}
+		}
+
+		private void insertAt(int index, long key, long value) {
+			if (size >= keys.length / 2) {
+				grow();
+				index = indexOf(key, (int) (mix(key) >>> 32));
+			}
+			keys[index] = key;
+			values[index] = value;
+			size++;
+		}
+
+		private void grow() {
+			long[] oldKeys = keys;
+			long[] oldValues = values;
+			keys = new long[oldKeys.length * 2];
+			values = new long[oldKeys.length * 2];
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != EMPTY) {
+					int index = indexOf(oldKeys[i], (int) (mix(oldKeys[i]) >>> 32));
+					keys[index] = oldKeys[i];
+					values[index] = oldValues[i];
+				}
+			}
+		}
+	}
+
+}
@@ -22,6 +22,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Converts any source type to any target type. It also makes use of the ConverterManager.
+ * An instance remembers the converter it used for the most recent source type if that converter is thread-safe, 
+ * so that consecutive conversions of the same type do not need a ConverterManager lookup.
  * Created: 16.06.2007 11:34:42
  * @param <E> the type to by checked by this validator
  * @author Volker Bergmann
@@ -32,6 +34,9 @@ public class AnyConverter<E> extends FormatHolder implements Converter<Object, E
 
     private Class<E> targetType;
     
+    /** The converter for the most recent source type, or null */
+    private volatile ResolvedConverter resolved;
+    
     public AnyConverter(Class<E> targetType) {
         this(targetType, Patterns.DEFAULT_DATE_PATTERN);
     }
@@ -52,8 +57,23 @@ public class AnyConverter<E> extends FormatHolder implements Converter<Object, E
     }
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public E convert(Object sourceValue) throws ConversionException {
-        return convert(sourceValue, targetType, datePattern, timePattern, timestampPattern);
+		if (sourceValue == null || logger.isDebugEnabled())
+			return convert(sourceValue, targetType, datePattern, timePattern, timestampPattern);
+		Class<?> sourceType = sourceValue.getClass();
+		if (targetType.equals(sourceType))
+			return (E) sourceValue;
+		ConverterManager manager = ConverterManager.getInstance();
+		int version = manager.getConfigurationVersion();
+		ResolvedConverter current = this.resolved;
+		if (current == null || current.sourceType != sourceType || current.version != version) {
+			Converter<Object, E> converter = (Converter<Object, E>) manager.createConverter(sourceType, targetType);
+			if (!converter.isThreadSafe())
+				return converter.convert(sourceValue);
+			this.resolved = current = new ResolvedConverter(sourceType, converter, version);
+		}
+		return (E) current.converter.convert(sourceValue);
     }
 
 	@Override
@@ -97,4 +117,17 @@ public class AnyConverter<E> extends FormatHolder implements Converter<Object, E
         return getClass().getSimpleName() + '(' + targetType.getSimpleName() + ')';
     }
     
+    private static final class ResolvedConverter {
+    	
+    	final Class<?> sourceType;
+    	final Converter<Object, ?> converter;
+    	final int version;
+    	
+		ResolvedConverter(Class<?> sourceType, Converter<Object, ?> converter, int version) {
+			this.sourceType = sourceType;
+			this.converter = converter;
+			this.version = version;
+		}
+    }
+    
 }
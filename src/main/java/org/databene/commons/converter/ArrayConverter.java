@@ -61,16 +61,29 @@ public class ArrayConverter<S, T> extends MultiConverterWrapper<S, T> implements
 	 */
     @Override
 	public T[] convert(S[] sourceValues) throws ConversionException {
+        return convert(sourceValues, null);
+    }
+
+	/** 
+	 * Converts an array like {@link #convert(Object[])}, but writes the results to a caller-supplied array 
+	 * if it is large enough, which avoids the allocation of a new array for each call.
+	 * @param sourceValues the values to convert
+	 * @param targetValues the array to write the converted values to, or null
+	 * @return the targetValues array if it is large enough, otherwise a new array
+	 * @throws ConversionException if conversion fails
+	 */
+	public T[] convert(S[] sourceValues, T[] targetValues) throws ConversionException {
         if (sourceValues == null)
             return null;
+        T[] result = (targetValues != null && targetValues.length >= sourceValues.length ? 
+        		targetValues : ArrayUtil.newInstance(targetComponentType, sourceValues.length));
         if (components.length == 0)
-        	return convertWith(null, targetComponentType, sourceValues);
+        	return convertWith(null, targetComponentType, sourceValues, result);
         else if (components.length == 1)
-        	return convertWith(components[0], targetComponentType, sourceValues);
+        	return convertWith(components[0], targetComponentType, sourceValues, result);
         else {
         	if (sourceValues.length != components.length)
         		throw new IllegalArgumentException("Array has a different size than the converter list");
-            T[] result = ArrayUtil.newInstance(targetComponentType, components.length);
             for (int i = 0; i < components.length; i++)
 	            result[i] = components[i].convert(sourceValues[i]);
             return result;
@@ -86,7 +99,15 @@ public class ArrayConverter<S, T> extends MultiConverterWrapper<S, T> implements
 	 * @param <T> the object type to convert to
      * @throws ConversionException if conversion fails */
     public static <S, T> T[] convertWith(Converter<S, T> converter, Class<T> componentType, S[] sourceValues) throws ConversionException {
-        T[] result = ArrayUtil.newInstance(componentType, sourceValues.length);
+        return convertWith(converter, componentType, sourceValues, ArrayUtil.newInstance(componentType, sourceValues.length));
+    }
+
+    private static <S, T> T[] convertWith(Converter<S, T> converter, Class<T> componentType, S[] sourceValues, T[] result) {
+        if (converter != null && componentType.isAssignableFrom(converter.getTargetType())) {
+        	// the converter's output fits the array, so it can process the whole array at once
+        	converter.convertAll(sourceValues, 0, sourceValues.length, result);
+        	return result;
+        }
         for (int i = 0; i < sourceValues.length; i++) {
         	Object tmp = (converter != null ? converter.convert(sourceValues[i]) : sourceValues[i]);
             result[i] = AnyConverter.convert(tmp, componentType);
@@ -14,15 +14,34 @@
  */
 package org.databene.commons.converter;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.databene.commons.Converter;
 
 /**
  * Converts arrays from one component type to arrays of another component type.
+ * The static convert() methods reuse one converter instance per component and element type signature. 
+ * The instances are attached to the first class of the signature which is not a bootstrap class, 
+ * so they do not keep application class loaders alive.
  * Created: 07.06.2007 14:35:18
  * @param <T> the object type to convert to
  * @author Volker Bergmann
  */
 public class ArrayTypeConverter<T> extends ArrayConverter<Object, T> {
+	
+	private static final int MAX_CACHE_SIZE = 1000;
+	
+	/** Shared converters by anchor class, component type and element types */
+	private static final ClassValue<ConcurrentMap<List<Class<?>>, ArrayTypeConverter<?>>> INSTANCES = 
+			new ClassValue<ConcurrentMap<List<Class<?>>, ArrayTypeConverter<?>>>() {
+		@Override
+		protected ConcurrentMap<List<Class<?>>, ArrayTypeConverter<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<List<Class<?>>, ArrayTypeConverter<?>>();
+		}
+	};
 
 	@SafeVarargs
     public ArrayTypeConverter(Class<T> targetArrayComponentType, Class<? extends T> ... elementTypes) {
@@ -38,12 +57,63 @@ public class ArrayTypeConverter<T> extends ArrayConverter<Object, T> {
     }
     
     public static Object[] convert(Object[] args, Class<?>[] elementTypes) {
-        return new ArrayTypeConverter<Object>(Object.class, elementTypes).convert(args);
+        return convert(args, elementTypes, null);
+    }
+
+    /**
+     * Converts each array element to the type of the same index and writes the results 
+     * to the target array if it is large enough.
+     * @param args the values to convert
+     * @param elementTypes the types to convert the values to
+     * @param target the array to write the results to, or null
+     * @return the target array if it is large enough, otherwise a new array
+     */
+    public static Object[] convert(Object[] args, Class<?>[] elementTypes, Object[] target) {
+        return getInstance(Object.class, elementTypes).convert(args, target);
     }
 
 	public static <T> T[] convert(Object[] args, Class<T> componentType) {
-        return new ArrayTypeConverter<T>(componentType).convert(args);
+        return convert(args, componentType, null);
+    }
+
+    /**
+     * Converts all array elements to the component type and writes the results 
+     * to the target array if it is large enough.
+     * @param args the values to convert
+     * @param componentType the type to convert the values to
+     * @param target the array to write the results to, or null
+     * @param <T> the component type of the result
+     * @return the target array if it is large enough, otherwise a new array
+     */
+	public static <T> T[] convert(Object[] args, Class<T> componentType, T[] target) {
+        return getInstance(componentType, componentType).convert(args, target);
     }
+	
+	@SuppressWarnings("unchecked")
+	private static <T> ArrayTypeConverter<T> getInstance(Class<T> componentType, Class<?> ... elementTypes) {
+		Class<?>[] signature = new Class<?>[elementTypes.length + 1];
+		signature[0] = componentType;
+		System.arraycopy(elementTypes, 0, signature, 1, elementTypes.length);
+		List<Class<?>> key = Arrays.asList(signature);
+		ConcurrentMap<List<Class<?>>, ArrayTypeConverter<?>> instances = INSTANCES.get(anchor(signature));
+		ArrayTypeConverter<T> result = (ArrayTypeConverter<T>) instances.get(key);
+		if (result == null) {
+			result = new ArrayTypeConverter<T>(componentType, (Class<? extends T>[]) elementTypes);
+			if (instances.size() >= MAX_CACHE_SIZE)
+				instances.clear();
+			instances.put(key, result);
+		}
+		return result;
+	}
+	
+	/** @return the first class of the signature which is not loaded by the bootstrap class loader, 
+	 * 		or its first class if there is none */
+	private static Class<?> anchor(Class<?>[] signature) {
+		for (Class<?> type : signature)
+			if (type != null && type.getClassLoader() != null)
+				return type;
+		return signature[0];
+	}
     
     @Override
     public String toString() {
@@ -14,6 +14,8 @@
  */
 package org.databene.commons.converter;
 
+import java.nio.ByteBuffer;
+
 import org.databene.commons.Base64Codec;
 import org.databene.commons.ConversionException;
 
@@ -34,4 +36,16 @@ public class Base64ToByteArrayConverter extends ThreadSafeConverter<String, byte
         return Base64Codec.decode(target);
     }
 
+    /**
+     * Decodes Base64 code into a {@link ByteBuffer}, e.g. a slice of a memory-mapped file, 
+     * without creating an intermediate array.
+     * @param code the code to decode
+     * @param target the buffer to receive the decoded bytes
+     * @return the number of bytes written
+     * @see Base64Codec#decodedLength(CharSequence)
+     */
+    public int convert(CharSequence code, ByteBuffer target) throws ConversionException {
+        return Base64Codec.decode(code, target);
+    }
+
 }
@@ -33,4 +33,16 @@ public class ByteArrayToBase64Converter extends ThreadSafeConverter<byte[], Stri
         return Base64Codec.encode(sourceValue);
     }
 
+    /**
+     * Appends the Base64 code of a byte array to an {@link Appendable}, e.g. a Writer, in chunks, 
+     * without creating the complete code as String.
+     * @param sourceValue the bytes to encode
+     * @param toAppendTo the target to which to append the code
+     * @param <E> the type of the target
+     * @return the target
+     */
+    public <E extends Appendable> E convert(byte[] sourceValue, E toAppendTo) throws ConversionException {
+        return Base64Codec.encode(sourceValue, toAppendTo);
+    }
+
 }
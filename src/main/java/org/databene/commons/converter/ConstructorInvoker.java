@@ -14,15 +14,22 @@
  */
 package org.databene.commons.converter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 
 import org.databene.commons.BeanUtil;
 import org.databene.commons.ConversionException;
 import org.databene.commons.Converter;
+import org.databene.commons.ExceptionMapper;
 
 /**
  * {@link Converter} implementation which invokes a constructor of the target class 
- * with the source object as argument.
+ * with the source object as argument. The constructor is resolved to a {@link MethodHandle} once 
+ * on creation, inaccessible constructors and arguments which do not match the parameter type exactly 
+ * are handled by reflection.
  * Created: 27.02.2010 06:57:40
  * @param <S> the object type to convert from
  * @param <T> the object type to convert to
@@ -32,15 +39,34 @@ import org.databene.commons.Converter;
 public class ConstructorInvoker<S, T> extends ThreadSafeConverter<S, T> {
 	
 	Constructor<T> constructor;
+	private MethodHandle handle;
+	private Class<?> argType;
 	
 	public ConstructorInvoker(Class<S> sourceType, Constructor<T> constructor) {
 	    super(sourceType, constructor.getDeclaringClass());
 	    this.constructor = constructor;
+	    Class<?> paramType = constructor.getParameterTypes()[0];
+	    this.argType = (paramType.isPrimitive() ? BeanUtil.getWrapper(paramType.getName()) : paramType);
+	    try {
+	    	this.handle = MethodHandles.publicLookup().unreflectConstructor(constructor)
+	    			.asType(MethodType.methodType(Object.class, Object.class));
+	    } catch (IllegalAccessException e) {
+	    	this.handle = null;
+	    }
     }
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public T convert(S sourceValue) throws ConversionException {
-		return BeanUtil.newInstance(constructor, sourceValue);
+		if (handle == null || !argType.isInstance(sourceValue))
+			return BeanUtil.newInstance(constructor, sourceValue);
+		try {
+			return (T) handle.invokeExact((Object) sourceValue);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw ExceptionMapper.configurationException(new InvocationTargetException(t), constructor);
+		}
 	}
 
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Live counters of the {@link ConverterMetrics} for one pair of {@link ConversionTypes}. 
+ * They are based on {@link LongAdder}s, so concurrent updates do not contend for a single memory location.
+ * Created: 18.10.2026 10:05:31
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+class ConversionCounters {
+	
+	private static final LongBinaryOperator MAX = new LongBinaryOperator() {
+		@Override
+		public long applyAsLong(long left, long right) {
+			return Math.max(left, right);
+		}
+	};
+	
+	final ConversionTypes types;
+	final LongAdder invocations = new LongAdder();
+	final LongAdder failures = new LongAdder();
+	final LongAdder totalNanos = new LongAdder();
+	final LongAccumulator maxNanos = new LongAccumulator(MAX, 0);
+	final LongAdder clones = new LongAdder();
+	
+	ConversionCounters(ConversionTypes types) {
+		this.types = types;
+	}
+	
+	void recordInvocations(int count, long nanos, boolean failed) {
+		invocations.add(count);
+		totalNanos.add(nanos);
+		maxNanos.accumulate(count > 1 ? nanos / count : nanos);
+		if (failed)
+			failures.increment();
+	}
+	
+	ConversionStats snapshot() {
+		return new ConversionStats(types.sourceType, types.targetType, invocations.sum(), failures.sum(), 
+				totalNanos.sum(), maxNanos.get(), clones.sum());
+	}
+	
+	void reset() {
+		invocations.reset();
+		failures.reset();
+		totalNanos.reset();
+		maxNanos.reset();
+		clones.reset();
+	}
+	
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+/**
+ * Immutable snapshot of the {@link ConverterMetrics} of one source/target type pair.
+ * Created: 18.10.2026 10:12:47
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ConversionStats {
+	
+	private final Class<?> sourceType;
+	private final Class<?> targetType;
+	private final long invocations;
+	private final long failures;
+	private final long totalNanos;
+	private final long maxNanos;
+	private final long clones;
+	
+	public ConversionStats(Class<?> sourceType, Class<?> targetType, 
+			long invocations, long failures, long totalNanos, long maxNanos, long clones) {
+		this.sourceType = sourceType;
+		this.targetType = targetType;
+		this.invocations = invocations;
+		this.failures = failures;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+		this.clones = clones;
+	}
+
+	public Class<?> getSourceType() {
+		return sourceType;
+	}
+
+	public Class<?> getTargetType() {
+		return targetType;
+	}
+
+	public long getInvocations() {
+		return invocations;
+	}
+
+	/** @return the number of calls that failed with an exception */
+	public long getFailures() {
+		return failures;
+	}
+
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/** @return the longest time of a single conversion; for batch conversions the average time per element is used */
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+	
+	public double getAverageNanos() {
+		return (invocations > 0 ? (double) totalNanos / invocations : 0.);
+	}
+
+	/** @return the number of converter clones created for this type pair */
+	public long getClones() {
+		return clones;
+	}
+	
+	@Override
+	public String toString() {
+		return name(sourceType) + "->" + name(targetType) + ": invocations=" + invocations + ", failures=" + failures + 
+			", totalNanos=" + totalNanos + ", maxNanos=" + maxNanos + ", clones=" + clones;
+	}
+	
+	private static String name(Class<?> type) {
+		return (type != null ? type.getName() : "?");
+	}
+	
+}
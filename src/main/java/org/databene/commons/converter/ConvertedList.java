@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.databene.commons.Converter;
+
+/**
+ * Read-only {@link List} view which converts the elements of a source list on access, 
+ * so that callers only pay for the elements they actually use. With memoisation, each element 
+ * is converted at most once; this requires that the source list is not modified while the view is in use. 
+ * Sub lists share the memoised values of their parent view. The view is not thread-safe, 
+ * but its {@link Spliterator} splits for parallel processing if the converter is thread-safe.
+ * Views created by {@link #of(List, Converter, boolean)} implement {@link RandomAccess} 
+ * if the source list does.
+ * Created: 18.10.2026 13:21:44
+ * @param <S> the element type of the source list
+ * @param <T> the element type of the view
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ConvertedList<S, T> extends AbstractList<T> {
+	
+	/** Marker for elements which have not been converted yet */
+	private static final Object NONE = new Object();
+	
+	private final List<S> source;
+	private final Converter<S, T> converter;
+	private final Memo memo;
+	private final int offset;
+
+	public ConvertedList(List<S> source, Converter<S, T> converter) {
+		this(source, converter, false);
+	}
+
+	public ConvertedList(List<S> source, Converter<S, T> converter, boolean memoize) {
+		this(source, converter, (memoize ? new Memo(source.size()) : null), 0);
+	}
+
+	/**
+	 * Creates a view which implements {@link RandomAccess} if the source list does.
+	 * @param source the list to convert
+	 * @param converter the converter to apply
+	 * @param memoize if true, each element is converted only once
+	 * @param <S> the element type of the source list
+	 * @param <T> the element type of the view
+	 * @return a view of the converted list
+	 */
+	public static <S, T> ConvertedList<S, T> of(List<S> source, Converter<S, T> converter, boolean memoize) {
+		return create(source, converter, (memoize ? new Memo(source.size()) : null), 0);
+	}
+
+	private ConvertedList(List<S> source, Converter<S, T> converter, Memo memo, int offset) {
+		this.source = source;
+		this.converter = converter;
+		this.memo = memo;
+		this.offset = offset;
+	}
+	
+	public boolean isMemoizing() {
+		return (memo != null);
+	}
+
+	// List interface implementation -----------------------------------------------------------------------------------
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		if (memo == null)
+			return converter.convert(source.get(index));
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		Object[] values = memo.values();
+		Object value = values[offset + index];
+		if (value == NONE)
+			values[offset + index] = value = converter.convert(source.get(index));
+		return (T) value;
+	}
+
+	@Override
+	public int size() {
+		return source.size();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		if (memo != null || source instanceof RandomAccess)
+			return super.iterator();
+		final Iterator<S> sourceIterator = source.iterator();
+		return new Iterator<T>() {
+			@Override
+			public boolean hasNext() {
+				return sourceIterator.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return converter.convert(sourceIterator.next());
+			}
+		};
+	}
+
+	@Override
+	public List<T> subList(int fromIndex, int toIndex) {
+		return create(source.subList(fromIndex, toIndex), converter, memo, offset + fromIndex);
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		if (source instanceof RandomAccess || memo != null)
+			return new IndexSpliterator(0, size());
+		return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+	}
+
+	// java.lang.Object overrides --------------------------------------------------------------------------------------
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + '[' + source + " -> " + converter + ']';
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private static <S, T> ConvertedList<S, T> create(List<S> source, Converter<S, T> converter, Memo memo, int offset) {
+		if (source instanceof RandomAccess)
+			return new RandomAccessConvertedList<S, T>(source, converter, memo, offset);
+		else
+			return new ConvertedList<S, T>(source, converter, memo, offset);
+	}
+	
+	// helper classes --------------------------------------------------------------------------------------------------
+	
+	/** Lazily allocated storage of converted values, shared by a view and its sub lists */
+	private static final class Memo {
+		
+		private final int size;
+		private Object[] values;
+		
+		Memo(int size) {
+			this.size = size;
+		}
+		
+		Object[] values() {
+			if (values == null) {
+				Object[] newValues = new Object[size];
+				for (int i = 0; i < size; i++)
+					newValues[i] = NONE;
+				values = newValues;
+			}
+			return values;
+		}
+	}
+	
+	private static final class RandomAccessConvertedList<S, T> extends ConvertedList<S, T> implements RandomAccess {
+		
+		RandomAccessConvertedList(List<S> source, Converter<S, T> converter, Memo memo, int offset) {
+			super(source, converter, memo, offset);
+		}
+	}
+	
+	private final class IndexSpliterator implements Spliterator<T> {
+		
+		private int index;
+		private final int end;
+		
+		IndexSpliterator(int index, int end) {
+			this.index = index;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (index >= end)
+				return false;
+			action.accept(get(index++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			while (index < end)
+				action.accept(get(index++));
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int mid = (index + end) >>> 1;
+			if (mid <= index || !converter.isThreadSafe())
+				return null;
+			if (memo != null)
+				memo.values(); // allocate before the parts may run concurrently
+			IndexSpliterator prefix = new IndexSpliterator(index, mid);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return end - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+	}
+
+}
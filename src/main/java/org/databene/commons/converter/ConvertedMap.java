@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.databene.commons.Converter;
+import org.databene.commons.collection.MapEntry;
+
+/**
+ * Read-only {@link Map} view which converts the values of a source map on access, 
+ * so that callers only pay for the values they actually use. With memoisation, each value 
+ * is converted at most once; this requires that the source map is not modified while the view is in use. 
+ * The view is not thread-safe.
+ * Created: 18.10.2026 13:48:09
+ * @param <K> the key type
+ * @param <S> the value type of the source map
+ * @param <T> the value type of the view
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ConvertedMap<K, S, T> extends AbstractMap<K, T> {
+	
+	private final Map<K, S> source;
+	private final Converter<S, T> converter;
+	private Map<Object, T> memo;
+	private Set<Map.Entry<K, T>> entrySet;
+
+	public ConvertedMap(Map<K, S> source, Converter<S, T> converter) {
+		this(source, converter, false);
+	}
+
+	public ConvertedMap(Map<K, S> source, Converter<S, T> converter, boolean memoize) {
+		this.source = source;
+		this.converter = converter;
+		this.memo = (memoize ? new HashMap<Object, T>() : null);
+		this.entrySet = null;
+	}
+	
+	public boolean isMemoizing() {
+		return (memo != null);
+	}
+	
+	// Map interface implementation ------------------------------------------------------------------------------------
+
+	@Override
+	public T get(Object key) {
+		S sourceValue = source.get(key);
+		if (sourceValue == null && !source.containsKey(key))
+			return null;
+		return convertValue(key, sourceValue);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return source.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return source.size();
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return Collections.unmodifiableSet(source.keySet());
+	}
+
+	@Override
+	public Set<Map.Entry<K, T>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new AbstractSet<Map.Entry<K, T>>() {
+				@Override
+				public Iterator<Map.Entry<K, T>> iterator() {
+					final Iterator<Map.Entry<K, S>> sourceIterator = source.entrySet().iterator();
+					return new Iterator<Map.Entry<K, T>>() {
+						@Override
+						public boolean hasNext() {
+							return sourceIterator.hasNext();
+						}
+
+						@Override
+						public Map.Entry<K, T> next() {
+							Map.Entry<K, S> sourceEntry = sourceIterator.next();
+							return new MapEntry<K, T>(sourceEntry.getKey(), convertValue(sourceEntry.getKey(), sourceEntry.getValue()));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return source.size();
+				}
+			};
+		}
+		return entrySet;
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private T convertValue(Object key, S sourceValue) {
+		if (memo == null)
+			return converter.convert(sourceValue);
+		T result = memo.get(key);
+		if (result == null && !memo.containsKey(key)) {
+			result = converter.convert(sourceValue);
+			memo.put(key, result);
+		}
+		return result;
+	}
+	
+}
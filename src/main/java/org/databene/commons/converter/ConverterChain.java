@@ -54,4 +54,38 @@ public class ConverterChain<S, T> extends MultiConverterWrapper implements Conve
         return (T) tmp;
     }
 
+	/**
+	 * Converts the values batch-wise by having each component convert the full range 
+	 * before the next one takes over. Intermediate results are stored in untyped buffers sized to the range. 
+	 * A step falls back to element-wise conversion if its input is not aligned with its output.
+	 */
+	@Override
+	public void convertAll(Object[] sourceValues, int fromIndex, int toIndex, Object[] targetValues) throws ConversionException {
+		if (components.length == 0) {
+			System.arraycopy(sourceValues, fromIndex, targetValues, fromIndex, toIndex - fromIndex);
+			return;
+		}
+		int length = toIndex - fromIndex;
+		Object[] tmp = sourceValues;
+		int offset = fromIndex;
+		for (int k = 0; k < components.length - 1; k++) {
+			Object[] buffer = new Object[length];
+			convertRange(components[k], tmp, offset, buffer, 0, length);
+			tmp = buffer;
+			offset = 0;
+		}
+		convertRange(components[components.length - 1], tmp, offset, targetValues, fromIndex, length);
+	}
+
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private static void convertRange(Converter converter, Object[] source, int sourceOffset, 
+			Object[] target, int targetOffset, int length) {
+		if (sourceOffset == targetOffset)
+			converter.convertAll(source, sourceOffset, sourceOffset + length, target);
+		else
+			for (int i = 0; i < length; i++)
+				target[targetOffset + i] = converter.convert(source[sourceOffset + i]);
+	}
+
 }
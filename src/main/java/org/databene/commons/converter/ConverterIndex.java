@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+import org.databene.commons.BeanUtil;
+import org.databene.commons.ConfigurationError;
+import org.databene.commons.Converter;
+import org.databene.commons.IOUtil;
+import org.databene.commons.OrderedMap;
+
+/**
+ * Precomputed index of converter classes by source and target type name, which allows the 
+ * {@link ConverterManager} to load and instantiate a configured converter class only when its type pair 
+ * is requested for the first time. The index is generated at build time from a converter config file 
+ * like 'converters.txt' by calling {@link #main(String[])}, and written as a text file with one 
+ * tab-separated line per converter: <code>sourceType targetType converterClass</code>.
+ * Created: 18.10.2026 08:14:52
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ConverterIndex {
+	
+	public static final String DEFAULT_CONFIG_FILENAME = "org/databene/commons/converter/converters.txt";
+	public static final String DEFAULT_INDEX_FILENAME = "org/databene/commons/converter/converters.idx";
+	
+	/** Converter class names, looked up by source type name first and then by target type name */
+	private final Map<String, OrderedMap<String, String>> converterClassNames;
+	private int size;
+	
+	public ConverterIndex() {
+		this.converterClassNames = new OrderedMap<String, OrderedMap<String, String>>();
+		this.size = 0;
+	}
+	
+	public synchronized void put(String sourceType, String targetType, String converterClassName) {
+		OrderedMap<String, String> targetMap = converterClassNames.get(sourceType);
+		if (targetMap == null) {
+			targetMap = new OrderedMap<String, String>();
+			converterClassNames.put(sourceType, targetMap);
+		}
+		if (targetMap.put(targetType, converterClassName) == null)
+			size++;
+	}
+	
+	public synchronized String get(String sourceType, String targetType) {
+		OrderedMap<String, String> targetMap = converterClassNames.get(sourceType);
+		return (targetMap != null ? targetMap.get(targetType) : null);
+	}
+	
+	/**
+	 * Removes the entry of a type pair.
+	 * @return the name of the converter class registered for the type pair or null if there is none
+	 */
+	public synchronized String remove(String sourceType, String targetType) {
+		OrderedMap<String, String> targetMap = converterClassNames.get(sourceType);
+		if (targetMap == null)
+			return null;
+		String result = targetMap.remove(targetType);
+		if (result != null)
+			size--;
+		return result;
+	}
+	
+	/**
+	 * Removes all entries of a source type.
+	 * @return a map of the converter class names by target type name in index order, or null if there is none
+	 */
+	public synchronized OrderedMap<String, String> removeAll(String sourceType) {
+		OrderedMap<String, String> result = converterClassNames.remove(sourceType);
+		if (result != null)
+			size -= result.size();
+		return result;
+	}
+	
+	public synchronized int size() {
+		return size;
+	}
+	
+	// reading and writing ---------------------------------------------------------------------------------------------
+	
+	/**
+	 * Reads an index file.
+	 * @param uri the URI of the index file
+	 * @return the index or null if the file is not available
+	 * @throws IOException if reading fails
+	 */
+	public static ConverterIndex read(String uri) throws IOException {
+		if (!IOUtil.isURIAvailable(uri))
+			return null;
+		ConverterIndex index = new ConverterIndex();
+		BufferedReader reader = IOUtil.getReaderForURI(uri, "UTF-8");
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.length() == 0 || line.charAt(0) == '#')
+					continue;
+				int sep1 = line.indexOf('\t');
+				int sep2 = line.indexOf('\t', sep1 + 1);
+				if (sep1 <= 0 || sep2 <= sep1)
+					throw new ConfigurationError("Illegal converter index entry in " + uri + ": " + line);
+				index.put(line.substring(0, sep1), line.substring(sep1 + 1, sep2), line.substring(sep2 + 1));
+			}
+		} finally {
+			IOUtil.close(reader);
+		}
+		return index;
+	}
+	
+	/**
+	 * Creates an index for a converter config file by instantiating each listed converter class.
+	 * @param configUri the URI of the config file, listing one converter class name per line
+	 * @return the index
+	 * @throws IOException if reading the config file fails
+	 */
+	public static ConverterIndex create(String configUri) throws IOException {
+		ConverterIndex index = new ConverterIndex();
+		for (String className : IOUtil.readTextLines(configUri, false)) {
+			className = className.trim();
+			Converter<?, ?> converter = BeanUtil.newInstance(BeanUtil.<Converter<?, ?>>forName(className));
+			index.put(converter.getSourceType().getName(), converter.getTargetType().getName(), className);
+		}
+		return index;
+	}
+	
+	public synchronized void write(PrintWriter out) {
+		out.println("# Generated by " + getClass().getName() + ", do not edit");
+		for (Map.Entry<String, OrderedMap<String, String>> sourceEntry : converterClassNames.entrySet())
+			for (Map.Entry<String, String> targetEntry : sourceEntry.getValue().entrySet())
+				out.println(sourceEntry.getKey() + '\t' + targetEntry.getKey() + '\t' + targetEntry.getValue());
+	}
+	
+	/**
+	 * Generates an index file at build time.
+	 * @param args the path of the index file to write and optionally the URI of the converter config file 
+	 * 		(default: {@value #DEFAULT_CONFIG_FILENAME})
+	 * @throws IOException if reading or writing fails
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.out.println("Usage: ConverterIndex <indexFile> [<configFile>]");
+			System.exit(-1);
+		}
+		ConverterIndex index = create(args.length > 1 ? args[1] : DEFAULT_CONFIG_FILENAME);
+		PrintWriter out = IOUtil.getPrinterForURI(args[0], "UTF-8", false, "\n", true);
+		try {
+			index.write(out);
+		} finally {
+			out.close();
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + size() + " entries]";
+	}
+	
+}
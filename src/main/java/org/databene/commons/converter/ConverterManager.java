@@ -35,6 +35,8 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
@@ -48,6 +50,14 @@ import java.lang.reflect.Modifier;
  *     com.my.MyString2ThingConverter
  *     com.my.MyString2ComplexConverter
  * </pre>
+ * The default configuration is read from the precomputed {@link ConverterIndex} if it is available, 
+ * so that each configured converter class is loaded only when its type pair is requested for the first time.
+ * In the opt-in metrics mode (see {@link #setMetricsEnabled(boolean)}), the converters provided by 
+ * {@link #createConverter(Class, Class)} are wrapped with an {@link InstrumentedConverter} which records 
+ * their usage in the {@link ConverterMetrics}.
+ * Converters for primitive number targets implement {@link IntConverter}, {@link LongConverter} and 
+ * {@link DoubleConverter} where possible; {@link #createIntConverter(Class)}, {@link #createLongConverter(Class)} 
+ * and {@link #createDoubleConverter(Class)} provide such a converter for any convertible source type.
  * Created: 04.08.2007 19:43:17
  * @author Volker Bergmann
  */
@@ -56,45 +66,71 @@ public class ConverterManager implements ContextAware, Resettable {
 
 	private static final Logger CONFIG_LOGGER = LoggerFactory.getLogger(LogCategories.CONFIG);
 
-    private static final String DEFAULT_SETUP_FILENAME = "org/databene/commons/converter/converters.txt";
+    private static final String DEFAULT_SETUP_FILENAME = ConverterIndex.DEFAULT_CONFIG_FILENAME;
+    private static final String DEFAULT_INDEX_FILENAME = ConverterIndex.DEFAULT_INDEX_FILENAME;
     private static final String CUSTOM_SETUP_FILENAME = "converters.txt";
 
-    private static ConverterManager instance;
+    /** Marker for type pairs which have been found to be inconvertible */
+    private static final Converter UNSUPPORTED = new NoOpConverter();
+
+    private static volatile ConverterManager instance;
     private Context context;
 
-	private OrderedMap<ConversionTypes, Class<? extends Converter>> configuredConverterClasses;
+	private volatile OrderedMap<ConversionTypes, Class<? extends Converter>> configuredConverterClasses;
+	
+	/** Default converter classes which have not been loaded yet, null if the default index is not available */
+	private volatile ConverterIndex converterIndex;
+    
+    /** Converter prototypes (or {@link #UNSUPPORTED}), looked up by source type first and then by target type */
+    private volatile ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Converter>> converterPrototypes;
+
+    /** Usage statistics, null if metrics are disabled */
+    private volatile ConverterMetrics metrics;
     
-    private Map<ConversionTypes, Converter> converterPrototypes;
+    /** Incremented on each configuration change, so that users can detect outdated cached converters */
+    private volatile int configurationVersion;
 
     private ConverterManager() {
         init();
     }
 
 	protected void init() {
+		this.configurationVersion++;
 		this.configuredConverterClasses = new OrderedMap<ConversionTypes, Class<? extends Converter>>();
-        this.converterPrototypes = new HashMap<ConversionTypes, Converter>();
+        this.converterPrototypes = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, Converter>>();
         try {
             if (IOUtil.isURIAvailable(CUSTOM_SETUP_FILENAME)) {
             	CONFIG_LOGGER.debug("Reading custom converter config: {}", CUSTOM_SETUP_FILENAME);
                 readConfigFile(CUSTOM_SETUP_FILENAME);
             }
-            readConfigFile(DEFAULT_SETUP_FILENAME);
+            this.converterIndex = ConverterIndex.read(DEFAULT_INDEX_FILENAME);
+            if (this.converterIndex == null)
+            	readConfigFile(DEFAULT_SETUP_FILENAME);
         } catch (IOException e) {
             throw new ConfigurationError("Error reading setup file: " + DEFAULT_SETUP_FILENAME);
         }
 	}
 
     public static ConverterManager getInstance() {
-        if (instance == null)
-            instance = new ConverterManager();
-        return instance;
+        ConverterManager result = instance;
+        if (result == null) {
+            synchronized (ConverterManager.class) {
+                result = instance;
+                if (result == null)
+                    instance = result = new ConverterManager();
+            }
+        }
+        return result;
     }
 
 	@Override
 	public void setContext(Context context) {
 		this.context = context;
-		for (Converter converter : converterPrototypes.values())
-			injectContext(converter);
+		this.configurationVersion++;
+		for (Map<Class<?>, Converter> targetMap : converterPrototypes.values())
+			for (Converter converter : targetMap.values())
+				if (converter != UNSUPPORTED)
+					injectContext(converter);
 	}
 
 	private void injectContext(Converter converter) {
@@ -102,22 +138,74 @@ public class ConverterManager implements ContextAware, Resettable {
 			((ContextAware) converter).setContext(context);
 	}
 
+	/** @return a number which changes whenever converters are registered or the configuration is reset */
+	int getConfigurationVersion() {
+		return configurationVersion;
+	}
+
+	public boolean isMetricsEnabled() {
+		return (metrics != null);
+	}
+
+	/**
+	 * Activates or deactivates the metrics mode. When activating, statistics are collected from scratch, 
+	 * deactivation discards them and unregisters the metrics MBean if it has been registered.
+	 * @param enabled true to activate metrics collection
+	 */
+	public synchronized void setMetricsEnabled(boolean enabled) {
+		ConverterMetrics oldMetrics = this.metrics;
+		if (enabled && oldMetrics == null) {
+			this.metrics = new ConverterMetrics();
+			this.configurationVersion++;
+		} else if (!enabled && oldMetrics != null) {
+			this.metrics = null;
+			this.configurationVersion++;
+			oldMetrics.unregisterMBean();
+		}
+	}
+
+	/** @return the usage statistics or null if metrics are disabled */
+	public ConverterMetrics getMetrics() {
+		return metrics;
+	}
+
     public <S, T> Converter<S, T> createConverter(Class<S> sourceType, Class<T> targetType) {
+    	Converter<S, T> result = createRawConverter(sourceType, targetType);
+    	ConverterMetrics metrics = this.metrics;
+    	return (metrics != null ? metrics.instrument(result, sourceType, targetType) : result);
+    }
+
+    private <S, T> Converter<S, T> createRawConverter(Class<S> sourceType, Class<T> targetType) {
         // check preconditions
         if (targetType == null)
             throw new ConversionException("targetType must be specified");
 
         // check if we already know how to do this conversion
-    	ConversionTypes conversionTypes = new ConversionTypes(sourceType, targetType);
-		Converter result = converterPrototypes.get(conversionTypes);
+        ConcurrentMap<Class<?>, Converter> targetMap = getTargetMap(sourceType);
+		Converter result = targetMap.get(targetType);
+    	if (result == UNSUPPORTED)
+    		throw new ConversionException("Cannot convert " + sourceType.getName() + " to " + targetType.getName());
     	if (result != null)
     		return cloneIfSupported(result);
+    	
+    	// check if there is a configured converter class which has not been loaded yet
+    	if (registerIndexedConverter(sourceType, targetType)) {
+    		result = targetMap.get(targetType);
+    		if (result != null)
+    			return cloneIfSupported(result);
+    	}
 
     	// we need to investigate...
-        result = searchAppropriateConverter(sourceType, targetType);
+    	try {
+    		result = searchAppropriateConverter(sourceType, targetType);
+    	} catch (ConversionException e) {
+    		// ...remember that there is no way...
+    		targetMap.put(targetType, UNSUPPORTED);
+    		throw e;
+    	}
         // ...and cache the result for future requests
         if (result != null && result.isParallelizable())
-        	converterPrototypes.put(conversionTypes, result);
+        	targetMap.put(targetType, result);
         
         // inject context if appropriate
         injectContext(result);
@@ -126,12 +214,39 @@ public class ConverterManager implements ContextAware, Resettable {
         return result;
     }
 
+    public <S> IntConverter<S> createIntConverter(Class<S> sourceType) {
+    	Converter<S, Integer> converter = createConverter(sourceType, Integer.class);
+    	return (converter instanceof IntConverter ? (IntConverter<S>) converter : new UnboxingConverter<S>(converter));
+    }
+
+    public <S> LongConverter<S> createLongConverter(Class<S> sourceType) {
+    	Converter<S, Long> converter = createConverter(sourceType, Long.class);
+    	return (converter instanceof LongConverter ? (LongConverter<S>) converter : new UnboxingConverter<S>(converter));
+    }
+
+    public <S> DoubleConverter<S> createDoubleConverter(Class<S> sourceType) {
+    	Converter<S, Double> converter = createConverter(sourceType, Double.class);
+    	return (converter instanceof DoubleConverter ? (DoubleConverter<S>) converter : new UnboxingConverter<S>(converter));
+    }
+
+	private ConcurrentMap<Class<?>, Converter> getTargetMap(Class<?> sourceType) {
+		ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Converter>> prototypes = this.converterPrototypes;
+		ConcurrentMap<Class<?>, Converter> targetMap = prototypes.get(sourceType);
+		if (targetMap == null) {
+			ConcurrentMap<Class<?>, Converter> newMap = new ConcurrentHashMap<Class<?>, Converter>();
+			targetMap = prototypes.putIfAbsent(sourceType, newMap);
+			if (targetMap == null)
+				targetMap = newMap;
+		}
+		return targetMap;
+	}
+
 	private Converter searchAppropriateConverter(Class sourceType, Class targetType) {
 		
 		// catch primitive types
         Class<?> wrapperClass = BeanUtil.getWrapper(targetType.getName());
         if (wrapperClass != null)
-        	return createConverter(sourceType, wrapperClass);
+        	return createRawConverter(sourceType, wrapperClass);
 
         Converter result;
 	    if (targetType.isAssignableFrom(sourceType) && !targetType.isPrimitive())
@@ -266,23 +381,55 @@ public class ConverterManager implements ContextAware, Resettable {
 	private Converter findPoorConfiguredMatch(Class<?> srcType, Class dstType) {
         if (srcType == dstType || (dstType.isAssignableFrom(srcType) && !dstType.isPrimitive()))
             return new NoOpConverter();
-        for (Map.Entry<ConversionTypes, Class<? extends Converter>> entry : configuredConverterClasses.entrySet()) {
-        	ConversionTypes types = entry.getKey();
-            if (types.sourceType == srcType && dstType.isAssignableFrom(types.targetType))
-            	return BeanUtil.newInstance(entry.getValue());
+        registerIndexedConverters(srcType);
+        OrderedMap<ConversionTypes, Class<? extends Converter>> configuredClasses = this.configuredConverterClasses;
+        synchronized (configuredClasses) {
+	        for (Map.Entry<ConversionTypes, Class<? extends Converter>> entry : configuredClasses.entrySet()) {
+	        	ConversionTypes types = entry.getKey();
+	            if (types.sourceType == srcType && dstType.isAssignableFrom(types.targetType))
+	            	return BeanUtil.newInstance(entry.getValue());
+	        }
         }
         return null;
     }
 
     public void registerConverterClass(Class<? extends Converter> converterClass) {
-    	Converter converter = BeanUtil.newInstance(converterClass);
+    	registerConverter(converterClass, BeanUtil.newInstance(converterClass));
+    }
+
+    private void registerConverter(Class<? extends Converter> converterClass, Converter converter) {
         ConversionTypes types = new ConversionTypes(converter);
-        configuredConverterClasses.put(types, converterClass);
+        OrderedMap<ConversionTypes, Class<? extends Converter>> configuredClasses = this.configuredConverterClasses;
+        synchronized (configuredClasses) {
+        	configuredClasses.put(types, converterClass);
+        }
+        clearUnsupported(types.sourceType);
         if (converter.isParallelizable())
-	        converterPrototypes.put(types, converter);
+	        getTargetMap(types.sourceType).put(types.targetType, converter);
+        this.configurationVersion++;
+    }
+
+    /** 
+     * Forgets the failed lookups of a source type and its subtypes, since a new converter 
+     * may serve them via a supertype of the target type or a subtype of its source type.
+     */
+    private void clearUnsupported(Class<?> sourceType) {
+    	for (Map.Entry<Class<?>, ConcurrentMap<Class<?>, Converter>> entry : converterPrototypes.entrySet()) {
+    		if (sourceType.isAssignableFrom(entry.getKey())) {
+    			Iterator<Converter> iterator = entry.getValue().values().iterator();
+    			while (iterator.hasNext())
+    				if (iterator.next() == UNSUPPORTED)
+    					iterator.remove();
+    		}
+    	}
     }
     
     public static <S, T> Object convertAll(S[] sourceValues, Converter<S, T> converter, Class componentType) {
+    	if (!componentType.isPrimitive()) {
+    		T[] convertedValues = (T[]) Array.newInstance(componentType, sourceValues.length);
+    		converter.convertAll(sourceValues, 0, sourceValues.length, convertedValues);
+    		return convertedValues;
+    	}
         Object convertedValues = Array.newInstance(componentType, sourceValues.length);
         for (int i = 0; i < sourceValues.length; i++)
             Array.set(convertedValues, i, converter.convert(sourceValues[i]));
@@ -296,6 +443,19 @@ public class ConverterManager implements ContextAware, Resettable {
         return result;
     }
     
+    /**
+     * Provides a {@link ConvertedList} view which converts the elements on access instead of copying them.
+     * @param sourceValues the list to convert
+     * @param converter the converter to apply
+     * @param memoize if true, each element is converted only once
+     * @param <S> the source element type
+     * @param <T> the target element type
+     * @return a view of the converted list
+     */
+    public static <S, T> List<T> convertAllLazily(List<S> sourceValues, Converter<S, T> converter, boolean memoize) {
+    	return ConvertedList.of(sourceValues, converter, memoize);
+    }
+    
     public static <SS, TT> Converter<SS, TT>[] cloneIfSupported(Converter<SS, TT>[] prototypes) {
     	Converter[] result = new Converter[prototypes.length];
     	for (int i = 0; i < prototypes.length; i++)
@@ -305,9 +465,13 @@ public class ConverterManager implements ContextAware, Resettable {
 
     public static <SS, TT> Converter<SS, TT> cloneIfSupported(Converter<SS, TT> prototype) {
         Converter<SS, TT> result;
-    	if (prototype.isParallelizable())
+    	if (prototype.isParallelizable()) {
     		result = BeanUtil.clone(prototype);
-    	else if (prototype.isThreadSafe())
+    		ConverterManager manager = instance;
+    		ConverterMetrics metrics = (manager != null ? manager.metrics : null);
+    		if (metrics != null && !(prototype instanceof InstrumentedConverter))
+    			metrics.recordClone(prototype);
+    	} else if (prototype.isThreadSafe())
     		result = prototype;
     	else
     		result = new SynchronizedConverterProxy(prototype);
@@ -316,6 +480,44 @@ public class ConverterManager implements ContextAware, Resettable {
 
     // private helpers -------------------------------------------------------------------------------------------------
 
+    private boolean registerIndexedConverter(Class<?> sourceType, Class<?> targetType) {
+    	ConverterIndex index = this.converterIndex;
+    	if (index == null)
+    		return false;
+    	String className = index.remove(sourceType.getName(), targetType.getName());
+    	return (className != null && registerIndexedConverter(className));
+    }
+
+    private void registerIndexedConverters(Class<?> sourceType) {
+    	ConverterIndex index = this.converterIndex;
+    	if (index == null)
+    		return;
+    	OrderedMap<String, String> classNames = index.removeAll(sourceType.getName());
+    	if (classNames != null)
+    		for (String className : classNames.values())
+    			registerIndexedConverter(className);
+    }
+
+    private boolean registerIndexedConverter(String className) {
+    	Class<? extends Converter> converterClass;
+    	try {
+    		converterClass = (Class<? extends Converter>) Class.forName(className);
+    	} catch (ClassNotFoundException e) {
+    		throw new ConfigurationError(e);
+    	}
+    	Converter converter = BeanUtil.newInstance(converterClass);
+    	OrderedMap<ConversionTypes, Class<? extends Converter>> configuredClasses = this.configuredConverterClasses;
+    	synchronized (configuredClasses) {
+    		// converters from a custom setup file take precedence
+    		if (configuredClasses.containsKey(new ConversionTypes(converter)))
+    			return false;
+    	}
+    	if (context != null)
+    		injectContext(converter);
+    	registerConverter(converterClass, converter);
+    	return true;
+    }
+
     private void readConfigFile(String filename) throws IOException {
         ReaderLineIterator iterator = new ReaderLineIterator(IOUtil.getReaderForURI(filename));
         try {
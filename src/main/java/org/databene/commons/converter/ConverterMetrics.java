@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.databene.commons.ConfigurationError;
+import org.databene.commons.Converter;
+
+/**
+ * Collects invocation counts, failures, total and maximum conversion times and clone counts 
+ * of the converters provided by the {@link ConverterManager}, grouped by source and target type. 
+ * It is activated by {@link ConverterManager#setMetricsEnabled(boolean)}, evaluated by {@link #snapshot()} 
+ * and can be published as JMX MBean by {@link #registerMBean()}.
+ * Created: 18.10.2026 10:26:03
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ConverterMetrics implements ConverterMetricsMBean {
+	
+	public static final String DEFAULT_OBJECT_NAME = "org.databene.commons:type=ConverterMetrics";
+	
+	private static final Comparator<ConversionStats> BY_TOTAL_NANOS_DESC = new Comparator<ConversionStats>() {
+		@Override
+		public int compare(ConversionStats s1, ConversionStats s2) {
+			return Long.compare(s2.getTotalNanos(), s1.getTotalNanos());
+		}
+	};
+
+	private final ConcurrentMap<ConversionTypes, ConversionCounters> counters;
+	private ObjectName objectName;
+	
+	public ConverterMetrics() {
+		this.counters = new ConcurrentHashMap<ConversionTypes, ConversionCounters>();
+		this.objectName = null;
+	}
+	
+	/**
+	 * Wraps a converter with an {@link InstrumentedConverter} which records its invocations.
+	 * @param converter the converter to wrap
+	 * @param sourceType the source type to account the invocations for
+	 * @param targetType the target type to account the invocations for
+	 * @return the instrumented converter
+	 */
+	public <S, T> Converter<S, T> instrument(Converter<S, T> converter, Class<S> sourceType, Class<T> targetType) {
+		if (converter instanceof InstrumentedConverter)
+			return converter;
+		return new InstrumentedConverter<S, T>(converter, getCounters(sourceType, targetType));
+	}
+	
+	/** @return the statistics of all type pairs, ordered by descending total conversion time */
+	public List<ConversionStats> snapshot() {
+		List<ConversionStats> result = new ArrayList<ConversionStats>(counters.size());
+		for (ConversionCounters pairCounters : counters.values())
+			result.add(pairCounters.snapshot());
+		Collections.sort(result, BY_TOTAL_NANOS_DESC);
+		return result;
+	}
+	
+	/** @return the statistics of a type pair or null if nothing has been recorded for it */
+	public ConversionStats getStats(Class<?> sourceType, Class<?> targetType) {
+		ConversionCounters pairCounters = counters.get(new ConversionTypes(sourceType, targetType));
+		return (pairCounters != null ? pairCounters.snapshot() : null);
+	}
+	
+	// JMX support -----------------------------------------------------------------------------------------------------
+	
+	public synchronized void registerMBean() {
+		registerMBean(DEFAULT_OBJECT_NAME);
+	}
+	
+	public synchronized void registerMBean(String name) {
+		if (objectName != null)
+			unregisterMBean();
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName newName = new ObjectName(name);
+			server.registerMBean(this, newName);
+			this.objectName = newName;
+		} catch (JMException e) {
+			throw new ConfigurationError("Error registering converter metrics MBean " + name, e);
+		}
+	}
+	
+	public synchronized void unregisterMBean() {
+		if (objectName == null)
+			return;
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (JMException e) {
+			throw new ConfigurationError("Error unregistering converter metrics MBean " + objectName, e);
+		} finally {
+			objectName = null;
+		}
+	}
+	
+	// ConverterMetricsMBean interface implementation ------------------------------------------------------------------
+	
+	@Override
+	public long getTotalInvocations() {
+		long sum = 0;
+		for (ConversionCounters pairCounters : counters.values())
+			sum += pairCounters.invocations.sum();
+		return sum;
+	}
+	
+	@Override
+	public long getTotalFailures() {
+		long sum = 0;
+		for (ConversionCounters pairCounters : counters.values())
+			sum += pairCounters.failures.sum();
+		return sum;
+	}
+	
+	@Override
+	public long getTotalNanos() {
+		long sum = 0;
+		for (ConversionCounters pairCounters : counters.values())
+			sum += pairCounters.totalNanos.sum();
+		return sum;
+	}
+	
+	@Override
+	public long getTotalClones() {
+		long sum = 0;
+		for (ConversionCounters pairCounters : counters.values())
+			sum += pairCounters.clones.sum();
+		return sum;
+	}
+	
+	@Override
+	public String[] getStatistics() {
+		List<ConversionStats> stats = snapshot();
+		String[] result = new String[stats.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = stats.get(i).toString();
+		return result;
+	}
+	
+	@Override
+	public void reset() {
+		for (ConversionCounters pairCounters : counters.values())
+			pairCounters.reset();
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	void recordClone(Converter<?, ?> prototype) {
+		getCounters(prototype.getSourceType(), prototype.getTargetType()).clones.increment();
+	}
+	
+	private ConversionCounters getCounters(Class<?> sourceType, Class<?> targetType) {
+		ConversionTypes types = new ConversionTypes(sourceType, targetType);
+		ConversionCounters result = counters.get(types);
+		if (result == null) {
+			ConversionCounters newCounters = new ConversionCounters(types);
+			result = counters.putIfAbsent(types, newCounters);
+			if (result == null)
+				result = newCounters;
+		}
+		return result;
+	}
+	
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+/**
+ * JMX management interface of the {@link ConverterMetrics}.
+ * Created: 18.10.2026 10:20:14
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public interface ConverterMetricsMBean {
+	long getTotalInvocations();
+	long getTotalFailures();
+	long getTotalNanos();
+	long getTotalClones();
+	/** @return one line per type pair, ordered by descending total time */
+	String[] getStatistics();
+	void reset();
+}
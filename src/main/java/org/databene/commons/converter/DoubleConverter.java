@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import org.databene.commons.ConversionException;
+import org.databene.commons.Converter;
+import org.databene.commons.ThreadAware;
+
+/**
+ * Companion of the {@link Converter} interface which converts objects 
+ * to <code>double</code> values without boxing the result.
+ * Created: 17.10.2026 14:21:40
+ * @param <S> the object type to convert from
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public interface DoubleConverter<S> extends ThreadAware {
+	
+	/**
+	 * Converts an object of type S to a <code>double</code> value.
+	 * @param sourceValue the object to convert
+	 * @return the resulting <code>double</code> value
+	 * @throws ConversionException if the conversion fails or the source value represents null
+	 */
+	double convertToDouble(S sourceValue) throws ConversionException;
+	
+}
@@ -17,6 +17,7 @@ package org.databene.commons.converter;
 import java.text.Format;
 
 import org.databene.commons.ConversionException;
+import org.databene.commons.format.AppendableFormatting;
 
 /**
  * Converts an object to a String by using a java.lang.Format object's format() method.
@@ -50,4 +51,21 @@ public class FormatFormatConverter<S> extends FormatBasedConverter<S, String> {
         }
     }
 
+    /**
+     * Appends the formatted object to an {@link Appendable} without creating a String.
+     * @param source the object to format
+     * @param toAppendTo the target to which to append the formatted object
+     * @param <E> the type of the target
+     * @return the target
+     */
+	public synchronized <E extends Appendable> E convert(S source, E toAppendTo) {
+        try {
+        	return AppendableFormatting.format(format, source, toAppendTo);
+        } catch (ConversionException e) {
+        	throw e;
+        } catch (Exception e) {
+        	throw new ConversionException("Conversion failed for value: " + source, e);
+        }
+    }
+
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import org.databene.commons.BeanUtil;
+import org.databene.commons.ConversionException;
+import org.databene.commons.Converter;
+
+/**
+ * {@link ConverterProxy} which records the invocation count, failures and conversion times of the 
+ * wrapped converter in the {@link ConverterMetrics}.
+ * Created: 18.10.2026 10:41:18
+ * @param <S> the object type to convert from
+ * @param <T> the object type to convert to
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class InstrumentedConverter<S, T> extends ConverterProxy<S, T> {
+	
+	private final ConversionCounters counters;
+
+	InstrumentedConverter(Converter<S, T> realConverter, ConversionCounters counters) {
+		super(realConverter);
+		this.counters = counters;
+	}
+
+	@Override
+	public T convert(S sourceValue) throws ConversionException {
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			T result = realConverter.convert(sourceValue);
+			failed = false;
+			return result;
+		} finally {
+			counters.recordInvocations(1, System.nanoTime() - start, failed);
+		}
+	}
+
+	@Override
+	public void convertAll(S[] sourceValues, int fromIndex, int toIndex, T[] targetValues) throws ConversionException {
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			realConverter.convertAll(sourceValues, fromIndex, toIndex, targetValues);
+			failed = false;
+		} finally {
+			counters.recordInvocations(toIndex - fromIndex, System.nanoTime() - start, failed);
+		}
+	}
+
+	@Override
+	public boolean isThreadSafe() {
+		return realConverter.isThreadSafe();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object clone() {
+		InstrumentedConverter<S, T> copy = (InstrumentedConverter<S, T>) super.clone();
+		if (realConverter.isParallelizable()) {
+			copy.realConverter = BeanUtil.clone(realConverter);
+			counters.clones.increment();
+		}
+		return copy;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + '[' + realConverter + ']';
+	}
+
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+/**
+ * Classifies the literal representation of a simple value in a single pass over a {@link CharSequence} range 
+ * without creating intermediate objects. The value of the most recently classified literal is provided 
+ * by the getter methods of the respective type. Instances are reusable, but not thread-safe.
+ * <code>
+ *   content := boolean | date | time | number | string
+ *   boolean := 'true' | 'false'
+ *   date := digit+ '-' digit+ '-' digit+ ['T' time]
+ *   time := digit+ ':' digit+ [':' digit+ ['.' digit+]]
+ *   number := ['-'] digit+ ['.' digit*]
+ * </code>
+ * Created: 17.10.2026 17:11:06
+ * @since 1.0.13
+ * @author Volker Bergmann
+ * @see LiteralParser
+ */
+public class LiteralClassifier {
+	
+	/** Maximum number of digits in date and time components which is guaranteed to fit into an int */
+	private static final int MAX_INT_DIGITS = 9;
+	
+	private boolean booleanValue;
+	private long longValue;
+	private double doubleValue;
+	private int year;
+	private int month;
+	private int day;
+	private boolean timeOfDay;
+	private int hour;
+	private int minute;
+	private int second;
+	private int millisecond;
+	
+	/** Position of the scanner in the text */
+	private int cursor;
+	
+	// classification --------------------------------------------------------------------------------------------------
+	
+	public LiteralType classify(CharSequence text) {
+		return classify(text, 0, text.length());
+	}
+	
+	/**
+	 * Classifies a range of characters.
+	 * @param text the text to classify
+	 * @param start the index of the first character to classify (inclusive)
+	 * @param end the index of the last character to classify (exclusive)
+	 * @return the type of the literal or null if the range is empty or consists of whitespace only
+	 */
+	public LiteralType classify(CharSequence text, int start, int end) {
+		int s = start;
+		while (s < end && text.charAt(s) <= ' ')
+			s++;
+		int e = end;
+		while (e > s && text.charAt(e - 1) <= ' ')
+			e--;
+		if (s == e)
+			return null;
+		
+		// test for boolean
+		if (matches("true", text, s, e)) {
+			booleanValue = true;
+			return LiteralType.BOOLEAN;
+		} else if (matches("false", text, s, e)) {
+			booleanValue = false;
+			return LiteralType.BOOLEAN;
+		}
+		
+		// test for quoted string
+		char first = text.charAt(s);
+		char last = text.charAt(e - 1);
+		if ((first == '\'' && last == '\'') || (first == '"' && last == '"'))
+			return LiteralType.STRING;
+		
+		// precheck for unparsed
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (!(c == ':' || c == '-' || c == 'T' || c == '.' || isDigit(c) || c == ' ' || c == '\t'))
+				return LiteralType.STRING;
+		}
+		
+		// test for number, date or time
+		LiteralType result = null;
+		if (first == '-')
+			result = scanNumber(text, s, e);
+		else if (isDigit(first)) {
+			result = scanNumber(text, s, e);
+			if (result == null && scanDate(text, s, e))
+				result = LiteralType.DATE;
+			if (result == null && scanTime(text, s, e))
+				result = LiteralType.TIME;
+		}
+		return (result != null ? result : LiteralType.STRING);
+	}
+	
+	/**
+	 * Scans a range for a date literal only, skipping the tests for other literal types. 
+	 * On success, the date (and time) fields are provided by the getter methods.
+	 * @param text the text to scan
+	 * @param start the index of the first character to scan (inclusive)
+	 * @param end the index of the last character to scan (exclusive)
+	 * @return true if the trimmed range is a date literal
+	 */
+	public boolean parseDate(CharSequence text, int start, int end) {
+		while (start < end && text.charAt(start) <= ' ')
+			start++;
+		while (end > start && text.charAt(end - 1) <= ' ')
+			end--;
+		return (start < end && isDigit(text.charAt(start)) && scanDate(text, start, end) && cursor == end);
+	}
+	
+	/**
+	 * Scans a range for a time literal only, skipping the tests for other literal types.
+	 * @param text the text to scan
+	 * @param start the index of the first character to scan (inclusive)
+	 * @param end the index of the last character to scan (exclusive)
+	 * @return true if the trimmed range is a time literal
+	 */
+	public boolean parseTime(CharSequence text, int start, int end) {
+		while (start < end && text.charAt(start) <= ' ')
+			start++;
+		while (end > start && text.charAt(end - 1) <= ' ')
+			end--;
+		return (start < end && isDigit(text.charAt(start)) && scanTime(text, start, end) && cursor == end);
+	}
+	
+	// value properties ------------------------------------------------------------------------------------------------
+	
+	public boolean getBooleanValue() {
+		return booleanValue;
+	}
+	
+	/** @return the value of an {@link LiteralType#INTEGER} or {@link LiteralType#LONG} literal */
+	public long getLongValue() {
+		return longValue;
+	}
+	
+	public double getDoubleValue() {
+		return doubleValue;
+	}
+	
+	public int getYear() {
+		return year;
+	}
+	
+	/** @return the month of a date literal as it was written, counting from 1 */
+	public int getMonth() {
+		return month;
+	}
+	
+	public int getDay() {
+		return day;
+	}
+	
+	/** @return true if the last {@link LiteralType#DATE} literal had a time part */
+	public boolean hasTimeOfDay() {
+		return timeOfDay;
+	}
+	
+	public int getHour() {
+		return hour;
+	}
+	
+	public int getMinute() {
+		return minute;
+	}
+	
+	public int getSecond() {
+		return second;
+	}
+	
+	public int getMillisecond() {
+		return millisecond;
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private LiteralType scanNumber(CharSequence text, int start, int end) {
+		int i = start;
+		boolean negative = (text.charAt(i) == '-');
+		if (negative)
+			i++;
+		// accumulating negatively allows for representing Long.MIN_VALUE
+		long limit = (negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+		long value = 0;
+		int digits = 0;
+		boolean overflow = false;
+		char c = 0;
+		for (; i < end && isDigit(c = text.charAt(i)); i++) {
+			int digit = c - '0';
+			if (++digits == 2 && value == 0)
+				return null; // leading zeros are not supported
+			if (value < limit / 10 || value * 10 < limit + digit)
+				overflow = true;
+			else
+				value = value * 10 - digit;
+		}
+		if (digits == 0)
+			return null;
+		if (i == end) {
+			if (overflow) {
+				doubleValue = NumberLiteralParser.parseDouble(text, start, end);
+				return LiteralType.DOUBLE;
+			}
+			longValue = (negative ? value : -value);
+			return (value >= -Integer.MAX_VALUE ? LiteralType.INTEGER : LiteralType.LONG);
+		}
+		if (c != '.')
+			return null;
+		for (i++; i < end; i++)
+			if (!isDigit(text.charAt(i)))
+				return null;
+		doubleValue = NumberLiteralParser.parseDouble(text, start, end);
+		return LiteralType.DOUBLE;
+	}
+	
+	private boolean scanDate(CharSequence text, int start, int end) {
+		cursor = start;
+		if ((year = scanInt(text, end)) < 0 || !scanChar('-', text, end) || cursor == end)
+			return false;
+		if ((month = scanInt(text, end)) < 0 || !scanChar('-', text, end) || cursor == end)
+			return false;
+		if ((day = scanInt(text, end)) <= 0)
+			return false;
+		if (cursor == end) {
+			timeOfDay = false;
+			return true;
+		}
+		if (!scanChar('T', text, end) || cursor == end || !scanTime(text, cursor, end))
+			return false;
+		timeOfDay = true;
+		return true;
+	}
+	
+	private boolean scanTime(CharSequence text, int start, int end) {
+		cursor = start;
+		second = 0;
+		millisecond = 0;
+		if ((hour = scanInt(text, end)) < 0 || !scanChar(':', text, end))
+			return false;
+		if ((minute = scanInt(text, end)) < 0)
+			return false;
+		if (cursor == end)
+			return true;
+		if (!scanChar(':', text, end) || (second = scanInt(text, end)) < 0)
+			return false;
+		if (cursor == end)
+			return true;
+		if (!scanChar('.', text, end))
+			return false;
+		// use the first three fraction digits as milliseconds
+		int fractionDigits = 0;
+		for (; cursor < end && isDigit(text.charAt(cursor)); cursor++)
+			if (++fractionDigits <= 3)
+				millisecond = millisecond * 10 + (text.charAt(cursor) - '0');
+		for (int i = fractionDigits; i < 3; i++)
+			millisecond *= 10;
+		return (fractionDigits > 0 && cursor == end);
+	}
+	
+	/** Scans a non-negative integer at the cursor position and returns -1 if there is none */
+	private int scanInt(CharSequence text, int end) {
+		int result = 0;
+		int digits = 0;
+		char c;
+		for (; cursor < end && isDigit(c = text.charAt(cursor)); cursor++) {
+			if (++digits > MAX_INT_DIGITS)
+				return -1;
+			result = result * 10 + (c - '0');
+		}
+		return (digits > 0 ? result : -1);
+	}
+	
+	private boolean scanChar(char expected, CharSequence text, int end) {
+		if (cursor == end || text.charAt(cursor) != expected)
+			return false;
+		cursor++;
+		return true;
+	}
+	
+	private static boolean matches(String expected, CharSequence text, int start, int end) {
+		int length = expected.length();
+		if (end - start != length)
+			return false;
+		for (int i = 0; i < length; i++)
+			if (text.charAt(start + i) != expected.charAt(i))
+				return false;
+		return true;
+	}
+	
+	private static boolean isDigit(char c) {
+		return (c >= '0' && c <= '9');
+	}
+	
+}
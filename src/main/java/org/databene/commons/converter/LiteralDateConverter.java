@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.util.Date;
+
+import org.databene.commons.ConversionException;
+
+/**
+ * Parses date or time literals in the format recognized by the {@link LiteralClassifier} 
+ * without testing for other literal types. Blank texts are mapped to null, 
+ * texts of another format cause a {@link ConversionException}.
+ * Created: 18.10.2026 10:12:37
+ * @since 1.0.13
+ * @author Volker Bergmann
+ * @see TypeInferrer
+ */
+public class LiteralDateConverter extends UnsafeConverter<String, Date> {
+	
+	private final boolean timeOnly;
+	private final LiteralClassifier classifier;
+	
+	/** 
+	 * @param timeOnly false for parsing date literals with an optional time part, 
+	 * 		true for parsing time literals without date part 
+	 */
+	public LiteralDateConverter(boolean timeOnly) {
+		super(String.class, Date.class);
+		this.timeOnly = timeOnly;
+		this.classifier = new LiteralClassifier();
+	}
+	
+	public boolean isTimeOnly() {
+		return timeOnly;
+	}
+	
+	@Override
+	public Date convert(String sourceValue) throws ConversionException {
+		if (sourceValue == null || sourceValue.trim().length() == 0)
+			return null;
+		if (timeOnly) {
+			if (classifier.parseTime(sourceValue, 0, sourceValue.length()))
+				return LiteralParser.createTime(classifier);
+		} else {
+			if (classifier.parseDate(sourceValue, 0, sourceValue.length()))
+				return LiteralParser.createDate(classifier);
+		}
+		throw new ConversionException("Not a " + (timeOnly ? "time" : "date") + " literal: " + sourceValue);
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + (timeOnly ? "[time]" : "[date]");
+	}
+	
+}
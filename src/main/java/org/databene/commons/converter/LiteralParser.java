@@ -14,11 +14,9 @@
  */
 package org.databene.commons.converter;
 
-import java.sql.Time;
 import java.util.Date;
 
 import org.databene.commons.ConversionException;
-import org.databene.commons.StringCharacterIterator;
 import org.databene.commons.TimeUtil;
 
 /**
@@ -26,6 +24,7 @@ import org.databene.commons.TimeUtil;
  * Boolean, Integer, Long, Double, Date or String.
  * Created: 19.03.2008 20:05:25
  * @author Volker Bergmann
+ * @see LiteralClassifier
  */
 public class LiteralParser extends ThreadSafeConverter<String, Object> {
 
@@ -56,177 +55,63 @@ public class LiteralParser extends ThreadSafeConverter<String, Object> {
     public static Object parse(String text) {
         if (text == null || text.length() == 0)
             return null;
-        String trimmed = text.trim();
-        if (trimmed.length() == 0)
+        LiteralClassifier classifier = new LiteralClassifier();
+        LiteralType type = classifier.classify(text);
+        if (type == null)
             return text;
-
-        // test for boolean
-        if ("true".equals(trimmed))
-            return Boolean.TRUE;
-        else if ("false".equals(trimmed))
-            return Boolean.FALSE;
-        
-        // test for quoted string
-        if ((trimmed.startsWith("'") && trimmed.endsWith("'")) || (trimmed.startsWith("\"") && trimmed.endsWith("\"")))
-        	return trimmed;
-        
-        // precheck for unparsed
-        for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (!(c == ':' || c == '-' || c == 'T' || c == '.' || (c >= '0' && c <= '9') || c == ' ' || c == '\t'))
-                return text;
-        }
-        
-        // test for number or date
-        StringCharacterIterator iterator = new StringCharacterIterator(trimmed);
-        char c = iterator.next();
-        if (c == '-') {
-        	Object number = parseNonNegativeNumber(iterator, true, false);
-        	return (number != null ? number : text);
-        }
-        else if (c >= '0' && c <= '9') {
-            iterator.pushBack();
-            Object tmp = parseNonNegativeNumber(iterator, false, false);
-            if (tmp != null)
-                return tmp;
-            tmp = parseDate(trimmed);
-            if (tmp != null)
-                return tmp;
-            tmp = parseTime(trimmed);
-            if (tmp != null)
-                return tmp;
+        else if (type == LiteralType.STRING)
+        	return unparsedText(text);
+        else
+        	return valueOf(type, classifier);
+    }
+    
+    /**
+     * Creates the Java object for the literal most recently classified by a {@link LiteralClassifier}.
+     * @param type the type reported by the classifier
+     * @param classifier the classifier
+     * @return the object representation of the literal or null for {@link LiteralType#STRING}s
+     */
+    public static Object valueOf(LiteralType type, LiteralClassifier classifier) {
+    	if (type == null)
+    		return null;
+        switch (type) {
+	        case BOOLEAN : return classifier.getBooleanValue();
+	        case INTEGER : return (int) classifier.getLongValue();
+	        case LONG    : return classifier.getLongValue();
+	        case DOUBLE  : return classifier.getDoubleValue();
+	        case DATE    : return createDate(classifier);
+	        case TIME    : return createTime(classifier);
+	        default      : return null;
         }
-        return trimmed;
     }
     
     // private helpers -------------------------------------------------------------------------------------------------
 
-    private static Object parseDate(String trimmed) {
-        StringCharacterIterator iterator = new StringCharacterIterator(trimmed);
-        // parse day
-        Long year = parseNonNegativeIntegerPart(iterator, true);
-        if (year == null || !iterator.hasNext() || iterator.next() != '-')
-            return null;
-        if (!iterator.hasNext())
-        	return null;
-        Long month = parseNonNegativeIntegerPart(iterator, true);
-        if (month == null || !iterator.hasNext() || iterator.next() != '-')
-            return null;
-        if (!iterator.hasNext())
-        	return null;
-        month = month - 1;
-        Long day = parseNonNegativeIntegerPart(iterator, true);
-        if (day == null || day == 0)
-        	return null;
-        Date baseDate = TimeUtil.date(year.intValue(), month.intValue(), day.intValue());
-        if (!iterator.hasNext())
-            return baseDate;
-        if (iterator.next() != 'T')
-            return null;
-        if (!iterator.hasNext())
-            return null;
-        Object time = parseTime(iterator.remainingText());
-        return (time != null && time instanceof Time ? TimeUtil.add(baseDate, (Time) time) : null);
+    static Date createDate(LiteralClassifier classifier) {
+    	Date baseDate = TimeUtil.date(classifier.getYear(), classifier.getMonth() - 1, classifier.getDay());
+    	if (!classifier.hasTimeOfDay())
+    		return baseDate;
+		return TimeUtil.add(baseDate, createTime(classifier));
     }
     
-    private static Object parseTime(String trimmed) {
-        StringCharacterIterator iterator = new StringCharacterIterator(trimmed);
-        // parse hours:minutes
-        Long hours = parseNonNegativeIntegerPart(iterator, true);
-        if (hours == null || !iterator.hasNext() || iterator.next() != ':')
-            return null;
-        Long minutes = parseNonNegativeIntegerPart(iterator, true);
-        if (minutes == null)
-        	return null;
-        if (!iterator.hasNext())
-            return TimeUtil.time(hours.intValue(), minutes.intValue(), 0, 0);
-        // parse seconds
-        if (iterator.next() != ':')
-            return null;
-        Long seconds = parseNonNegativeIntegerPart(iterator, true);
-        if (seconds == null)
-        	return null;
-        if (!iterator.hasNext())
-            return TimeUtil.time(hours.intValue(), minutes.intValue(), seconds.intValue(), 0);
-        // parse second fractions
-        if (iterator.next() != '.')
-            return null;
-        Double f = parseFraction(iterator);
-        if (f == null)
-        	return null;
-        if (!iterator.hasNext())
-            return TimeUtil.time(hours.intValue(), minutes.intValue(), seconds.intValue(), (int)(f * 1000));
-        else
-            return trimmed;
-    }
-    
-    private static Double parseFraction(StringCharacterIterator iterator) {
-        Double p = null;
-        Double base = 0.1;
-        while (iterator.hasNext()) {
-            char c = iterator.next();
-            if (c >= '0' && c <= '9') {
-            	if (p == null)
-            		p = 0.;
-                p += base * (c - '0');
-            } else {
-                iterator.pushBack();
-                return p;
-            }
-            base /= 10;
-        }
-        return p;
+    static Date createTime(LiteralClassifier classifier) {
+    	return TimeUtil.time(classifier.getHour(), classifier.getMinute(), classifier.getSecond(), classifier.getMillisecond());
     }
     
-    private static Long parseNonNegativeIntegerPart(StringCharacterIterator iterator, boolean leadingZeros) {
-        Long n = null;
-        int c = '0';
-        int digitCount = 0;
-        while (iterator.hasNext() && Character.isDigit(c = iterator.next())) {
-        	digitCount++;
-        	if (n == null)
-        		n = 0L;
-            int d = (c - '0');
-            if (!leadingZeros && digitCount == 2 && n == 0)
-            	return null; //
-			n = n * 10 + d;
-            c = -1;
-        }
-        if (c != -1)
-            iterator.pushBack();
-        return n;
-    }
-
-    private static Object parseNonNegativeNumber(StringCharacterIterator iterator, boolean negative, boolean leadingZeros) {
-        // parse integral number (part)
-        Long n = parseNonNegativeIntegerPart(iterator, leadingZeros);
-        if (n == null)
-        	return null;
-        // handle numbers without fraction digits
-        if (!iterator.hasNext()) {
-            if (n > Integer.MAX_VALUE)
-                return (negative ? -n : n);
-            else
-                return (negative ? - n.intValue() : n.intValue());
-        } else {
-            if (iterator.next() == '.')  {
-                if (!iterator.hasNext())
-                    return (negative ? -(double) n : (double)n);
-            } else
-                return null;
-        }
-        // parse fraction
-        double p = n;
-        double base = 0.1;
-        while (iterator.hasNext()) {
-            char c = iterator.next();
-            if (c >= '0' && c <= '9')
-                p += base * (c - '0');
-            else
-                return null;
-            base /= 10;
+    /** Texts with characters that cannot appear in a number, date or time and failed negative numbers are returned as they are, 
+     *  other texts are trimmed. */
+    private static String unparsedText(String text) {
+        String trimmed = text.trim();
+        if ((trimmed.startsWith("'") && trimmed.endsWith("'")) || (trimmed.startsWith("\"") && trimmed.endsWith("\"")))
+        	return trimmed;
+        if (trimmed.charAt(0) == '-')
+        	return text;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!(c == ':' || c == '-' || c == 'T' || c == '.' || (c >= '0' && c <= '9') || c == ' ' || c == '\t'))
+                return text;
         }
-        return (negative ? -p : p);
+        return trimmed;
     }
     
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.util.Date;
+
+/**
+ * Enumerates the types of literals recognized by the {@link LiteralClassifier}.
+ * The numeric types are declared in ascending order of generality.
+ * Created: 17.10.2026 17:02:45
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public enum LiteralType {
+	
+	BOOLEAN(Boolean.class),
+	INTEGER(Integer.class),
+	LONG(Long.class),
+	DOUBLE(Double.class),
+	DATE(Date.class),
+	TIME(Time.class),
+	STRING(String.class);
+	
+	private final Class<?> javaType;
+
+	private LiteralType(Class<?> javaType) {
+		this.javaType = javaType;
+	}
+	
+	public Class<?> getJavaType() {
+		return javaType;
+	}
+	
+	public boolean isNumeric() {
+		return (this == INTEGER || this == LONG || this == DOUBLE);
+	}
+	
+	/**
+	 * Determines the most specific type which can represent values of this and another type.
+	 * @param other the other type, may be null
+	 * @return the common type
+	 */
+	public LiteralType generalize(LiteralType other) {
+		if (other == null || other == this)
+			return this;
+		if (this.isNumeric() && other.isNumeric())
+			return (this.ordinal() > other.ordinal() ? this : other);
+		return STRING;
+	}
+	
+	public static LiteralType forJavaType(Class<?> javaType) {
+		if (javaType == Boolean.class)
+			return BOOLEAN;
+		else if (javaType == Integer.class || javaType == Short.class || javaType == Byte.class)
+			return INTEGER;
+		else if (javaType == Long.class)
+			return LONG;
+		else if (javaType == Double.class || javaType == Float.class || javaType == BigDecimal.class)
+			return DOUBLE;
+		else if (Time.class.isAssignableFrom(javaType))
+			return TIME;
+		else if (Date.class.isAssignableFrom(javaType))
+			return DATE;
+		else
+			return STRING;
+	}
+	
+}
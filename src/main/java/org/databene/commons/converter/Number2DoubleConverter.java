@@ -22,7 +22,7 @@ import org.databene.commons.ConversionException;
  * @since 0.5.20
  * @author Volker Bergmann
  */
-public class Number2DoubleConverter extends ThreadSafeConverter<Number, Double> {
+public class Number2DoubleConverter extends ThreadSafeConverter<Number, Double> implements DoubleConverter<Number> {
 
 	protected Number2DoubleConverter() {
 		super(Number.class, Double.class);
@@ -33,4 +33,11 @@ public class Number2DoubleConverter extends ThreadSafeConverter<Number, Double>
 		return (sourceValue != null ? sourceValue.doubleValue() : null);
 	}
 
+	@Override
+	public double convertToDouble(Number sourceValue) throws ConversionException {
+		if (sourceValue == null)
+			throw new ConversionException("Cannot convert null to double");
+		return sourceValue.doubleValue();
+	}
+
 }
@@ -23,7 +23,7 @@ import org.databene.commons.ConversionException;
  * @author Volker Bergmann
  *
  */
-public class Number2IntegerConverter extends ThreadSafeConverter<Number, Integer> {
+public class Number2IntegerConverter extends ThreadSafeConverter<Number, Integer> implements IntConverter<Number> {
 
 	public Number2IntegerConverter() {
 		super(Number.class, Integer.class);
@@ -34,4 +34,11 @@ public class Number2IntegerConverter extends ThreadSafeConverter<Number, Integer
 		return (sourceValue != null ? sourceValue.intValue() : null); 
 	}
 
+	@Override
+	public int convertToInt(Number sourceValue) throws ConversionException {
+		if (sourceValue == null)
+			throw new ConversionException("Cannot convert null to int");
+		return sourceValue.intValue();
+	}
+
 }
@@ -22,7 +22,7 @@ import org.databene.commons.ConversionException;
  * @since 0.5.20
  * @author Volker Bergmann
  */
-public class Number2LongConverter extends ThreadSafeConverter<Number, Long> {
+public class Number2LongConverter extends ThreadSafeConverter<Number, Long> implements LongConverter<Number> {
 
 	protected Number2LongConverter() {
 		super(Number.class, Long.class);
@@ -33,4 +33,11 @@ public class Number2LongConverter extends ThreadSafeConverter<Number, Long> {
 		return (sourceValue != null ? sourceValue.longValue() : null);
 	}
 
+	@Override
+	public long convertToLong(Number sourceValue) throws ConversionException {
+		if (sourceValue == null)
+			throw new ConversionException("Cannot convert null to long");
+		return sourceValue.longValue();
+	}
+
 }
@@ -15,8 +15,9 @@
 package org.databene.commons.converter;
 
 import org.databene.commons.ConversionException;
+import org.databene.commons.format.CompiledDecimalFormat;
 
-import java.text.*;
+import java.text.DecimalFormatSymbols;
 import java.util.Locale;
 
 /**
@@ -29,25 +30,29 @@ public class Number2StringConverter extends ThreadSafeConverter<Number, String>
     private int minimumFractionDigits;
     private int maximumFractionDigits;
     boolean groupingUsed;
+    private CompiledDecimalFormat format;
 
     public Number2StringConverter(int minimumFractionDigits, int maximumFractionDigits, boolean groupingUsed) {
     	super(Number.class, String.class);
         this.minimumFractionDigits = minimumFractionDigits;
         this.maximumFractionDigits = maximumFractionDigits;
         this.groupingUsed = groupingUsed;
+        this.format = createFormat(minimumFractionDigits, maximumFractionDigits, groupingUsed);
     }
 
     @Override
 	public String convert(Number sourceValue) throws ConversionException {
-        return convert(sourceValue, minimumFractionDigits, maximumFractionDigits, groupingUsed);
+        return format.format(sourceValue);
     }
 
     public static String convert(Number sourceValue, int minimumFractionDigits, int maximumFractionDigits, boolean groupingUsed) {
-        NumberFormat format = NumberFormat.getInstance(Locale.US);
-        format.setMinimumFractionDigits(minimumFractionDigits);
-        format.setMaximumFractionDigits(maximumFractionDigits);
-        format.setGroupingUsed(groupingUsed);
-        return format.format(sourceValue);
+        return createFormat(minimumFractionDigits, maximumFractionDigits, groupingUsed).format(sourceValue);
+    }
+
+    private static CompiledDecimalFormat createFormat(int minimumFractionDigits, int maximumFractionDigits, boolean groupingUsed) {
+    	// renders like NumberFormat.getInstance(Locale.US) with the given settings
+    	return CompiledDecimalFormat.forFractionDigits(minimumFractionDigits, maximumFractionDigits, groupingUsed, 
+    			DecimalFormatSymbols.getInstance(Locale.US));
     }
     
 }
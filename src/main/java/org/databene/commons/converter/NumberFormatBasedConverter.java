@@ -14,16 +14,18 @@
  */
 package org.databene.commons.converter;
 
-import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 
 import org.databene.commons.ConversionException;
 import org.databene.commons.NullSafeComparator;
+import org.databene.commons.format.AppendableFormatting;
+import org.databene.commons.format.CompiledDecimalFormat;
 
 /**
- * Holds a {@link NumberFormat} and exhibits properties for its configuration.
+ * Holds a {@link NumberFormat} and exhibits properties for its configuration. 
+ * The format is a thread-safe {@link CompiledDecimalFormat}, which is replaced on each configuration change.
  * Created: 26.02.2010 08:37:23
  * @param <S> the object type to convert from
  * @param <T> the object type to convert to
@@ -44,7 +46,7 @@ public abstract class NumberFormatBasedConverter<S, T> extends AbstractConverter
 	private String pattern;
 	private char decimalSeparator;
 	private char groupingSeparator;
-	protected DecimalFormat format;
+	protected CompiledDecimalFormat format;
 
 	/** The string used to represent null values */
     private String nullString;
@@ -71,8 +73,7 @@ public abstract class NumberFormatBasedConverter<S, T> extends AbstractConverter
 
 	public void setPattern(String pattern) {
 		this.pattern = pattern;
-		this.format = new DecimalFormat(pattern);
-		setDecimalSeparator(decimalSeparator);
+		updateFormat();
 	}
 
 	public char getDecimalSeparator() {
@@ -98,7 +99,7 @@ public abstract class NumberFormatBasedConverter<S, T> extends AbstractConverter
 		if (groupingSeparator != 0)
 			newSymbols.setGroupingSeparator(groupingSeparator);
 		newSymbols.setDecimalSeparator(this.decimalSeparator);
-		format.setDecimalFormatSymbols(newSymbols);
+		this.format = new CompiledDecimalFormat(pattern, newSymbols);
     }
 
 	public String getNullString() {
@@ -113,6 +114,12 @@ public abstract class NumberFormatBasedConverter<S, T> extends AbstractConverter
 		return (input != null ? format.format(input) : nullString);
 	}
 
+	protected <E extends Appendable> E format(Number input, E toAppendTo) {
+		if (input == null)
+			return AppendableFormatting.append(nullString, toAppendTo);
+		return AppendableFormatting.format(format, input, toAppendTo);
+	}
+
 	protected Number parse(String input) throws ConversionException {
 		if (input == null || NullSafeComparator.equals(input, nullString))
 			return null;
@@ -133,7 +140,7 @@ public abstract class NumberFormatBasedConverter<S, T> extends AbstractConverter
 	
 	@Override
 	public boolean isThreadSafe() {
-	    return false;
+	    return true;
 	}
 	
 	@Override
@@ -146,7 +153,7 @@ public abstract class NumberFormatBasedConverter<S, T> extends AbstractConverter
 	public Object clone() {
 	    try {
 	        NumberFormatBasedConverter<S, T> copy = (NumberFormatBasedConverter<S, T>) super.clone();
-	        copy.format = (DecimalFormat) format.clone();
+	        copy.format = (CompiledDecimalFormat) format.clone();
 	        return copy;
         } catch (CloneNotSupportedException e) {
         	throw new RuntimeException(e);
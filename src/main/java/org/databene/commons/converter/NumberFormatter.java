@@ -43,4 +43,15 @@ public class NumberFormatter extends NumberFormatBasedConverter<Number, String>
 		return format(value);
 	}
 	
+	/**
+	 * Appends the formatted number to an {@link Appendable} without creating a String.
+	 * @param value the number to format
+	 * @param toAppendTo the target to which to append the formatted number
+	 * @param <E> the type of the target
+	 * @return the target
+	 */
+	public <E extends Appendable> E convert(Number value, E toAppendTo) throws ConversionException {
+		return format(value, toAppendTo);
+	}
+	
 }
@@ -0,0 +1,318 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+
+/**
+ * Parses decimal number literals from {@link CharSequence} and <code>char[]</code> ranges 
+ * without creating substrings and without reflection. <code>int</code>, <code>long</code> 
+ * and <code>double</code> values are parsed directly from the characters; for other number types 
+ * and values which cannot be represented exactly on the fast path, the JDK parsers are used.
+ * Leading and trailing whitespace is ignored.
+ * Created: 17.10.2026 15:26:04
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class NumberLiteralParser {
+	
+	/** The largest integer up to which all integers can be represented exactly as double */
+	private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+	
+	/** Powers of ten which can be represented exactly as double */
+	private static final double[] EXACT_POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	
+	/** The maximum number of decimal digits which is guaranteed to fit into a long */
+	private static final int MAX_LONG_DIGITS = 18;
+	
+	private NumberLiteralParser() { }
+	
+	// type support ----------------------------------------------------------------------------------------------------
+	
+	public static boolean isSupported(Class<?> numberType) {
+		return (numberType == Integer.class || numberType == int.class 
+				|| numberType == Long.class || numberType == long.class 
+				|| numberType == Double.class || numberType == double.class 
+				|| numberType == Float.class || numberType == float.class
+				|| numberType == Short.class || numberType == short.class
+				|| numberType == Byte.class || numberType == byte.class
+				|| numberType == BigDecimal.class || numberType == BigInteger.class
+				|| numberType == Number.class);
+	}
+	
+	/**
+	 * Parses a range of characters as a number of the requested type.
+	 * A request for the type {@link Number} yields a {@link Double}.
+	 * @param text the text that contains the number literal
+	 * @param start the index of the first character to parse (inclusive)
+	 * @param end the index of the last character to parse (exclusive)
+	 * @param numberType the type of the number to create
+	 * @param <T> the type of the number to create
+	 * @return a number of the requested type
+	 * @throws NumberFormatException if the text is not a valid number literal of the requested type
+	 * @throws IllegalArgumentException if the number type is not supported
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Number> T parse(CharSequence text, int start, int end, Class<T> numberType) {
+		if (numberType == Integer.class || numberType == int.class)
+			return (T) Integer.valueOf(parseInt(text, start, end));
+		else if (numberType == Long.class || numberType == long.class)
+			return (T) Long.valueOf(parseLong(text, start, end));
+		else if (numberType == Double.class || numberType == double.class || numberType == Number.class)
+			return (T) Double.valueOf(parseDouble(text, start, end));
+		else if (numberType == BigDecimal.class)
+			return (T) parseBigDecimal(text, start, end);
+		else if (numberType == BigInteger.class)
+			return (T) parseBigInteger(text, start, end);
+		else if (numberType == Float.class || numberType == float.class)
+			return (T) Float.valueOf(parseFloat(text, start, end));
+		else if (numberType == Short.class || numberType == short.class)
+			return (T) Short.valueOf((short) parseLong(text, start, end, Short.MIN_VALUE, Short.MAX_VALUE));
+		else if (numberType == Byte.class || numberType == byte.class)
+			return (T) Byte.valueOf((byte) parseLong(text, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE));
+		else
+			throw new IllegalArgumentException("Not a supported number type: " + numberType);
+	}
+
+	public static <T extends Number> T parse(char[] chars, int start, int end, Class<T> numberType) {
+		return parse(CharBuffer.wrap(chars), start, end, numberType);
+	}
+	
+	// int parsing -----------------------------------------------------------------------------------------------------
+	
+	public static int parseInt(CharSequence text) {
+		return parseInt(text, 0, text.length());
+	}
+	
+	public static int parseInt(CharSequence text, int start, int end) {
+		return (int) parseLong(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+	
+	public static int parseInt(char[] chars, int start, int end) {
+		return parseInt(CharBuffer.wrap(chars), start, end);
+	}
+	
+	// long parsing ----------------------------------------------------------------------------------------------------
+	
+	public static long parseLong(CharSequence text) {
+		return parseLong(text, 0, text.length());
+	}
+	
+	public static long parseLong(CharSequence text, int start, int end) {
+		return parseLong(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+	
+	public static long parseLong(char[] chars, int start, int end) {
+		return parseLong(CharBuffer.wrap(chars), start, end);
+	}
+	
+	private static long parseLong(CharSequence text, int start, int end, long min, long max) {
+		while (start < end && text.charAt(start) <= ' ')
+			start++;
+		while (end > start && text.charAt(end - 1) <= ' ')
+			end--;
+		if (start == end)
+			throw numberFormatException(text, start, end);
+		int i = start;
+		boolean negative = false;
+		char c = text.charAt(i);
+		if (c == '-' || c == '+') {
+			negative = (c == '-');
+			if (++i == end)
+				throw numberFormatException(text, start, end);
+		}
+		// accumulating negatively allows for representing Long.MIN_VALUE
+		long limit = (negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+		long multiplicationLimit = limit / 10;
+		long result = 0;
+		for (; i < end; i++) {
+			int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9 || result < multiplicationLimit)
+				throw numberFormatException(text, start, end);
+			result *= 10;
+			if (result < limit + digit)
+				throw numberFormatException(text, start, end);
+			result -= digit;
+		}
+		if (!negative)
+			result = -result;
+		if (result < min || result > max)
+			throw new NumberFormatException("Value out of range: " + text.subSequence(start, end));
+		return result;
+	}
+	
+	// double parsing --------------------------------------------------------------------------------------------------
+	
+	public static double parseDouble(CharSequence text) {
+		return parseDouble(text, 0, text.length());
+	}
+	
+	public static double parseDouble(char[] chars, int start, int end) {
+		return parseDouble(CharBuffer.wrap(chars), start, end);
+	}
+	
+	/**
+	 * Parses a decimal literal with optional fraction and exponent. Literals whose digits fit into 
+	 * a double's 53 bit mantissa and which have a decimal exponent of at most 22 are calculated directly, 
+	 * since the result is guaranteed to be rounded correctly; all other literals are delegated to 
+	 * {@link Double#parseDouble(String)}.
+	 * @param text the text that contains the number literal
+	 * @param start the index of the first character to parse (inclusive)
+	 * @param end the index of the last character to parse (exclusive)
+	 * @return the parsed double value
+	 * @throws NumberFormatException if the text is not a valid number literal
+	 */
+	public static double parseDouble(CharSequence text, int start, int end) {
+		int i = start;
+		while (i < end && text.charAt(i) <= ' ')
+			i++;
+		int last = end;
+		while (last > i && text.charAt(last - 1) <= ' ')
+			last--;
+		boolean negative = false;
+		if (i < last) {
+			char c = text.charAt(i);
+			if (c == '-' || c == '+') {
+				negative = (c == '-');
+				i++;
+			}
+		}
+		long mantissa = 0;
+		int significantDigits = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean fraction = false;
+		for (; i < last; i++) {
+			char c = text.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digits++;
+				if (mantissa != 0 || c != '0')
+					significantDigits++;
+				if (significantDigits > MAX_LONG_DIGITS)
+					return slowParseDouble(text, start, end);
+				mantissa = mantissa * 10 + (c - '0');
+				if (fraction)
+					exponent--;
+			} else if (c == '.' && !fraction) {
+				fraction = true;
+			} else
+				break;
+		}
+		if (digits == 0)
+			return slowParseDouble(text, start, end);
+		if (i < last) {
+			char c = text.charAt(i);
+			if (c != 'e' && c != 'E')
+				return slowParseDouble(text, start, end);
+			// scan the exponent by hand: an optional sign followed by at least one digit and nothing else
+			i++;
+			boolean negativeExponent = false;
+			if (i < last && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+				negativeExponent = (text.charAt(i++) == '-');
+			if (i == last)
+				return slowParseDouble(text, start, end);
+			int exponentValue = 0;
+			for (; i < last; i++) {
+				c = text.charAt(i);
+				if (c < '0' || c > '9' || exponentValue > 1000)
+					return slowParseDouble(text, start, end);
+				exponentValue = exponentValue * 10 + (c - '0');
+			}
+			exponent += (negativeExponent ? -exponentValue : exponentValue);
+		}
+		if (mantissa == 0)
+			return (negative ? -0. : 0.);
+		if (mantissa > MAX_EXACT_DOUBLE_INTEGER || exponent < -22 || exponent > 22)
+			return slowParseDouble(text, start, end);
+		double result = (exponent >= 0 ? mantissa * EXACT_POWERS_OF_TEN[exponent] : mantissa / EXACT_POWERS_OF_TEN[-exponent]);
+		return (negative ? -result : result);
+	}
+	
+	private static double slowParseDouble(CharSequence text, int start, int end) {
+		return Double.parseDouble(text.subSequence(start, end).toString());
+	}
+	
+	// other number types ----------------------------------------------------------------------------------------------
+	
+	public static float parseFloat(CharSequence text, int start, int end) {
+		return Float.parseFloat(text.subSequence(start, end).toString());
+	}
+	
+	public static BigInteger parseBigInteger(CharSequence text, int start, int end) {
+		if (end - start <= MAX_LONG_DIGITS)
+			return BigInteger.valueOf(parseLong(text, start, end));
+		else
+			return new BigInteger(text.subSequence(start, end).toString().trim());
+	}
+	
+	/**
+	 * Parses a {@link BigDecimal}, creating it directly from an unscaled long value 
+	 * if the literal has no exponent and at most 18 digits.
+	 * @param text the text that contains the number literal
+	 * @param start the index of the first character to parse (inclusive)
+	 * @param end the index of the last character to parse (exclusive)
+	 * @return the parsed value
+	 * @throws NumberFormatException if the text is not a valid number literal
+	 */
+	public static BigDecimal parseBigDecimal(CharSequence text, int start, int end) {
+		int i = start;
+		while (i < end && text.charAt(i) <= ' ')
+			i++;
+		int last = end;
+		while (last > i && text.charAt(last - 1) <= ' ')
+			last--;
+		int literalStart = i;
+		boolean negative = false;
+		if (i < last) {
+			char c = text.charAt(i);
+			if (c == '-' || c == '+') {
+				negative = (c == '-');
+				i++;
+			}
+		}
+		long unscaled = 0;
+		int digits = 0;
+		int scale = 0;
+		boolean fraction = false;
+		for (; i < last; i++) {
+			char c = text.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (++digits > MAX_LONG_DIGITS)
+					break;
+				unscaled = unscaled * 10 + (c - '0');
+				if (fraction)
+					scale++;
+			} else if (c == '.' && !fraction) {
+				fraction = true;
+			} else
+				break;
+		}
+		if (i < last || digits == 0)
+			return new BigDecimal(text.subSequence(literalStart, last).toString());
+		return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private static NumberFormatException numberFormatException(CharSequence text, int start, int end) {
+		return new NumberFormatException("For input string: \"" + text.subSequence(start, end) + "\"");
+	}
+	
+}
@@ -24,7 +24,8 @@ import org.databene.commons.ConversionException;
  * @since 0.4.4
  * @author Volker Bergmann
  */
-public class NumberParser extends NumberFormatBasedConverter<String, Number> {
+public class NumberParser extends NumberFormatBasedConverter<String, Number> 
+		implements IntConverter<String>, LongConverter<String>, DoubleConverter<String> {
 	
     // constructors ----------------------------------------------------------------------------------------------------
 
@@ -43,4 +44,26 @@ public class NumberParser extends NumberFormatBasedConverter<String, Number> {
 		return parse(target);
 	}
 	
+	@Override
+	public int convertToInt(String sourceValue) throws ConversionException {
+		return parseNotNull(sourceValue).intValue();
+	}
+
+	@Override
+	public long convertToLong(String sourceValue) throws ConversionException {
+		return parseNotNull(sourceValue).longValue();
+	}
+
+	@Override
+	public double convertToDouble(String sourceValue) throws ConversionException {
+		return parseNotNull(sourceValue).doubleValue();
+	}
+
+	private Number parseNotNull(String sourceValue) {
+		Number result = parse(sourceValue);
+		if (result == null)
+			throw new ConversionException("Cannot convert '" + sourceValue + "' to a primitive number");
+		return result;
+	}
+	
 }
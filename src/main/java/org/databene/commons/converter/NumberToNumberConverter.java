@@ -14,6 +14,7 @@
  */
 package org.databene.commons.converter;
 
+import org.databene.commons.ConversionException;
 import org.databene.commons.Converter;
 
 import java.math.BigInteger;
@@ -26,7 +27,8 @@ import java.math.BigDecimal;
  * @param <T> the number type to convert to
  * @author Volker Bergmann
  */
-public class NumberToNumberConverter<S extends Number, T extends Number> extends ConverterProxy<S, T> {
+public class NumberToNumberConverter<S extends Number, T extends Number> extends ConverterProxy<S, T> 
+		implements IntConverter<S>, LongConverter<S>, DoubleConverter<S> {
 
 	@SuppressWarnings("unchecked")
 	public NumberToNumberConverter(Class<T> targetType) {
@@ -59,6 +61,27 @@ public class NumberToNumberConverter<S extends Number, T extends Number> extends
 		    throw new IllegalArgumentException("Not a supported number type: " + targetType);
 	}
 
+	@Override
+	public int convertToInt(S sourceValue) throws ConversionException {
+		return checkNotNull(sourceValue).intValue();
+	}
+
+	@Override
+	public long convertToLong(S sourceValue) throws ConversionException {
+		return checkNotNull(sourceValue).longValue();
+	}
+
+	@Override
+	public double convertToDouble(S sourceValue) throws ConversionException {
+		return checkNotNull(sourceValue).doubleValue();
+	}
+
+	private static <N extends Number> N checkNotNull(N sourceValue) {
+		if (sourceValue == null)
+			throw new ConversionException("Cannot convert null to a primitive number");
+		return sourceValue;
+	}
+
 	/**
      * Converts a number of one number type to another number type.
      * @param src the number to convert
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import org.databene.commons.Factory;
+
+/**
+ * Thread-safe pool of reusable objects which are not thread-safe themselves, like non-thread-safe 
+ * converters or {@link java.text.Format}s. The pool is split into stripes with individual locks; 
+ * each thread borrows from and returns to the stripe its id is mapped to, so threads rarely contend. 
+ * Each stripe keeps a bounded number of idle objects, surplus objects are left to the garbage collector, 
+ * and objects that have been idle longer than the configured time are evicted. Eviction sweeps all stripes 
+ * at most once per idle period, so stripes of threads that have stopped using the pool are emptied as well.
+ * Created: 17.10.2026 23:12:40
+ * @param <E> the type of the pooled objects
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ObjectPool<E> {
+	
+	public static final int DEFAULT_MAX_IDLE_PER_STRIPE = 4;
+	public static final long DEFAULT_MAX_IDLE_MILLIS = 60000;
+	
+	private final Factory<E> factory;
+	private final Stripe[] stripes;
+	private final int stripeMask;
+	private final long maxIdleNanos;
+	private volatile long nextSweep;
+	
+	public ObjectPool(Factory<E> factory) {
+		this(factory, 2 * Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_IDLE_PER_STRIPE, DEFAULT_MAX_IDLE_MILLIS);
+	}
+
+	/**
+	 * @param factory creates new objects when the pool has no idle object
+	 * @param stripeCount the number of stripes, rounded up to a power of two
+	 * @param maxIdlePerStripe the maximum number of idle objects kept per stripe
+	 * @param maxIdleMillis the time after which an idle object is evicted
+	 */
+	public ObjectPool(Factory<E> factory, int stripeCount, int maxIdlePerStripe, long maxIdleMillis) {
+		if (maxIdlePerStripe < 1)
+			throw new IllegalArgumentException("maxIdlePerStripe must be positive");
+		this.factory = factory;
+		int count = 1;
+		while (count < stripeCount)
+			count <<= 1;
+		this.stripes = new Stripe[count];
+		for (int i = 0; i < count; i++)
+			stripes[i] = new Stripe(maxIdlePerStripe);
+		this.stripeMask = count - 1;
+		this.maxIdleNanos = maxIdleMillis * 1000000L;
+		this.nextSweep = System.nanoTime() + maxIdleNanos;
+	}
+	
+	/**
+	 * Provides an idle object of the current thread's stripe or a new one. 
+	 * It must be returned by {@link #release(Object)} after use.
+	 * @return an object for exclusive use by the caller
+	 */
+	@SuppressWarnings("unchecked")
+	public E borrow() {
+		long now = System.nanoTime();
+		sweepIfDue(now);
+		Object result = stripes[stripeIndex()].poll(now - maxIdleNanos);
+		return (result != null ? (E) result : factory.create());
+	}
+
+	/**
+	 * Returns an object to the current thread's stripe. If the stripe is full, the object is dropped.
+	 * @param object the object to return
+	 */
+	public void release(E object) {
+		if (object != null) {
+			long now = System.nanoTime();
+			sweepIfDue(now);
+			stripes[stripeIndex()].offer(object, now, maxIdleNanos);
+		}
+	}
+
+	public int getIdleCount() {
+		int count = 0;
+		for (Stripe stripe : stripes)
+			count += stripe.size();
+		return count;
+	}
+
+	/** Removes the objects that have been idle longer than the configured time from all stripes. */
+	public void evictIdle() {
+		long now = System.nanoTime();
+		nextSweep = now + maxIdleNanos;
+		long expiryLimit = now - maxIdleNanos;
+		for (Stripe stripe : stripes)
+			stripe.evictExpired(expiryLimit);
+	}
+
+	/** Removes all idle objects from the pool. */
+	public void clear() {
+		for (Stripe stripe : stripes)
+			stripe.clear();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[stripes=" + stripes.length + ", idle=" + getIdleCount() + "]";
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private void sweepIfDue(long now) {
+		if (now - nextSweep >= 0)
+			evictIdle();
+	}
+
+	private int stripeIndex() {
+		long id = Thread.currentThread().getId();
+		return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & stripeMask;
+	}
+
+	private static final class Stripe {
+		
+		// idle objects, the oldest one at index 0
+		private final Object[] objects;
+		private final long[] releaseTimes;
+		private int size;
+		
+		Stripe(int capacity) {
+			this.objects = new Object[capacity];
+			this.releaseTimes = new long[capacity];
+			this.size = 0;
+		}
+
+		synchronized Object poll(long expiryLimit) {
+			evict(expiryLimit);
+			if (size == 0)
+				return null;
+			Object result = objects[--size];
+			objects[size] = null;
+			return result;
+		}
+
+		synchronized void offer(Object object, long now, long maxIdleNanos) {
+			evict(now - maxIdleNanos);
+			if (size < objects.length) {
+				objects[size] = object;
+				releaseTimes[size++] = now;
+			}
+		}
+
+		synchronized int size() {
+			return size;
+		}
+
+		synchronized void evictExpired(long expiryLimit) {
+			evict(expiryLimit);
+		}
+
+		synchronized void clear() {
+			for (int i = 0; i < size; i++)
+				objects[i] = null;
+			size = 0;
+		}
+
+		private void evict(long expiryLimit) {
+			int expired = 0;
+			while (expired < size && releaseTimes[expired] - expiryLimit < 0)
+				expired++;
+			if (expired > 0) {
+				System.arraycopy(objects, expired, objects, 0, size - expired);
+				System.arraycopy(releaseTimes, expired, releaseTimes, 0, size - expired);
+				for (int i = size - expired; i < size; i++)
+					objects[i] = null;
+				size -= expired;
+			}
+		}
+	}
+
+}
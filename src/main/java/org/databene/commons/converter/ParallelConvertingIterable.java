@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.util.concurrent.ExecutorService;
+
+import org.databene.commons.Converter;
+import org.databene.commons.iterator.ParallelConvertingIterator;
+
+/**
+ * Iterable that provides {@link ParallelConvertingIterator}s, 
+ * which convert the elements of the wrapped iterable on several threads and provide them in their original order.
+ * The iterators should be closed when an iteration is abandoned, e.g. by a try-with-resources block.
+ * Created: 17.10.2026 19:48:02
+ * @param <S> the object type to convert from
+ * @param <T> the object type to convert to
+ * @since 1.0.13
+ * @see ConvertingIterable
+ * @author Volker Bergmann
+ */
+public class ParallelConvertingIterable<S, T> extends ConvertingIterable<S, T> {
+	
+	private ExecutorService executor;
+	private int threadCount;
+	private int chunkSize;
+
+	public ParallelConvertingIterable(Iterable<S> iterable, Converter<S, T> converter) {
+		this(iterable, converter, Runtime.getRuntime().availableProcessors(), ParallelConvertingIterator.DEFAULT_CHUNK_SIZE);
+	}
+
+	public ParallelConvertingIterable(Iterable<S> iterable, Converter<S, T> converter, int threadCount, int chunkSize) {
+		this(iterable, converter, null, threadCount, chunkSize);
+	}
+
+	public ParallelConvertingIterable(Iterable<S> iterable, Converter<S, T> converter, 
+			ExecutorService executor, int threadCount, int chunkSize) {
+		super(iterable, converter);
+		this.executor = executor;
+		this.threadCount = threadCount;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public ParallelConvertingIterator<S, T> iterator() {
+		return new ParallelConvertingIterator<S, T>(this.iterable.iterator(), converter, executor, threadCount, chunkSize);
+	}
+	
+}
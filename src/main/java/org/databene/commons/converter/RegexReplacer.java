@@ -17,6 +17,7 @@ package org.databene.commons.converter;
 import java.util.regex.Pattern;
 
 import org.databene.commons.ConversionException;
+import org.databene.commons.PatternCache;
 
 /**
  * Converts strings using a regular expression.
@@ -46,7 +47,7 @@ public class RegexReplacer extends ThreadSafeConverter<String, String> {
     }
 
 	public void setPattern(String pattern) {
-	    this.pattern = Pattern.compile(pattern);
+	    this.pattern = PatternCache.compile(pattern);
     }
 
 	@Override
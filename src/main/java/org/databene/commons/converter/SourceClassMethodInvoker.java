@@ -14,14 +14,21 @@
  */
 package org.databene.commons.converter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import org.databene.commons.BeanUtil;
 import org.databene.commons.ConversionException;
 import org.databene.commons.Converter;
+import org.databene.commons.ExceptionMapper;
 
 /**
- * {@link Converter} implementation which invokes a no-arg method on the source object.
+ * {@link Converter} implementation which invokes a no-arg method on the source object. 
+ * The method is resolved to a {@link MethodHandle} once on creation, 
+ * inaccessible methods are invoked by reflection.
  * Created: 27.02.2010 06:53:27
  * @param <S> the object type to convert from
  * @param <T> the object type to convert to
@@ -31,16 +38,31 @@ import org.databene.commons.Converter;
 public class SourceClassMethodInvoker<S, T> extends ThreadSafeConverter<S, T> {
 	
 	private Method method;
+	private MethodHandle handle;
 
 	protected SourceClassMethodInvoker(Class<S> sourceType, Class<T> targetType, Method method) {
 	    super(sourceType, targetType);
 	    this.method = method;
+	    try {
+	    	this.handle = MethodHandles.publicLookup().unreflect(method)
+	    			.asType(MethodType.methodType(Object.class, Object.class));
+	    } catch (IllegalAccessException e) {
+	    	this.handle = null;
+	    }
     }
 
 	@Override
 	@SuppressWarnings("unchecked")
     public T convert(S sourceValue) throws ConversionException {
-		return (T) BeanUtil.invoke(sourceValue, method, null);
+		if (handle == null || sourceValue == null)
+			return (T) BeanUtil.invoke(sourceValue, method, null);
+		try {
+			return (T) handle.invokeExact((Object) sourceValue);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw ExceptionMapper.configurationException(new InvocationTargetException(t), method);
+		}
 	}
 
 }
@@ -14,15 +14,22 @@
  */
 package org.databene.commons.converter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import org.databene.commons.BeanUtil;
 import org.databene.commons.ConversionException;
 import org.databene.commons.Converter;
+import org.databene.commons.ExceptionMapper;
 
 /**
  * {@link Converter} implementation which invokes a static method of an arbitrary class 
- * with the object to be converted as argument.
+ * with the object to be converted as argument. The method is resolved to a {@link MethodHandle} once 
+ * on creation, inaccessible methods and arguments which do not match the parameter type exactly 
+ * are handled by reflection with argument conversion.
  * Created: 27.02.2010 06:49:13
  * @param <S> the object type to convert from
  * @param <T> the object type to convert to
@@ -32,16 +39,34 @@ import org.databene.commons.Converter;
 public class StaticTargetClassMethodInvoker<S, T> extends ThreadSafeConverter<S, T> {
 	
 	private Method method;
+	private MethodHandle handle;
+	private Class<?> argType;
 
 	protected StaticTargetClassMethodInvoker(Class<S> sourceType, Class<T> targetType, Method method) {
 	    super(sourceType, targetType);
 	    this.method = method;
+	    Class<?> paramType = method.getParameterTypes()[0];
+	    this.argType = (paramType.isPrimitive() ? BeanUtil.getWrapper(paramType.getName()) : paramType);
+	    try {
+	    	this.handle = MethodHandles.publicLookup().unreflect(method)
+	    			.asType(MethodType.methodType(Object.class, Object.class));
+	    } catch (IllegalAccessException e) {
+	    	this.handle = null;
+	    }
     }
 
 	@Override
 	@SuppressWarnings("unchecked")
     public T convert(S sourceValue) throws ConversionException {
-		return (T) BeanUtil.invoke(null, method, false, new Object[] { sourceValue });
+		if (handle == null || !argType.isInstance(sourceValue))
+			return (T) BeanUtil.invoke(null, method, false, new Object[] { sourceValue });
+		try {
+			return (T) handle.invokeExact((Object) sourceValue);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw ExceptionMapper.configurationException(new InvocationTargetException(t), method);
+		}
 	}
 
 }
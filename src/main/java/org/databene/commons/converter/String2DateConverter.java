@@ -17,11 +17,12 @@ package org.databene.commons.converter;
 import org.databene.commons.ConversionException;
 import org.databene.commons.Patterns;
 import org.databene.commons.StringUtil;
+import org.databene.commons.format.DateFormatCache;
 
+import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
 import java.text.ParseException;
-import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 
 /**
@@ -67,21 +68,11 @@ public class String2DateConverter<E extends Date> extends ThreadSafeConverter<St
     	if (sourceValue == null)
     		return null;
         try {
-            DateFormat format;
-            sourceValue = sourceValue.replace(' ', 'T');
-            if (pattern != null) {
-            	format = new SimpleDateFormat(pattern, locale);
-            } else if (sourceValue.indexOf('T') > 0) {
-                switch (sourceValue.length()) {
-                    case 16 : format = new SimpleDateFormat(DEFAULT_DATETIME_MINUTES_PATTERN); break;
-                    case 19 : format = new SimpleDateFormat(DEFAULT_DATETIME_SECONDS_PATTERN); break;
-                    case 23 : format = new SimpleDateFormat(DEFAULT_DATETIME_MILLIS_PATTERN); break;
-                    default : throw new IllegalArgumentException("Not a supported date format: " + sourceValue);
-                }
-            } else {
-                format = new SimpleDateFormat(DEFAULT_DATE_PATTERN);
-            }
-            java.util.Date simpleDate = format.parse(sourceValue);
+            java.util.Date simpleDate;
+            if (pattern != null)
+            	simpleDate = DateFormatCache.getFormat(pattern, locale).parse(sourceValue);
+            else
+            	simpleDate = parseWithDefaultPattern(sourceValue);
             if (targetType == java.util.Date.class)
                 return simpleDate;
             else if (targetType == java.sql.Date.class)
@@ -94,5 +85,86 @@ public class String2DateConverter<E extends Date> extends ThreadSafeConverter<St
             throw new ConversionException(e);
         }
     }
-    
+
+    // private helpers -------------------------------------------------------------------------------------------------
+
+	private static Date parseWithDefaultPattern(String sourceValue) throws ParseException {
+		Date result = parseIsoShape(sourceValue);
+		if (result != null)
+			return result;
+		// the value does not have the exact ISO shape, so let a SimpleDateFormat parse it leniently
+		sourceValue = sourceValue.replace(' ', 'T');
+		String defaultPattern;
+		if (sourceValue.indexOf('T') > 0) {
+		    switch (sourceValue.length()) {
+		        case 16 : defaultPattern = DEFAULT_DATETIME_MINUTES_PATTERN; break;
+		        case 19 : defaultPattern = DEFAULT_DATETIME_SECONDS_PATTERN; break;
+		        case 23 : defaultPattern = DEFAULT_DATETIME_MILLIS_PATTERN; break;
+		        default : throw new IllegalArgumentException("Not a supported date format: " + sourceValue);
+		    }
+		} else {
+		    defaultPattern = DEFAULT_DATE_PATTERN;
+		}
+		return DateFormatCache.getFormat(defaultPattern).parse(sourceValue);
+	}
+
+	/**
+	 * Parses the fixed-width shapes of the DEFAULT_DATE_PATTERN and DEFAULT_DATETIME_*_PATTERNs 
+	 * by reading the digits directly. The calendar of a cached {@link SimpleDateFormat} 
+	 * is used for calculating the date, so the results are identical to the format's ones.
+	 * @param text the text to parse
+	 * @return the parsed date or null if the text does not have one of the supported shapes
+	 */
+	private static Date parseIsoShape(String text) {
+		int length = text.length();
+		if (length != 10 && length != 16 && length != 19 && length != 23)
+			return null;
+		if (text.charAt(4) != '-' || text.charAt(7) != '-')
+			return null;
+		int year = digits(text, 0, 4);
+		int month = digits(text, 5, 2);
+		int day = digits(text, 8, 2);
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		int millis = 0;
+		if (length > 10) {
+			char separator = text.charAt(10);
+			if ((separator != 'T' && separator != ' ') || text.charAt(13) != ':')
+				return null;
+			hour = digits(text, 11, 2);
+			minute = digits(text, 14, 2);
+			if (length > 16) {
+				if (text.charAt(16) != ':')
+					return null;
+				second = digits(text, 17, 2);
+				if (length > 19) {
+					if (text.charAt(19) != '.')
+						return null;
+					millis = digits(text, 20, 3);
+				}
+			}
+		}
+		if ((year | month | day | hour | minute | second | millis) < 0)
+			return null;
+		SimpleDateFormat format = DateFormatCache.getFormat(DEFAULT_DATETIME_MILLIS_PATTERN);
+		Calendar calendar = format.getCalendar();
+		calendar.clear();
+		calendar.set(year, month - 1, day, hour, minute, second);
+		calendar.set(Calendar.MILLISECOND, millis);
+		return calendar.getTime();
+	}
+
+	/** Parses a fixed number of decimal digits and returns -1 if a character is not a digit. */
+	private static int digits(String text, int start, int count) {
+		int result = 0;
+		for (int i = start; i < start + count; i++) {
+			int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9)
+				return -1;
+			result = result * 10 + digit;
+		}
+		return result;
+	}
+	
 }
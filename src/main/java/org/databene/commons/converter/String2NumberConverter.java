@@ -14,21 +14,31 @@
  */
 package org.databene.commons.converter;
 
+import java.lang.reflect.Constructor;
+
 import org.databene.commons.BeanUtil;
 import org.databene.commons.ConversionException;
 import org.databene.commons.StringUtil;
 
 /**
  * Converts {@link String}s to {@link Number}s.
+ * The standard number types are parsed by the {@link NumberLiteralParser}, 
+ * other {@link Number} types by invoking their constructor with a String argument.
  * Created: 27.02.2010 11:22:10
  * @param <T> the {@link Number} type to convert to
  * @since 0.5.0
  * @author Volker Bergmann
  */
-public class String2NumberConverter<T extends Number> extends ConstructorInvoker<String, T> {
+public class String2NumberConverter<T extends Number> extends ThreadSafeConverter<String, T> 
+		implements IntConverter<String>, LongConverter<String>, DoubleConverter<String> {
+
+	/** String constructor of the target type, used only for types unsupported by the {@link NumberLiteralParser} */
+	private Constructor<T> constructor;
 
 	public String2NumberConverter(Class<T> targetType) {
-	    super(String.class, BeanUtil.findConstructor(targetType, String.class));
+	    super(String.class, targetType);
+	    if (!NumberLiteralParser.isSupported(targetType))
+	    	this.constructor = BeanUtil.findConstructor(targetType, String.class);
     }
 
 	@Override
@@ -36,7 +46,52 @@ public class String2NumberConverter<T extends Number> extends ConstructorInvoker
 		if (StringUtil.isEmpty(sourceValue))
 			return null;
 		else
-			return super.convert(sourceValue);
+			return parse(sourceValue);
+	}
+
+	@Override
+	public int convertToInt(String sourceValue) throws ConversionException {
+		try {
+			return NumberLiteralParser.parseInt(checkNotEmpty(sourceValue));
+		} catch (NumberFormatException e) {
+			throw new ConversionException("Not an int value: " + sourceValue, e);
+		}
+	}
+
+	@Override
+	public long convertToLong(String sourceValue) throws ConversionException {
+		try {
+			return NumberLiteralParser.parseLong(checkNotEmpty(sourceValue));
+		} catch (NumberFormatException e) {
+			throw new ConversionException("Not a long value: " + sourceValue, e);
+		}
+	}
+
+	@Override
+	public double convertToDouble(String sourceValue) throws ConversionException {
+		try {
+			return NumberLiteralParser.parseDouble(checkNotEmpty(sourceValue));
+		} catch (NumberFormatException e) {
+			throw new ConversionException("Not a double value: " + sourceValue, e);
+		}
+	}
+
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private T parse(String sourceValue) {
+		if (constructor != null)
+			return BeanUtil.newInstance(constructor, sourceValue);
+		try {
+			return NumberLiteralParser.parse(sourceValue, 0, sourceValue.length(), targetType);
+		} catch (NumberFormatException e) {
+			throw new ConversionException("Not a " + targetType.getSimpleName() + " value: " + sourceValue, e);
+		}
+	}
+
+	private static String checkNotEmpty(String sourceValue) {
+		if (StringUtil.isEmpty(sourceValue))
+			throw new ConversionException("Cannot convert an empty string to a primitive number");
+		return sourceValue;
 	}
 
 }
@@ -17,6 +17,7 @@ package org.databene.commons.converter;
 import java.util.regex.Pattern;
 
 import org.databene.commons.ConversionException;
+import org.databene.commons.PatternCache;
 
 /**
  * Converts a String to a {@link Pattern}.
@@ -33,7 +34,7 @@ public class String2PatternConverter extends ThreadSafeConverter<String, Pattern
 
 	@Override
 	public Pattern convert(String regex) throws ConversionException {
-	    return Pattern.compile(regex);
+	    return PatternCache.compile(regex);
     }
 
 }
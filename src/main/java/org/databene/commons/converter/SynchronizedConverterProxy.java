@@ -39,4 +39,11 @@ public class SynchronizedConverterProxy<S, T> extends ConverterProxy<S, T> {
 		}
     }
 
+	@Override
+	public void convertAll(S[] sourceValues, int fromIndex, int toIndex, T[] targetValues) throws ConversionException {
+		synchronized(realConverter) {
+			realConverter.convertAll(sourceValues, fromIndex, toIndex, targetValues);
+		}
+	}
+
 }
@@ -15,11 +15,10 @@
 package org.databene.commons.converter;
 
 import java.sql.Time;
-import java.text.SimpleDateFormat;
-import java.util.Date;
 
 import org.databene.commons.ConversionException;
 import org.databene.commons.Patterns;
+import org.databene.commons.format.DateRenderCache;
 
 /**
  * Converts {@link Time} objects to {@link String}s.
@@ -28,14 +27,28 @@ import org.databene.commons.Patterns;
  * @author Volker Bergmann
  */
 public class Time2StringConverter extends ThreadSafeConverter<Time, String> {
+	
+	private final DateRenderCache renderer;
 
     public Time2StringConverter() {
         super(Time.class, String.class);
+        this.renderer = new DateRenderCache(Patterns.DEFAULT_TIME_MILLIS_PATTERN);
     }
 
     @Override
 	public String convert(Time target) throws ConversionException {
-        return new SimpleDateFormat(Patterns.DEFAULT_TIME_MILLIS_PATTERN).format(new Date(target.getTime()));
+        return renderer.format(target);
+    }
+
+    /**
+     * Appends the formatted time to an {@link Appendable} without creating a String.
+     * @param target the time to format
+     * @param toAppendTo the target to which to append the formatted time
+     * @param <E> the type of the target
+     * @return the target
+     */
+	public <E extends Appendable> E convert(Time target, E toAppendTo) throws ConversionException {
+        return renderer.format(target.getTime(), toAppendTo);
     }
 
 }
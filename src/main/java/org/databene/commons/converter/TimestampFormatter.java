@@ -15,24 +15,24 @@
 package org.databene.commons.converter;
 
 import java.sql.Timestamp;
-import java.text.DateFormat;
 
 import org.databene.commons.ConversionException;
 import org.databene.commons.Patterns;
-import org.databene.commons.StringUtil;
-import org.databene.commons.format.ConcurrentDateFormat;
-import org.databene.commons.format.ConcurrentDecimalFormat;
+import org.databene.commons.format.AppendableFormatting;
+import org.databene.commons.format.DateRenderCache;
 
 /**
- * Formats a {@link Timestamp} as {@link String}.
+ * Formats a {@link Timestamp} as {@link String}. 
+ * The part up to the seconds is rendered with a {@link DateRenderCache}, the fraction digits are appended directly.
  * Created: 18.02.2010 17:46:14
  * @since 0.5.0
  * @author Volker Bergmann
  */
 public class TimestampFormatter extends ThreadSafeConverter<Timestamp, String> {
 	
-	private DateFormat prefixFormat;
-	private ConcurrentDecimalFormat postfixFormat;
+	private String pattern;
+	private DateRenderCache prefixRenderer;
+	private int postfixDigits;
 	private long nanoDivisor;
 	
 	// constructors ----------------------------------------------------------------------------------------------------
@@ -43,6 +43,7 @@ public class TimestampFormatter extends ThreadSafeConverter<Timestamp, String> {
 
 	public TimestampFormatter(String pattern) {
 		super(Timestamp.class, String.class);
+		this.pattern = pattern;
 		
 		// calculate the number of postfix digits
 		int lastPos = pattern.length() - 1;
@@ -53,16 +54,16 @@ public class TimestampFormatter extends ThreadSafeConverter<Timestamp, String> {
 		// define prefix and postfix patterns
 		String prefixPattern;
 		prefixPattern = (sepPos < lastPos ? pattern.substring(0, sepPos) : pattern);
-	    this.prefixFormat = new ConcurrentDateFormat(prefixPattern);
-		int postfixDigits = lastPos - sepPos;
-		if (postfixDigits > 0) {
-			String postfixPattern = new String(StringUtil.fill(new char[postfixDigits], 0, postfixDigits, '0'));
-		    this.postfixFormat = new ConcurrentDecimalFormat(postfixPattern);
+	    this.prefixRenderer = new DateRenderCache(prefixPattern);
+		this.postfixDigits = lastPos - sepPos;
+		if (postfixDigits > 0)
 		    this.nanoDivisor = (long) Math.pow(10, Math.round(9. - postfixDigits));
-		} else
-			this.postfixFormat = null;
     }
 	
+	public String getPattern() {
+		return pattern;
+	}
+	
 	// Converter interface implementation ------------------------------------------------------------------------------
 
 	@Override
@@ -70,17 +71,35 @@ public class TimestampFormatter extends ThreadSafeConverter<Timestamp, String> {
 	    return format(sourceValue);
     }
 
+	public <E extends Appendable> E convert(Timestamp sourceValue, E toAppendTo) throws ConversionException {
+	    return format(sourceValue, toAppendTo);
+	}
+
 	// static convenience method ---------------------------------------------------------------------------------------
 	
 	public String format(Timestamp timestamp) {
 		if (timestamp == null)
 			return null;
-		String result = prefixFormat.format(timestamp);
-		if (postfixFormat != null) {
-			long postfixDigits = timestamp.getNanos() / nanoDivisor;
-			result += '.' + postfixFormat.format(postfixDigits);
+		return format(timestamp, new StringBuilder(32)).toString();
+	}
+
+	/**
+	 * Appends the formatted timestamp to an {@link Appendable} without creating a String. 
+	 * A null value appends nothing.
+	 * @param timestamp the timestamp to format
+	 * @param toAppendTo the target to which to append the formatted timestamp
+	 * @param <E> the type of the target
+	 * @return the target
+	 */
+	public <E extends Appendable> E format(Timestamp timestamp, E toAppendTo) {
+		if (timestamp == null)
+			return toAppendTo;
+		prefixRenderer.format(timestamp.getTime(), toAppendTo);
+		if (postfixDigits > 0) {
+			AppendableFormatting.append('.', toAppendTo);
+			AppendableFormatting.appendPadded(timestamp.getNanos() / nanoDivisor, postfixDigits, toAppendTo);
 		}
-		return result;
+		return toAppendTo;
 	}
 
 }
@@ -20,6 +20,7 @@ import org.databene.commons.BeanUtil;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Converts arrays and collections to arrays and other object to an array of size 1.
@@ -68,6 +69,39 @@ public class ToArrayConverter extends ThreadSafeConverter {
     	return convert(sourceValue, componentType, true);
     }
 
+    /**
+     * Converts like {@link #convert(Object, Class)} with the target array's component type, 
+     * but writes the result to the target array if it is large enough. 
+     * Like {@link Collection#toArray(Object[])}, the element following the result in a larger 
+     * target array is set to null.
+     * @param sourceValue the value to convert
+     * @param target the array to write the result to
+     * @param <T> the component type of the target array
+     * @return the target array if it is large enough, otherwise a new array
+     */
+    public static <T> T[] convert(Object sourceValue, T[] target) {
+    	Class<?> componentType = target.getClass().getComponentType();
+    	if (sourceValue == null)
+    		sourceValue = Collections.EMPTY_LIST;
+        if (sourceValue instanceof Collection) {
+            Collection col = (Collection) sourceValue;
+            return (T[]) col.toArray(target);
+        } else if (sourceValue.getClass().isArray() && !sourceValue.getClass().getComponentType().isPrimitive()) {
+        	Object[] array = (Object[]) sourceValue;
+        	T[] result = (target.length >= array.length ? target : (T[]) Array.newInstance(componentType, array.length));
+        	System.arraycopy(array, 0, result, 0, array.length);
+        	if (result.length > array.length)
+        		result[array.length] = null;
+        	return result;
+	    } else {
+        	T[] result = (target.length >= 1 ? target : (T[]) Array.newInstance(componentType, 1));
+        	result[0] = (T) sourceValue;
+        	if (result.length > 1)
+        		result[1] = null;
+        	return result;
+	    }
+    }
+
     @SuppressWarnings("cast")
     public static Object convert(Object sourceValue, Class componentType, boolean nullToEmpty) {
     	if (sourceValue == null)
@@ -86,7 +120,14 @@ public class ToArrayConverter extends ThreadSafeConverter {
             else
                 throw new UnsupportedOperationException("Conversion not supported: " + sourceValue.getClass() + " -> " + componentType + "[]");
         } else if (sourceValue.getClass().isArray()) {
-            return ArrayUtil.buildArrayOfType(componentType, (Object[]) sourceValue);
+        	Object[] array = (Object[]) sourceValue;
+        	if (!componentType.isPrimitive() && componentType.isAssignableFrom(array.getClass().getComponentType())) {
+        		// no unboxing required, so the elements can be copied in bulk
+        		Object[] result = (Object[]) Array.newInstance(componentType, array.length);
+        		System.arraycopy(array, 0, result, 0, array.length);
+        		return result;
+        	}
+            return ArrayUtil.buildArrayOfType(componentType, array);
 	    } else  {
 	        return ArrayUtil.buildArrayOfType(componentType, sourceValue);
 	    }
@@ -17,35 +17,59 @@ package org.databene.commons.converter;
 import org.databene.commons.CollectionUtil;
 import org.databene.commons.ConversionException;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
 /**
  * Converts arrays and collections to collections of same content, everything else is converted to a collection of size 1.
+ * In view mode, collections that already match the target type are returned as they are and arrays are 
+ * wrapped with a {@link List} view instead of being copied.
  * Created: 26.08.2007 16:16:15
  * @param <C> the collection type to convert to
  */
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class ToCollectionConverter<C extends Collection> extends ThreadSafeConverter<Object, C> {
+	
+	private final boolean view;
 
     public ToCollectionConverter() {
         this((Class<C>) List.class);
     }
 
     public ToCollectionConverter(Class<C> targetType) {
+        this(targetType, false);
+    }
+
+    public ToCollectionConverter(Class<C> targetType, boolean view) {
         super(Object.class, targetType);
+        this.view = view;
+    }
+    
+    public boolean isView() {
+    	return view;
     }
 
     @Override
 	public C convert(Object sourceValue) throws ConversionException {
-        return (C) convert(sourceValue, targetType);
+        return (C) convert(sourceValue, targetType, view);
     }
 
     public static Collection convert(Object sourceValue, Class targetType) {
+    	return convert(sourceValue, targetType, false);
+    }
+
+    public static Collection convert(Object sourceValue, Class targetType, boolean view) {
         if (sourceValue == null)
             return null;
         if (sourceValue.getClass() == targetType)
             return (Collection) sourceValue;
+        if (view) {
+        	if (targetType.isInstance(sourceValue))
+        		return (Collection) sourceValue;
+        	if (sourceValue instanceof Object[] && targetType.isAssignableFrom(List.class))
+        		return Arrays.asList((Object[]) sourceValue);
+        }
         Collection collection = CollectionUtil.newInstance(targetType);
         if (sourceValue instanceof Collection)
             collection.addAll((Collection) sourceValue);
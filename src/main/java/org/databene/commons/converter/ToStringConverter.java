@@ -15,6 +15,7 @@
 package org.databene.commons.converter;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
@@ -24,6 +25,8 @@ import java.util.Date;
 import org.databene.commons.Capitalization;
 import org.databene.commons.ConversionException;
 import org.databene.commons.Converter;
+import org.databene.commons.format.AppendableFormatting;
+import org.databene.commons.format.DateRenderCache;
 import org.w3c.dom.Node;
 
 /**
@@ -36,6 +39,11 @@ import org.w3c.dom.Node;
 public class ToStringConverter extends FormatHolder implements Converter<Object, String>, Cloneable {
 	
 	private static ToStringConverter singletonInstance = new ToStringConverter();
+	
+	// renderers for the current patterns, created on demand
+	private volatile DateRenderCache dateRenderer;
+	private volatile DateRenderCache timeRenderer;
+	private volatile TimestampFormatter timestampFormatter;
 
     // constructors ----------------------------------------------------------------------------------------------------
 
@@ -108,30 +116,15 @@ public class ToStringConverter extends FormatHolder implements Converter<Object,
         			return String.valueOf(value);
         	}
         } else if (source instanceof Timestamp) {
-        	String result;
-        	if (timestampPattern != null)
-        		result = new TimestampFormatter(timestampPattern).format((Timestamp) source);
-        	else
-        		result = new TimestampFormatter().format((Timestamp) source);
+        	String result = timestampFormatter().format((Timestamp) source);
         	return applyCapitalization(timestampCapitalization, result);
         } else if (source instanceof Time) {
-        	if (timePattern != null)
-        		return new SimpleDateFormat(timePattern).format((Date) source);
-        	else
-        		return new SimpleDateFormat().format((Date) source);
+        	return formatDate(((Date) source).getTime(), timePattern, true, new StringBuilder(16)).toString();
         } else if (source instanceof Date) {
-        	String result;
-        	if (datePattern != null)
-        		result = new SimpleDateFormat(datePattern).format((Date) source);
-        	else
-        		result = new SimpleDateFormat().format((Date) source);
+        	String result = formatDate(((Date) source).getTime(), datePattern, false, new StringBuilder(32)).toString();
         	return applyCapitalization(dateCapitalization, result);
         } else if (source instanceof Calendar) {
-        	String result;
-        	if (datePattern != null)
-        		result = new SimpleDateFormat(datePattern).format(((Calendar) source).getTime());
-        	else
-        		result = new SimpleDateFormat().format(((Calendar) source).getTime());
+        	String result = formatDate(((Calendar) source).getTimeInMillis(), datePattern, false, new StringBuilder(32)).toString();
         	return applyCapitalization(dateCapitalization, result);
         } else if (source instanceof Node) {
         	return XMLNode2StringConverter.format(source);
@@ -142,6 +135,94 @@ public class ToStringConverter extends FormatHolder implements Converter<Object,
         }
     }
 
+	/**
+	 * Appends the String representation of an object to an {@link Appendable} by the same rules as 
+	 * {@link #convert(Object)}, but without creating intermediate Strings for quoted texts, numbers and dates, 
+	 * so that complete rows or files can be rendered into one buffer.
+	 * @param source the object to render
+	 * @param toAppendTo the target to which to append the String representation
+	 * @param <E> the type of the target
+	 * @return the target
+	 */
+	public <E extends Appendable> E convert(Object source, E toAppendTo) throws ConversionException {
+		if (source == null) {
+			if (nullString != null)
+				AppendableFormatting.append(nullString, toAppendTo);
+			return toAppendTo;
+		} else if (source instanceof String) {
+			return appendQuoted((String) source, stringQuote, toAppendTo);
+		} else if (source instanceof Character) {
+			if (charQuote != null)
+				AppendableFormatting.append(charQuote, toAppendTo);
+			AppendableFormatting.append(((Character) source).charValue(), toAppendTo);
+			if (charQuote != null)
+				AppendableFormatting.append(charQuote, toAppendTo);
+			return toAppendTo;
+		}
+		Class<?> sourceType = source.getClass();
+		if (JavaType.isIntegralType(sourceType)) {
+			if (integralConverter != null)
+				return integralConverter.convert((Number) source, toAppendTo);
+			else if (sourceType == BigInteger.class)
+				return AppendableFormatting.append(source.toString(), toAppendTo);
+			else
+				return AppendableFormatting.append(((Number) source).longValue(), toAppendTo);
+		} else if (JavaType.isDecimalType(sourceType)) {
+			if (decimalConverter != null)
+				return decimalConverter.convert((Number) source, toAppendTo);
+			else if (sourceType == BigDecimal.class)
+				return AppendableFormatting.append(source.toString(), toAppendTo);
+			double value = ((Number) source).doubleValue();
+			if (value == Math.floor(value))
+				return AppendableFormatting.append((long) value, toAppendTo);
+			else
+				return AppendableFormatting.append(value, toAppendTo);
+		} else if (source instanceof Timestamp) {
+			if (timestampCapitalization == Capitalization.mixed)
+				return timestampFormatter().format((Timestamp) source, toAppendTo);
+		} else if (source instanceof Time) {
+			return formatDate(((Date) source).getTime(), timePattern, true, toAppendTo);
+		} else if (source instanceof Date) {
+			if (dateCapitalization == Capitalization.mixed)
+				return formatDate(((Date) source).getTime(), datePattern, false, toAppendTo);
+		} else if (source instanceof Calendar) {
+			if (dateCapitalization == Capitalization.mixed)
+				return formatDate(((Calendar) source).getTimeInMillis(), datePattern, false, toAppendTo);
+		}
+		return AppendableFormatting.append(convert(source), toAppendTo);
+	}
+
+	private static <E extends Appendable> E appendQuoted(String text, String quote, E toAppendTo) {
+		if (quote != null)
+			AppendableFormatting.append(quote, toAppendTo);
+		AppendableFormatting.append(text, toAppendTo);
+		if (quote != null)
+			AppendableFormatting.append(quote, toAppendTo);
+		return toAppendTo;
+	}
+
+	private TimestampFormatter timestampFormatter() {
+		String pattern = (timestampPattern != null ? timestampPattern : DEFAULT_TIMESTAMP_PATTERN);
+		TimestampFormatter formatter = this.timestampFormatter;
+		if (formatter == null || !formatter.getPattern().equals(pattern))
+			this.timestampFormatter = formatter = new TimestampFormatter(pattern);
+		return formatter;
+	}
+
+	private <E extends Appendable> E formatDate(long millis, String pattern, boolean time, E toAppendTo) {
+		if (pattern == null)
+			return AppendableFormatting.format(new SimpleDateFormat(), new Date(millis), toAppendTo);
+		DateRenderCache renderer = (time ? this.timeRenderer : this.dateRenderer);
+		if (renderer == null || !renderer.getPattern().equals(pattern)) {
+			renderer = new DateRenderCache(pattern);
+			if (time)
+				this.timeRenderer = renderer;
+			else
+				this.dateRenderer = renderer;
+		}
+		return renderer.format(millis, toAppendTo);
+	}
+
 	private static String applyCapitalization(Capitalization capitalization, String text) {
 		if (text == null)
 			return null;
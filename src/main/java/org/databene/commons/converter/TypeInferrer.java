@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.databene.commons.Converter;
+import org.databene.commons.iterator.TabularIterator;
+
+/**
+ * Infers the column types of tabular text data from a sample of rows. Each cell is classified 
+ * by a {@link LiteralClassifier} and the column type is generalized until it fits all sampled values. 
+ * After sampling, {@link #createColumnConverters()} provides specialized converters, 
+ * so that further rows can be converted without classifying each value again.
+ * Instances are not thread-safe.
+ * Created: 17.10.2026 17:48:30
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class TypeInferrer {
+	
+	private LiteralClassifier classifier;
+	private LiteralType[] columnTypes;
+	private int sampleCount;
+	
+	public TypeInferrer() {
+		this.classifier = new LiteralClassifier();
+		this.columnTypes = new LiteralType[0];
+		this.sampleCount = 0;
+	}
+	
+	/**
+	 * Reads up to maxRows rows from a {@link TabularIterator} and infers their column types. 
+	 * The sampled rows are consumed from the iterator and discarded, so a caller who needs 
+	 * to process all rows must either re-open the data source or use 
+	 * {@link #sample(TabularIterator, int, List)}.
+	 * @param iterator the iterator to read the sample from
+	 * @param maxRows the maximum number of rows to sample
+	 * @return a {@link TypeInferrer} which has sampled the rows
+	 */
+	public static TypeInferrer sample(TabularIterator iterator, int maxRows) {
+		return sample(iterator, maxRows, null);
+	}
+	
+	/**
+	 * Reads up to maxRows rows from a {@link TabularIterator} like {@link #sample(TabularIterator, int)} 
+	 * and hands the consumed rows back in a list.
+	 * @param iterator the iterator to read the sample from
+	 * @param maxRows the maximum number of rows to sample
+	 * @param sampledRows a list to which the sampled rows are added, may be null
+	 * @return a {@link TypeInferrer} which has sampled the rows
+	 */
+	public static TypeInferrer sample(TabularIterator iterator, int maxRows, List<Object[]> sampledRows) {
+		TypeInferrer inferrer = new TypeInferrer();
+		for (int i = 0; i < maxRows && iterator.hasNext(); i++) {
+			Object[] row = iterator.next();
+			inferrer.addRow(row);
+			if (sampledRows != null)
+				sampledRows.add(row);
+		}
+		return inferrer;
+	}
+	
+	/**
+	 * Takes the cells of a row into account for the column types. 
+	 * {@link CharSequence} cells are classified, other cells are judged by their Java type, 
+	 * null and blank cells are ignored.
+	 * @param row the row to sample
+	 */
+	public void addRow(Object[] row) {
+		if (row.length > columnTypes.length) {
+			LiteralType[] newTypes = new LiteralType[row.length];
+			System.arraycopy(columnTypes, 0, newTypes, 0, columnTypes.length);
+			columnTypes = newTypes;
+		}
+		for (int i = 0; i < row.length; i++) {
+			Object cell = row[i];
+			if (cell == null || columnTypes[i] == LiteralType.STRING)
+				continue;
+			LiteralType cellType;
+			if (cell instanceof CharSequence)
+				cellType = classifier.classify((CharSequence) cell);
+			else
+				cellType = LiteralType.forJavaType(cell.getClass());
+			if (cellType != null)
+				columnTypes[i] = cellType.generalize(columnTypes[i]);
+		}
+		sampleCount++;
+	}
+	
+	public int getSampleCount() {
+		return sampleCount;
+	}
+	
+	public int getColumnCount() {
+		return columnTypes.length;
+	}
+	
+	/**
+	 * @param columnIndex the index of the column
+	 * @return the type of the column or null if no value has been found in the column
+	 */
+	public LiteralType getColumnType(int columnIndex) {
+		return (columnIndex < columnTypes.length ? columnTypes[columnIndex] : null);
+	}
+	
+	public LiteralType[] getColumnTypes() {
+		return columnTypes.clone();
+	}
+	
+	/** @return the Java types of the columns, using {@link String} for columns without values */
+	public Class<?>[] getColumnJavaTypes() {
+		Class<?>[] result = new Class<?>[columnTypes.length];
+		for (int i = 0; i < columnTypes.length; i++)
+			result[i] = (columnTypes[i] != null ? columnTypes[i].getJavaType() : String.class);
+		return result;
+	}
+	
+	/**
+	 * Creates a converter for each column which converts a String to the column's type. 
+	 * Numbers and booleans are parsed by dedicated converters, dates and times by a {@link LiteralDateConverter}. 
+	 * Cells which are not Strings are passed through unchanged.
+	 * @return an array with one converter per column
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public Converter[] createColumnConverters() {
+		Converter[] result = new Converter[columnTypes.length];
+		for (int i = 0; i < columnTypes.length; i++)
+			result[i] = new StringCellConverter((Converter) createConverter(columnTypes[i]));
+		return result;
+	}
+	
+	/**
+	 * Creates a converter which converts a complete row of Strings 
+	 * by applying the column converters to the cells of the same index.
+	 * @return a converter for a row with as many cells as columns have been sampled
+	 * @see ArrayConverter
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public Converter<Object[], Object[]> createRowConverter() {
+		return new ArrayConverter(Object.class, Object.class, createColumnConverters());
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + Arrays.toString(columnTypes);
+	}
+	
+	/** Applies a String converter to String cells and passes other cells through. */
+	private static final class StringCellConverter extends ConverterProxy<Object, Object> {
+		
+		StringCellConverter(Converter<Object, Object> realConverter) {
+			super(realConverter);
+		}
+		
+		@Override
+		public Object convert(Object sourceValue) {
+			return (sourceValue instanceof String ? realConverter.convert(sourceValue) : sourceValue);
+		}
+		
+		@Override
+		public Class<Object> getSourceType() {
+			return Object.class;
+		}
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private static Converter<String, ?> createConverter(LiteralType type) {
+		if (type == null)
+			return new NoOpConverter<String>(String.class);
+		switch (type) {
+			case BOOLEAN : return new String2BooleanConverter();
+			case INTEGER : return new String2NumberConverter<Integer>(Integer.class);
+			case LONG    : return new String2NumberConverter<Long>(Long.class);
+			case DOUBLE  : return new String2NumberConverter<Double>(Double.class);
+			case DATE    : return new LiteralDateConverter(false);
+			case TIME    : return new LiteralDateConverter(true);
+			default      : return new NoOpConverter<String>(String.class);
+		}
+	}
+	
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import org.databene.commons.ConversionException;
+import org.databene.commons.Converter;
+
+/**
+ * Adapts a {@link Converter} with a {@link Number} result to the primitive converter interfaces 
+ * {@link IntConverter}, {@link LongConverter} and {@link DoubleConverter}.
+ * It is used for converters which do not support primitive results on their own.
+ * Created: 17.10.2026 14:52:37
+ * @param <S> the object type to convert from
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class UnboxingConverter<S> extends ConverterWrapper<S, Number> 
+		implements IntConverter<S>, LongConverter<S>, DoubleConverter<S> {
+
+	@SuppressWarnings("unchecked")
+	public UnboxingConverter(Converter<S, ? extends Number> realConverter) {
+		super((Converter<S, Number>) realConverter);
+	}
+
+	@Override
+	public int convertToInt(S sourceValue) throws ConversionException {
+		return convertNotNull(sourceValue).intValue();
+	}
+
+	@Override
+	public long convertToLong(S sourceValue) throws ConversionException {
+		return convertNotNull(sourceValue).longValue();
+	}
+
+	@Override
+	public double convertToDouble(S sourceValue) throws ConversionException {
+		return convertNotNull(sourceValue).doubleValue();
+	}
+
+	private Number convertNotNull(S sourceValue) {
+		Number result = realConverter.convert(sourceValue);
+		if (result == null)
+			throw new ConversionException("Cannot convert '" + sourceValue + "' to a primitive number");
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + '[' + realConverter + ']';
+	}
+
+}
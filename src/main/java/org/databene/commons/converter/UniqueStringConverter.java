@@ -14,53 +14,101 @@
  */
 package org.databene.commons.converter;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.databene.commons.ConversionException;
+import org.databene.commons.collection.StripedLongMap;
 
 /**
  * Assures uniqueness for all processed Strings by appending unique numbers to recurring instances.
+ * For each recurring String a counter keeps track of the next suffix to try, so a repetition is resolved 
+ * in constant time. The counters are keyed by a 64-bit fingerprint of the String: if two Strings share 
+ * a fingerprint, they only share the sequence of suffixes to try. The state is held in concurrent structures 
+ * and shared by clones, so the converter can be used by parallel threads. 
+ * In compact mode, only a 64-bit fingerprint and a 64-bit check value of the used Strings are stored, 
+ * which makes the converter applicable for hundreds of millions of values. When a fingerprint is found 
+ * with a different check value, the collision is resolved by storing the colliding String itself, 
+ * so only a collision of both 64-bit values could cause an unneeded suffix. A duplicate result is 
+ * impossible in either case.
  * Created: 24.06.2008 19:41:08
  * @since 0.4.4
  * @author Volker Bergmann
  */
-public class UniqueStringConverter extends AbstractConverter<String, String> {
+public class UniqueStringConverter extends ThreadSafeConverter<String, String> {
 	
-	private static final int MAX_TRIES = 10000;
-	private Set<String> usedStrings;
+	private final Set<String> usedStrings;
+	private final StripedLongMap usedFingerprints;
+	private final StripedLongMap suffixCounters;
 
 	public UniqueStringConverter() {
+		this(false);
+	}
+
+	/**
+	 * @param compact if true, only fingerprints of the used Strings are stored
+	 */
+	public UniqueStringConverter(boolean compact) {
 		super(String.class, String.class);
-		usedStrings = new HashSet<String>();
+		this.usedStrings = ConcurrentHashMap.<String>newKeySet();
+		this.usedFingerprints = (compact ? new StripedLongMap() : null);
+		this.suffixCounters = new StripedLongMap();
+	}
+	
+	public boolean isCompact() {
+		return (usedFingerprints != null);
 	}
 
 	@Override
-	public synchronized String convert(String sourceValue) throws ConversionException {
-		String resultValue = sourceValue;
-		if (usedStrings.contains(sourceValue)) {
-			boolean ok = false;
-			for (int i = 0; !ok && i < MAX_TRIES; i++) {
-				resultValue = sourceValue + i;
-				if (!usedStrings.contains(resultValue)) {
-					ok = true;
-				}
-			}
-			if (!ok)
-				throw new UnsupportedOperationException("not more than " + MAX_TRIES + " identical Strings can be made unique");
+	public String convert(String sourceValue) throws ConversionException {
+		if (sourceValue == null)
+			return null;
+		long fingerprint = fingerprint(sourceValue);
+		if (markUsed(sourceValue, fingerprint))
+			return sourceValue;
+		while (true) {
+			String resultValue = sourceValue + suffixCounters.getAndAdd(fingerprint, 1);
+			if (markUsed(resultValue, fingerprint(resultValue)))
+				return resultValue;
 		}
-		usedStrings.add(resultValue);
-		return resultValue;
 	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
 
-	@Override
-	public boolean isParallelizable() {
-	    return false;
-    }
+	private boolean markUsed(String value, long fingerprint) {
+		if (usedFingerprints == null)
+			return usedStrings.add(value);
+		long check = checkValue(value);
+		if (usedFingerprints.putIfAbsent(fingerprint, check))
+			return true;
+		if (usedFingerprints.get(fingerprint, check) == check)
+			return false;
+		// fingerprint collision of different Strings, so fall back to an exact check
+		return usedStrings.add(value);
+	}
 
-	@Override
-	public boolean isThreadSafe() {
-	    return true;
-    }
+	/** Calculates a 64-bit FNV-1a hash with a final avalanche step. */
+	long fingerprint(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	/** Calculates a 64-bit multiplicative hash which is independent of the {@link #fingerprint(String)}. */
+	long checkValue(String value) {
+		long hash = value.length();
+		for (int i = 0; i < value.length(); i++)
+			hash = (hash + value.charAt(i)) * 0x9e3779b97f4a7c15L;
+		hash ^= hash >>> 29;
+		hash *= 0xbf58476d1ce4e5b9L;
+		hash ^= hash >>> 32;
+		return hash;
+	}
 
 }
@@ -17,6 +17,8 @@ package org.databene.commons.file;
 import java.io.File;
 import java.util.regex.Pattern;
 
+import org.databene.commons.PatternCache;
+
 /**
  * {@link FileFilter} that can be configured to accepted files and/or folders 
  * based on a regular expression.
@@ -31,7 +33,7 @@ public class PatternFileFilter implements FileFilter {
 	private boolean acceptingFolders;
 
 	public PatternFileFilter(String regex, boolean acceptingFiles, boolean acceptingFolders) {
-	    this.pattern = (regex != null ? Pattern.compile(regex) : null);
+	    this.pattern = (regex != null ? PatternCache.compile(regex) : null);
 	    this.acceptingFiles = acceptingFiles;
 	    this.acceptingFolders = acceptingFolders;
     }
@@ -17,6 +17,7 @@ package org.databene.commons.filter;
 import java.util.regex.Pattern;
 
 import org.databene.commons.Filter;
+import org.databene.commons.PatternCache;
 
 /**
  * {@link Filter} implementation which filters strings by regular expressions for inclusion and exclusion.
@@ -30,8 +31,8 @@ public class RegexBasedFilter implements Filter<String> {
 	private Pattern inclusionPattern;
 
 	public RegexBasedFilter(String inclusionPattern, String exclusionPattern) {
-		this.inclusionPattern = (inclusionPattern != null ? Pattern.compile(inclusionPattern) : null);
-		this.exclusionPattern = (exclusionPattern != null ? Pattern.compile(exclusionPattern) : null);
+		this.inclusionPattern = (inclusionPattern != null ? PatternCache.compile(inclusionPattern) : null);
+		this.exclusionPattern = (exclusionPattern != null ? PatternCache.compile(exclusionPattern) : null);
 	}
 	
 	@Override
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.format;
+
+import java.io.IOException;
+import java.text.FieldPosition;
+import java.text.Format;
+
+import org.databene.commons.ConversionException;
+
+/**
+ * Utility methods for rendering formatted values into an {@link Appendable} without creating 
+ * intermediate {@link String}s. A {@link StringBuffer} target is filled directly by the {@link Format}, 
+ * other targets receive the output of the format via a reused per-thread buffer.
+ * IOExceptions of the target are mapped to {@link ConversionException}s.
+ * Created: 17.10.2026 20:14:51
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class AppendableFormatting {
+	
+	private static final int MAX_RETAINED_CAPACITY = 1024;
+	
+	private static final ThreadLocal<StringBuffer> BUFFER = new ThreadLocal<StringBuffer>() {
+		@Override
+		protected StringBuffer initialValue() {
+			return new StringBuffer(64);
+		}
+	};
+	
+	private AppendableFormatting() {
+		// private constructor for preventing instantiation of this utility class
+	}
+
+	/**
+	 * Appends the result of {@link Format#format(Object, StringBuffer, FieldPosition)} to an {@link Appendable}.
+	 * @param format the format to apply
+	 * @param value the value to format
+	 * @param toAppendTo the target to which to append the formatted value
+	 * @param <E> the type of the target
+	 * @return the target
+	 */
+	public static <E extends Appendable> E format(Format format, Object value, E toAppendTo) {
+		if (toAppendTo instanceof StringBuffer) {
+			format.format(value, (StringBuffer) toAppendTo, new FieldPosition(0));
+			return toAppendTo;
+		}
+		StringBuffer buffer = BUFFER.get();
+		buffer.setLength(0);
+		format.format(value, buffer, new FieldPosition(0));
+		append(buffer, toAppendTo);
+		if (buffer.capacity() > MAX_RETAINED_CAPACITY)
+			BUFFER.remove();
+		return toAppendTo;
+	}
+
+	public static <E extends Appendable> E append(CharSequence text, E toAppendTo) {
+		try {
+			toAppendTo.append(text);
+			return toAppendTo;
+		} catch (IOException e) {
+			throw new ConversionException("Error writing formatted text", e);
+		}
+	}
+
+	public static <E extends Appendable> E append(char c, E toAppendTo) {
+		try {
+			toAppendTo.append(c);
+			return toAppendTo;
+		} catch (IOException e) {
+			throw new ConversionException("Error writing formatted text", e);
+		}
+	}
+
+	public static <E extends Appendable> E append(long value, E toAppendTo) {
+		if (toAppendTo instanceof StringBuilder) {
+			((StringBuilder) toAppendTo).append(value);
+			return toAppendTo;
+		}
+		return append(String.valueOf(value), toAppendTo);
+	}
+
+	public static <E extends Appendable> E append(double value, E toAppendTo) {
+		if (toAppendTo instanceof StringBuilder) {
+			((StringBuilder) toAppendTo).append(value);
+			return toAppendTo;
+		}
+		return append(String.valueOf(value), toAppendTo);
+	}
+
+	/**
+	 * Appends a non-negative number with leading zeros to reach a minimum number of digits.
+	 * @param value the number to append
+	 * @param digits the minimum number of digits
+	 * @param toAppendTo the target to which to append the digits
+	 * @param <E> the type of the target
+	 * @return the target
+	 */
+	public static <E extends Appendable> E appendPadded(long value, int digits, E toAppendTo) {
+		try {
+			long limit = 1;
+			for (int i = 1; i < digits; i++)
+				limit *= 10;
+			for (; limit > 1 && value < limit; limit /= 10)
+				toAppendTo.append('0');
+			return append(value, toAppendTo);
+		} catch (IOException e) {
+			throw new ConversionException("Error writing formatted text", e);
+		}
+	}
+
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.format;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.CharBuffer;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.FieldPosition;
+import java.text.Format;
+import java.text.ParseException;
+import java.text.ParsePosition;
+
+import org.databene.commons.Factory;
+import org.databene.commons.converter.ObjectPool;
+
+/**
+ * Thread-safe {@link Format} for {@link DecimalFormat} patterns which renders common pattern shapes 
+ * like <code>0.#</code>, <code>0.00</code> or <code>#,##0.00</code> with integer arithmetic into a char array.
+ * Patterns with other elements (prefixes, suffixes, percent signs, exponents, ...) as well as 
+ * {@link java.math.BigInteger}s, {@link BigDecimal}s, non-finite and very large values are handled 
+ * by a per-thread {@link DecimalFormat}, which is also used for parsing. 
+ * The output is identical to the one of a {@link DecimalFormat} with the same pattern and symbols.
+ * Created: 17.10.2026 20:52:08
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class CompiledDecimalFormat extends Format {
+
+	private static final long serialVersionUID = -1873264541620395717L;
+	
+	private static final int MAX_FAST_FRACTION_DIGITS = 15;
+	private static final double MAX_FAST_SCALED_VALUE = 1e15;
+	private static final long[] POWERS_OF_TEN = new long[MAX_FAST_FRACTION_DIGITS + 1];
+	
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++)
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+	}
+	
+	private final String pattern;
+	private final DecimalFormatSymbols symbols;
+	
+	private boolean fast;
+	private int minIntegerDigits;
+	private int groupingSize;
+	private int minFractionDigits;
+	private int maxFractionDigits;
+	private char decimalSeparator;
+	private char groupingSeparator;
+	private char minusSign;
+	
+	private transient volatile ObjectPool<DecimalFormat> fallback;
+
+	public CompiledDecimalFormat(String pattern) {
+		this(pattern, DecimalFormatSymbols.getInstance());
+	}
+
+	public CompiledDecimalFormat(String pattern, DecimalFormatSymbols symbols) {
+		this.pattern = pattern;
+		this.symbols = (DecimalFormatSymbols) symbols.clone();
+		new DecimalFormat(pattern, symbols); // fails on illegal patterns like the DecimalFormat constructor
+		this.fast = compile(pattern);
+		this.decimalSeparator = symbols.getDecimalSeparator();
+		this.groupingSeparator = symbols.getGroupingSeparator();
+		this.minusSign = symbols.getMinusSign();
+		if (symbols.getZeroDigit() != '0')
+			this.fast = false;
+	}
+
+	/**
+	 * Creates the format for a pattern built from the settings of a {@link java.text.NumberFormat}.
+	 * @param minFractionDigits the minimum number of fraction digits
+	 * @param maxFractionDigits the maximum number of fraction digits
+	 * @param groupingUsed tells if thousands shall be grouped
+	 * @param symbols the symbols to use
+	 * @return a format which renders like a NumberFormat with these settings
+	 */
+	public static CompiledDecimalFormat forFractionDigits(int minFractionDigits, int maxFractionDigits, boolean groupingUsed, 
+			DecimalFormatSymbols symbols) {
+		if (minFractionDigits > maxFractionDigits)
+			minFractionDigits = maxFractionDigits;
+		StringBuilder pattern = new StringBuilder(groupingUsed ? "#,##0" : "0");
+		if (maxFractionDigits > 0) {
+			pattern.append('.');
+			for (int i = 0; i < maxFractionDigits; i++)
+				pattern.append(i < minFractionDigits ? '0' : '#');
+		}
+		return new CompiledDecimalFormat(pattern.toString(), symbols);
+	}
+
+	// properties ------------------------------------------------------------------------------------------------------
+	
+	public String getPattern() {
+		return pattern;
+	}
+
+	public DecimalFormatSymbols getDecimalFormatSymbols() {
+		return (DecimalFormatSymbols) symbols.clone();
+	}
+
+	/** @return true if the pattern is rendered without a {@link DecimalFormat} for ordinary numbers */
+	public boolean isCompiled() {
+		return fast;
+	}
+	
+	// formatting ------------------------------------------------------------------------------------------------------
+
+	public String format(Number number) {
+		char[] buffer = new char[64];
+		int start = render(number, buffer);
+		if (start < 0)
+			return fallbackFormat(number, new StringBuffer(), new FieldPosition(0)).toString();
+		return new String(buffer, start, buffer.length - start);
+	}
+
+	public <E extends Appendable> E format(Number number, E toAppendTo) {
+		char[] buffer = new char[64];
+		int start = render(number, buffer);
+		if (start < 0)
+			return AppendableFormatting.format(this, number, toAppendTo);
+		if (toAppendTo instanceof StringBuilder) {
+			((StringBuilder) toAppendTo).append(buffer, start, buffer.length - start);
+			return toAppendTo;
+		}
+		return AppendableFormatting.append(CharBuffer.wrap(buffer, start, buffer.length - start), toAppendTo);
+	}
+
+	@Override
+	public StringBuffer format(Object number, StringBuffer toAppendTo, FieldPosition pos) {
+		if (number instanceof Number && pos.getField() == 0 && pos.getFieldAttribute() == null) {
+			char[] buffer = new char[64];
+			int start = render((Number) number, buffer);
+			if (start >= 0)
+				return toAppendTo.append(buffer, start, buffer.length - start);
+		}
+		return fallbackFormat(number, toAppendTo, pos);
+	}
+
+	@Override
+	public Object parseObject(String source, ParsePosition pos) {
+		return parse(source, pos);
+	}
+
+	public Number parse(String source, ParsePosition pos) {
+		DecimalFormat format = fallback().borrow();
+		try {
+			return format.parse(source, pos);
+		} finally {
+			fallback.release(format);
+		}
+	}
+
+	public Number parse(String source) throws ParseException {
+		DecimalFormat format = fallback().borrow();
+		try {
+			return format.parse(source);
+		} finally {
+			fallback.release(format);
+		}
+	}
+
+	// java.lang.Object overrides --------------------------------------------------------------------------------------
+	
+	@Override
+	public Object clone() {
+		CompiledDecimalFormat copy = (CompiledDecimalFormat) super.clone();
+		copy.fallback = null;
+		return copy;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + '[' + pattern + ']';
+	}
+
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private boolean compile(String pattern) {
+		int length = pattern.length();
+		int i = 0;
+		int lastGroupingPos = -1;
+		int integerDigits = 0;
+		int zeros = 0;
+		for (; i < length; i++) {
+			char c = pattern.charAt(i);
+			if (c == '#') {
+				if (zeros > 0)
+					return false;
+				integerDigits++;
+			} else if (c == '0') {
+				zeros++;
+				integerDigits++;
+			} else if (c == ',')
+				lastGroupingPos = integerDigits;
+			else
+				break;
+		}
+		int minFraction = 0;
+		int maxFraction = 0;
+		boolean decimalPoint = (i < length && pattern.charAt(i) == '.');
+		if (decimalPoint) {
+			for (i++; i < length; i++) {
+				char c = pattern.charAt(i);
+				if (c == '0' && minFraction == maxFraction)
+					minFraction++;
+				else if (c != '#')
+					return false;
+				maxFraction++;
+			}
+		}
+		if (i < length || integerDigits + maxFraction == 0 || maxFraction > MAX_FAST_FRACTION_DIGITS)
+			return false;
+		this.groupingSize = (lastGroupingPos >= 0 ? integerDigits - lastGroupingPos : 0);
+		if (lastGroupingPos >= 0 && groupingSize == 0)
+			return false;
+		if (zeros == 0 && minFraction == 0 && decimalPoint) {
+			// like DecimalFormat, interpret '#.#' as '0.#' and '.##' as '.0#'
+			if (integerDigits > 0)
+				zeros = 1;
+			else
+				minFraction = 1;
+		}
+		this.minIntegerDigits = zeros;
+		this.minFractionDigits = minFraction;
+		this.maxFractionDigits = maxFraction;
+		return true;
+	}
+
+	/** Renders the number right-aligned into the buffer and returns the start index or -1 if unsupported. */
+	private int render(Number number, char[] buffer) {
+		if (!fast)
+			return -1;
+		long scale = POWERS_OF_TEN[maxFractionDigits];
+		long unscaled;
+		boolean negative;
+		if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+			long value = number.longValue();
+			if (value == Long.MIN_VALUE)
+				return -1;
+			negative = (value < 0);
+			long abs = Math.abs(value);
+			if (abs > Long.MAX_VALUE / scale)
+				return -1;
+			unscaled = abs * scale;
+		} else if (number instanceof Double || number instanceof Float) {
+			double value = number.doubleValue();
+			negative = (value < 0 || (value == 0 && Double.doubleToRawLongBits(value) != 0));
+			double abs = Math.abs(value);
+			double scaled = abs * scale;
+			if (!(scaled < MAX_FAST_SCALED_VALUE)) // also catches NaN
+				return -1;
+			unscaled = round(abs, scaled);
+		} else
+			return -1;
+		return render(negative, unscaled / scale, unscaled % scale, buffer);
+	}
+
+	/** Rounds half-even like DecimalFormat, resolving near-ties by the exact binary value. */
+	private long round(double abs, double scaled) {
+		long floor = (long) scaled;
+		double fraction = scaled - floor;
+		double tolerance = scaled * 2.5E-16;
+		if (fraction > 0.5 + tolerance)
+			return floor + 1;
+		else if (fraction < 0.5 - tolerance)
+			return floor;
+		else
+			return new BigDecimal(abs).setScale(maxFractionDigits, RoundingMode.HALF_EVEN).unscaledValue().longValue();
+	}
+
+	private int render(boolean negative, long integerPart, long fractionPart, char[] buffer) {
+		int pos = buffer.length;
+		int fractionDigits = maxFractionDigits;
+		while (fractionDigits > minFractionDigits && fractionPart % 10 == 0) {
+			fractionPart /= 10;
+			fractionDigits--;
+		}
+		if (fractionDigits > 0) {
+			for (int i = 0; i < fractionDigits; i++) {
+				buffer[--pos] = (char) ('0' + fractionPart % 10);
+				fractionPart /= 10;
+			}
+			buffer[--pos] = decimalSeparator;
+		}
+		int count = 0;
+		while (integerPart > 0 || count < minIntegerDigits) {
+			if (groupingSize > 0 && count > 0 && count % groupingSize == 0)
+				buffer[--pos] = groupingSeparator;
+			buffer[--pos] = (char) ('0' + integerPart % 10);
+			integerPart /= 10;
+			count++;
+		}
+		if (count == 0 && fractionDigits == 0)
+			buffer[--pos] = '0';
+		if (negative)
+			buffer[--pos] = minusSign;
+		return pos;
+	}
+
+	private StringBuffer fallbackFormat(Object number, StringBuffer toAppendTo, FieldPosition pos) {
+		DecimalFormat format = fallback().borrow();
+		try {
+			return format.format(number, toAppendTo, pos);
+		} finally {
+			fallback.release(format);
+		}
+	}
+
+	private ObjectPool<DecimalFormat> fallback() {
+		if (fallback == null) {
+			fallback = new ObjectPool<DecimalFormat>(new Factory<DecimalFormat>() {
+				@Override
+				public DecimalFormat create() {
+					return new DecimalFormat(pattern, symbols);
+				}
+			});
+		}
+		return fallback;
+	}
+
+}
@@ -20,6 +20,9 @@ import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import org.databene.commons.Factory;
+import org.databene.commons.converter.ObjectPool;
+
 /**
  * Concurrent implementation of the {@link SimpleDateFormat} features.
  * Created: 26.02.2010 15:27:23
@@ -28,25 +31,35 @@ import java.util.Date;
  */
 public class ConcurrentDateFormat extends DateFormat {
 
-	private ThreadLocal<SimpleDateFormat> format;
+	private ObjectPool<SimpleDateFormat> pool;
 
     public ConcurrentDateFormat(final String pattern) {
-        format = new ThreadLocal<SimpleDateFormat>() {
+        pool = new ObjectPool<SimpleDateFormat>(new Factory<SimpleDateFormat>() {
             @Override
-            protected SimpleDateFormat initialValue() {
+            public SimpleDateFormat create() {
                 return new SimpleDateFormat(pattern);
             }
-        };
+        });
     }
 
     @Override
     public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
-        return format.get().format(date, toAppendTo, fieldPosition);
+        SimpleDateFormat format = pool.borrow();
+        try {
+            return format.format(date, toAppendTo, fieldPosition);
+        } finally {
+            pool.release(format);
+        }
     }
 
     @Override
     public Date parse(String source, ParsePosition pos) {
-        return format.get().parse(source, pos);
+        SimpleDateFormat format = pool.borrow();
+        try {
+            return format.parse(source, pos);
+        } finally {
+            pool.release(format);
+        }
     }
 
     private static final long serialVersionUID = -1665638058197198209L;
@@ -19,6 +19,9 @@ import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParsePosition;
 
+import org.databene.commons.Factory;
+import org.databene.commons.converter.ObjectPool;
+
 /**
  * Thread-safe, concurrent wrapper of Java's {@link DecimalFormat} class.
  * Created: 12.10.2010 17:47:35
@@ -29,25 +32,35 @@ public class ConcurrentDecimalFormat extends Format {
 
 	private static final long serialVersionUID = 7100542444272244206L;
 	
-	private ThreadLocal<DecimalFormat> format;
+	private ObjectPool<DecimalFormat> pool;
 
     public ConcurrentDecimalFormat(final String pattern) {
-        format = new ThreadLocal<DecimalFormat>() {
+        pool = new ObjectPool<DecimalFormat>(new Factory<DecimalFormat>() {
             @Override
-            protected DecimalFormat initialValue() {
+            public DecimalFormat create() {
                 return new DecimalFormat(pattern);
             }
-        };
+        });
     }
 
 	@Override
     public StringBuffer format(Object number, StringBuffer toAppendTo, FieldPosition pos) {
-	    return format.get().format(number, toAppendTo, pos);
+		DecimalFormat format = pool.borrow();
+		try {
+			return format.format(number, toAppendTo, pos);
+		} finally {
+			pool.release(format);
+		}
     }
 
 	@Override
     public Object parseObject(String source, ParsePosition pos) {
-	    return format.get().parseObject(source, pos);
+		DecimalFormat format = pool.borrow();
+		try {
+			return format.parseObject(source, pos);
+		} finally {
+			pool.release(format);
+		}
     }
     
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.format;
+
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches compiled {@link SimpleDateFormat}s by pattern and {@link Locale}. 
+ * Each thread receives its own instances, so callers can use them without synchronization, 
+ * but must not pass them to other threads. Each returned instance is adjusted to the 
+ * current default {@link TimeZone}, so it behaves like a newly created {@link SimpleDateFormat}.
+ * Since patterns may stem from data, the cache is cleared when it reaches {@link #MAX_CACHE_SIZE} 
+ * patterns or locales per pattern; the thread-local instances of cleared entries are then garbage collected.
+ * Created: 17.10.2026 16:20:41
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class DateFormatCache {
+	
+	public static final int MAX_CACHE_SIZE = 1000;
+	
+	private static final ConcurrentMap<String, ConcurrentMap<Locale, ThreadLocal<SimpleDateFormat>>> FORMATS = 
+			new ConcurrentHashMap<String, ConcurrentMap<Locale, ThreadLocal<SimpleDateFormat>>>();
+	
+	private DateFormatCache() { }
+
+	/** @return the number of cached patterns */
+	static int size() {
+		return FORMATS.size();
+	}
+
+	/**
+	 * Provides a {@link SimpleDateFormat} for the given pattern and the default format {@link Locale}.
+	 * @param pattern the date format pattern
+	 * @return a {@link SimpleDateFormat} for exclusive use by the calling thread
+	 */
+	public static SimpleDateFormat getFormat(String pattern) {
+		return getFormat(pattern, Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * Provides a {@link SimpleDateFormat} for the given pattern and {@link Locale}.
+	 * @param pattern the date format pattern
+	 * @param locale the locale to apply
+	 * @return a {@link SimpleDateFormat} for exclusive use by the calling thread
+	 */
+	public static SimpleDateFormat getFormat(final String pattern, final Locale locale) {
+		ConcurrentMap<Locale, ThreadLocal<SimpleDateFormat>> localeMap = FORMATS.get(pattern);
+		if (localeMap == null) {
+			ConcurrentMap<Locale, ThreadLocal<SimpleDateFormat>> newMap = new ConcurrentHashMap<Locale, ThreadLocal<SimpleDateFormat>>();
+			if (FORMATS.size() >= MAX_CACHE_SIZE)
+				FORMATS.clear();
+			localeMap = FORMATS.putIfAbsent(pattern, newMap);
+			if (localeMap == null)
+				localeMap = newMap;
+		}
+		ThreadLocal<SimpleDateFormat> threadFormats = localeMap.get(locale);
+		if (threadFormats == null) {
+			ThreadLocal<SimpleDateFormat> newThreadFormats = new ThreadLocal<SimpleDateFormat>() {
+				@Override
+				protected SimpleDateFormat initialValue() {
+					return new SimpleDateFormat(pattern, locale);
+				}
+			};
+			if (localeMap.size() >= MAX_CACHE_SIZE)
+				localeMap.clear();
+			threadFormats = localeMap.putIfAbsent(locale, newThreadFormats);
+			if (threadFormats == null)
+				threadFormats = newThreadFormats;
+		}
+		SimpleDateFormat format = threadFormats.get();
+		TimeZone zone = TimeZone.getDefault();
+		if (!zone.getID().equals(format.getTimeZone().getID()))
+			format.setTimeZone(zone);
+		return format;
+	}
+	
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.format;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Thread-safe renderer for {@link SimpleDateFormat} patterns which caches the formatted prefix 
+ * of the most recent local minute (e.g. <code>yyyy-MM-dd'T'HH:mm:</code>), so that consecutive values 
+ * of the same minute only need to render their seconds and milliseconds. This applies to patterns 
+ * whose seconds and milliseconds fields (if any) are at the end, separated by literals only. 
+ * Other patterns are formatted completely for each value. 
+ * Like the {@link DateFormatCache}, it uses the current default {@link TimeZone} and format {@link Locale}. 
+ * The default time zone is only looked up when a value falls outside the cached minute, 
+ * so a change of the default time zone takes effect with the next minute rendered.
+ * Created: 18.10.2026 15:02:27
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class DateRenderCache {
+	
+	private static final long MILLIS_PER_MINUTE = 60000;
+	
+	private final String pattern;
+	
+	/** The pattern part which is cached per minute, or null if the pattern does not support caching */
+	private final String prefixPattern;
+	
+	/** The tail of the pattern: Character 's' or 'S' for a seconds or millisecond field, or a rendered literal String */
+	private final Object[] tail;
+	private final int[] tailWidths;
+	
+	private volatile Prefix prefix;
+	
+	public DateRenderCache(String pattern) {
+		this.pattern = pattern;
+		List<String> tokens = tokenize(pattern);
+		int prefixEnd = tokens.size();
+		boolean secondsFound = false;
+		boolean millisFound = false;
+		// scan the tail of the pattern for seconds and milliseconds fields
+		for (int i = tokens.size() - 1; i >= 0; i--) {
+			char c = tokens.get(i).charAt(0);
+			if (c == 'S' && !millisFound && !secondsFound) {
+				millisFound = true;
+			} else if (c == 's' && !secondsFound) {
+				secondsFound = true;
+				prefixEnd = i;
+				break;
+			} else if (isLetter(c))
+				break;
+		}
+		if (millisFound && !secondsFound)
+			prefixEnd = -1;
+		StringBuilder prefixBuilder = new StringBuilder();
+		for (int i = 0; i < prefixEnd; i++) {
+			String token = tokens.get(i);
+			char c = token.charAt(0);
+			if (c == 's' || c == 'S')
+				prefixEnd = -1;
+			prefixBuilder.append(token);
+		}
+		if (prefixEnd >= 0) {
+			this.prefixPattern = prefixBuilder.toString();
+			int tailLength = tokens.size() - prefixEnd;
+			this.tail = new Object[tailLength];
+			this.tailWidths = new int[tailLength];
+			for (int i = 0; i < tailLength; i++) {
+				String token = tokens.get(prefixEnd + i);
+				char c = token.charAt(0);
+				if (c == 's' || c == 'S') {
+					tail[i] = c;
+					tailWidths[i] = token.length();
+				} else
+					tail[i] = new SimpleDateFormat(token).format(new Date(0));
+			}
+		} else {
+			this.prefixPattern = null;
+			this.tail = null;
+			this.tailWidths = null;
+		}
+	}
+	
+	public String getPattern() {
+		return pattern;
+	}
+	
+	/** @return true if the pattern supports caching */
+	public boolean isCaching() {
+		return (prefixPattern != null);
+	}
+	
+	public String format(Date date) {
+		return format(date.getTime(), new StringBuilder(32)).toString();
+	}
+	
+	/**
+	 * Appends a formatted point in time to an {@link Appendable}.
+	 * @param millis the point in time in milliseconds since 1970-01-01T00:00:00Z
+	 * @param toAppendTo the target to which to append the formatted time
+	 * @param <E> the type of the target
+	 * @return the target
+	 */
+	public <E extends Appendable> E format(long millis, E toAppendTo) {
+		if (prefixPattern == null)
+			return AppendableFormatting.format(DateFormatCache.getFormat(pattern), new Date(millis), toAppendTo);
+		Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+		Prefix current = this.prefix;
+		if (current == null || millis < current.startMillis || millis >= current.endMillis 
+				|| !current.locale.equals(locale))
+			this.prefix = current = createPrefix(millis, locale);
+		long localMillis = millis + current.offset;
+		AppendableFormatting.append(current.text, toAppendTo);
+		for (int i = 0; i < tail.length; i++) {
+			Object element = tail[i];
+			if (element instanceof String)
+				AppendableFormatting.append((String) element, toAppendTo);
+			else if (((Character) element).charValue() == 's')
+				AppendableFormatting.appendPadded(Math.floorMod(localMillis, MILLIS_PER_MINUTE) / 1000, tailWidths[i], toAppendTo);
+			else
+				AppendableFormatting.appendPadded(Math.floorMod(localMillis, 1000L), tailWidths[i], toAppendTo);
+		}
+		return toAppendTo;
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + '[' + pattern + ']';
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private Prefix createPrefix(long millis, Locale locale) {
+		TimeZone zone = TimeZone.getDefault();
+		int offset = zone.getOffset(millis);
+		long startMillis = Math.floorDiv(millis + offset, MILLIS_PER_MINUTE) * MILLIS_PER_MINUTE - offset;
+		long endMillis = startMillis + MILLIS_PER_MINUTE;
+		// a zone offset change within the minute restricts the cached range to the rendered millisecond
+		if (zone.getOffset(startMillis) != offset || zone.getOffset(endMillis - 1) != offset) {
+			startMillis = millis;
+			endMillis = millis + 1;
+		}
+		String text = DateFormatCache.getFormat(prefixPattern, locale).format(new Date(millis));
+		return new Prefix(startMillis, endMillis, offset, locale, text);
+	}
+	
+	/** Splits a pattern into runs of the same pattern letter and literal sections (which may contain quotes) */
+	private static List<String> tokenize(String pattern) {
+		List<String> tokens = new ArrayList<String>();
+		int i = 0;
+		while (i < pattern.length()) {
+			int start = i;
+			char c = pattern.charAt(i);
+			if (isLetter(c)) {
+				while (i < pattern.length() && pattern.charAt(i) == c)
+					i++;
+			} else {
+				boolean quoted = false;
+				while (i < pattern.length() && (quoted || !isLetter(pattern.charAt(i)))) {
+					if (pattern.charAt(i) == '\'')
+						quoted = !quoted;
+					i++;
+				}
+			}
+			tokens.add(pattern.substring(start, i));
+		}
+		return tokens;
+	}
+	
+	private static boolean isLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+	
+	private static final class Prefix {
+		
+		/** the range of UTC milliseconds in which the prefix is valid */
+		final long startMillis;
+		final long endMillis;
+		final int offset;
+		final Locale locale;
+		final String text;
+		
+		Prefix(long startMillis, long endMillis, int offset, Locale locale, String text) {
+			this.startMillis = startMillis;
+			this.endMillis = endMillis;
+			this.offset = offset;
+			this.locale = locale;
+			this.text = text;
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.databene.commons.Base64Codec;
+
+/**
+ * {@link InputStream} which reads Base64 code as ASCII bytes from the wrapped stream 
+ * and provides the decoded bytes. Whitespace and line breaks in the code are ignored, 
+ * the code is validated while it is read.
+ * Created: 17.10.2026 21:59:33
+ * @since 1.0.13
+ * @see Base64OutputStream
+ * @author Volker Bergmann
+ */
+public class Base64InputStream extends FilterInputStream {
+	
+	private static final int CHUNK_SIZE = 4 * 1024;
+	
+	private final byte[] code;
+	private final byte[] decoded;
+	private int decodedPos;
+	private int decodedLimit;
+	private int group;
+	private int groupCount;
+	private boolean padded;
+	private boolean eof;
+
+	public Base64InputStream(InputStream in) {
+		super(in);
+		this.code = new byte[CHUNK_SIZE];
+		this.decoded = new byte[CHUNK_SIZE / 4 * 3 + 3];
+		this.decodedPos = 0;
+		this.decodedLimit = 0;
+		this.group = 0;
+		this.groupCount = 0;
+		this.padded = false;
+		this.eof = false;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!ensureData())
+			return -1;
+		return decoded[decodedPos++] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0)
+			return 0;
+		if (!ensureData())
+			return -1;
+		int count = Math.min(length, decodedLimit - decodedPos);
+		System.arraycopy(decoded, decodedPos, bytes, offset, count);
+		decodedPos += count;
+		return count;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = 0;
+		while (skipped < n && ensureData()) {
+			int count = (int) Math.min(n - skipped, decodedLimit - decodedPos);
+			decodedPos += count;
+			skipped += count;
+		}
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return decodedLimit - decodedPos;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+		// mark is not supported
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("mark/reset not supported");
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private boolean ensureData() throws IOException {
+		while (decodedPos == decodedLimit) {
+			if (eof)
+				return false;
+			fill();
+		}
+		return true;
+	}
+
+	private void fill() throws IOException {
+		decodedPos = 0;
+		decodedLimit = 0;
+		int count = in.read(code);
+		if (count < 0) {
+			eof = true;
+			if (groupCount == 1)
+				throw new IOException("Truncated Base64 code");
+			flushPartialGroup();
+			return;
+		}
+		for (int i = 0; i < count; i++) {
+			char c = (char) (code[i] & 0xff);
+			if (c == ' ' || c == '\n' || c == '\r' || c == '\t')
+				continue;
+			if (c == '=') {
+				if (!padded) {
+					if (groupCount < 2)
+						throw new IOException("Illegal padding in Base64 code");
+					flushPartialGroup();
+					padded = true;
+				}
+				continue;
+			}
+			int index = Base64Codec.indexOf(c);
+			if (padded || index < 0)
+				throw new IOException("Not a base64 code character: '" + c + "'");
+			group = (group << 6) | index;
+			if (++groupCount == 4) {
+				decoded[decodedLimit++] = (byte) (group >>> 16);
+				decoded[decodedLimit++] = (byte) (group >>> 8);
+				decoded[decodedLimit++] = (byte) group;
+				group = 0;
+				groupCount = 0;
+			}
+		}
+	}
+
+	private void flushPartialGroup() {
+		if (groupCount == 2) {
+			decoded[decodedLimit++] = (byte) (group >>> 4);
+		} else if (groupCount == 3) {
+			decoded[decodedLimit++] = (byte) (group >>> 10);
+			decoded[decodedLimit++] = (byte) (group >>> 2);
+		}
+		group = 0;
+		groupCount = 0;
+	}
+
+}
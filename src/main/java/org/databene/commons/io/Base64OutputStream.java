@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.databene.commons.Base64Codec;
+
+/**
+ * {@link OutputStream} which Base64-encodes the bytes written to it and writes the code 
+ * as ASCII bytes to the wrapped stream. The code is written in chunks, the final padding 
+ * is written on {@link #finish()} or {@link #close()}.
+ * Created: 17.10.2026 21:48:12
+ * @since 1.0.13
+ * @see Base64InputStream
+ * @author Volker Bergmann
+ */
+public class Base64OutputStream extends FilterOutputStream {
+	
+	private static final int CHUNK_SIZE = 3 * 1024;
+
+	private final byte[] pending;
+	private int pendingCount;
+	private final byte[] code;
+	private boolean finished;
+
+	public Base64OutputStream(OutputStream out) {
+		super(out);
+		this.pending = new byte[CHUNK_SIZE];
+		this.pendingCount = 0;
+		this.code = new byte[Base64Codec.encodedLength(CHUNK_SIZE)];
+		this.finished = false;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		checkNotFinished();
+		pending[pendingCount++] = (byte) b;
+		if (pendingCount == pending.length)
+			writeChunk();
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		checkNotFinished();
+		while (length > 0) {
+			int count = Math.min(length, pending.length - pendingCount);
+			System.arraycopy(bytes, offset, pending, pendingCount, count);
+			pendingCount += count;
+			offset += count;
+			length -= count;
+			if (pendingCount == pending.length)
+				writeChunk();
+		}
+	}
+
+	/** 
+	 * Writes all complete groups of three bytes to the wrapped stream and flushes it.
+	 * Up to two bytes stay pending until more data is written or the stream is finished.
+	 */
+	@Override
+	public void flush() throws IOException {
+		int completeGroups = pendingCount - pendingCount % 3;
+		if (completeGroups > 0) {
+			int codeLength = Base64Codec.encode(pending, 0, completeGroups, code, 0);
+			out.write(code, 0, codeLength);
+			System.arraycopy(pending, completeGroups, pending, 0, pendingCount - completeGroups);
+			pendingCount -= completeGroups;
+		}
+		out.flush();
+	}
+
+	/**
+	 * Writes the remaining bytes with padding. Afterwards no more data may be written, 
+	 * but the wrapped stream stays open.
+	 * @throws IOException if writing to the wrapped stream fails
+	 */
+	public void finish() throws IOException {
+		if (finished)
+			return;
+		writeChunk();
+		finished = true;
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		} finally {
+			out.close();
+		}
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private void writeChunk() throws IOException {
+		if (pendingCount > 0) {
+			int codeLength = Base64Codec.encode(pending, 0, pendingCount, code, 0);
+			out.write(code, 0, codeLength);
+			pendingCount = 0;
+		}
+	}
+
+	private void checkNotFinished() throws IOException {
+		if (finished)
+			throw new IOException("Base64 stream has already been finished");
+	}
+	
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.iterator;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.databene.commons.ConversionException;
+import org.databene.commons.Converter;
+import org.databene.commons.HeavyweightIterator;
+import org.databene.commons.IOUtil;
+import org.databene.commons.converter.ConverterManager;
+
+/**
+ * Iterator proxy that converts iterated objects on a pool of worker threads before providing them to the caller.
+ * The source is read sequentially by the calling thread in chunks, each chunk is converted by a worker and 
+ * the results are provided in the order of the source. At most two chunks per thread are read ahead.
+ * A thread-safe converter is shared by all workers, a parallelizable one is cloned for each worker, 
+ * other converters are wrapped by {@link ConverterManager#cloneIfSupported(Converter)} and thus used serially.
+ * The workers are either taken from an {@link ExecutorService} provided by the caller, which is never shut down 
+ * by this class, or from a pool of its own. Callers should always {@link #close()} the iterator, preferably 
+ * in a try-with-resources block, when they abandon an iteration: This cancels pending conversions and 
+ * releases the own pool, which is otherwise only released when the iteration is finished. As a safeguard, 
+ * idle threads of the own pool terminate after {@link #WORKER_KEEP_ALIVE_SECONDS}.
+ * Created: 17.10.2026 19:21:36
+ * @param <S> the type to iterate
+ * @param <T> the type to provide
+ * @since 1.0.13
+ * @see ConvertingIterator
+ * @author Volker Bergmann
+ */
+public class ParallelConvertingIterator<S, T> implements HeavyweightIterator<T> {
+	
+	public static final int DEFAULT_CHUNK_SIZE = 64;
+	public static final int WORKER_KEEP_ALIVE_SECONDS = 10;
+
+	protected Iterator<S> source;
+	protected Converter<S, T> converter;
+	
+	private final int chunkSize;
+	private final int maxPendingChunks;
+	private final ThreadLocal<Converter<S, T>> workerConverter;
+	private final ArrayDeque<Future<Object[]>> pendingChunks;
+	private final boolean ownExecutor;
+	private ExecutorService executor;
+	private Object[] currentChunk;
+	private int cursor;
+
+	public ParallelConvertingIterator(Iterator<S> source, Converter<S, T> converter) {
+		this(source, converter, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+	}
+
+	public ParallelConvertingIterator(Iterator<S> source, Converter<S, T> converter, int threadCount, int chunkSize) {
+		this(source, converter, null, threadCount, chunkSize);
+	}
+
+	/**
+	 * @param source the iterator to read the elements from
+	 * @param converter the converter to apply
+	 * @param executor the executor to run the conversions on, or null for using a pool of threadCount 
+	 * 		threads which is owned by this iterator
+	 * @param threadCount the number of threads to use, it limits the number of chunks read ahead
+	 * @param chunkSize the number of elements to convert in one task
+	 */
+	public ParallelConvertingIterator(Iterator<S> source, final Converter<S, T> converter, 
+			ExecutorService executor, int threadCount, int chunkSize) {
+		if (threadCount < 1 || chunkSize < 1)
+			throw new IllegalArgumentException("threadCount and chunkSize must be positive");
+		this.source = source;
+		this.converter = converter;
+		this.chunkSize = chunkSize;
+		this.maxPendingChunks = 2 * threadCount;
+		if (converter.isThreadSafe())
+			this.workerConverter = null;
+		else if (converter.isParallelizable())
+			this.workerConverter = new ThreadLocal<Converter<S, T>>() {
+				@Override
+				protected Converter<S, T> initialValue() {
+					return ConverterManager.cloneIfSupported(converter);
+				}
+			};
+		else {
+			this.workerConverter = null;
+			this.converter = ConverterManager.cloneIfSupported(converter);
+		}
+		this.pendingChunks = new ArrayDeque<Future<Object[]>>(maxPendingChunks);
+		this.ownExecutor = (executor == null);
+		this.executor = (ownExecutor ? createPool(threadCount) : executor);
+		this.currentChunk = null;
+		this.cursor = 0;
+	}
+
+	// HeavyweightIterator interface implementation --------------------------------------------------------------------
+
+	@Override
+	public boolean hasNext() {
+		return (currentChunk != null && cursor < currentChunk.length) 
+			|| (executor != null && (!pendingChunks.isEmpty() || source.hasNext()));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T next() {
+		if (currentChunk == null || cursor >= currentChunk.length) {
+			fill();
+			if (pendingChunks.isEmpty())
+				throw new NoSuchElementException();
+			currentChunk = await(pendingChunks.poll());
+			cursor = 0;
+			fill();
+		}
+		T result = (T) currentChunk[cursor];
+		currentChunk[cursor++] = null;
+		if (cursor == currentChunk.length && pendingChunks.isEmpty() && !source.hasNext())
+			shutdown();
+		return result;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support remove()");
+	}
+
+	@Override
+	public void close() {
+		shutdown();
+		pendingChunks.clear();
+		if (source instanceof Closeable)
+			IOUtil.close((Closeable) source);
+	}
+
+	// java.lang.Object overrides --------------------------------------------------------------------------------------
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + '[' + source + " -> " + converter + ']';
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private void fill() {
+		while (executor != null && pendingChunks.size() < maxPendingChunks && source.hasNext()) {
+			final Object[] chunk = new Object[chunkSize];
+			int count = 0;
+			while (count < chunkSize && source.hasNext())
+				chunk[count++] = source.next();
+			final int size = count;
+			pendingChunks.add(executor.submit(new Callable<Object[]>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object[] call() {
+					Converter<S, T> worker = (workerConverter != null ? workerConverter.get() : converter);
+					Object[] result = (size == chunk.length ? chunk : new Object[size]);
+					for (int i = 0; i < size; i++)
+						result[i] = worker.convert((S) chunk[i]);
+					return result;
+				}
+			}));
+		}
+	}
+
+	private Object[] await(Future<Object[]> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			close();
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new ConversionException(cause);
+		} catch (InterruptedException e) {
+			close();
+			Thread.currentThread().interrupt();
+			throw new ConversionException("Interrupted while waiting for conversion", e);
+		}
+	}
+
+	private void shutdown() {
+		if (executor != null) {
+			for (Future<Object[]> pendingChunk : pendingChunks)
+				pendingChunk.cancel(true);
+			if (ownExecutor)
+				executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	private static ExecutorService createPool(int threadCount) {
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(threadCount, threadCount, 
+				WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new WorkerThreadFactory());
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+
+	static class WorkerThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable task) {
+			Thread thread = new Thread(task, "ParallelConvertingIterator-worker");
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+	
+}
@@ -28,7 +28,7 @@ import org.databene.commons.ConversionException;
 import org.databene.commons.Escalator;
 import org.databene.commons.LoggerEscalator;
 import org.databene.commons.UpdateFailedException;
-import org.databene.commons.accessor.FeatureAccessor;
+import org.databene.commons.bean.PropertyPath;
 import org.databene.commons.converter.AnyConverter;
 
 /**
@@ -42,6 +42,7 @@ public class AnyMutator implements NamedMutator {
     private static Escalator escalator = new LoggerEscalator();
     
     private String path;
+    private PropertyPath compiledPath;
     private boolean required;
     private boolean autoConvert;
     
@@ -51,6 +52,7 @@ public class AnyMutator implements NamedMutator {
 
     public AnyMutator(String path, boolean required, boolean autoConvert) {
         this.path = Assert.notNull(path, "path");
+        this.compiledPath = PropertyPath.of(path);
         this.required = required;
         this.autoConvert = autoConvert;
     }
@@ -62,7 +64,7 @@ public class AnyMutator implements NamedMutator {
     
     @Override
 	public void setValue(Object target, Object value) throws UpdateFailedException {
-        setValue(target, path, value, required, autoConvert);
+        compiledPath.setValue(target, value, required, autoConvert);
     }
     
     public static <C, V> void setValue(C target, String path, V value) {
@@ -70,21 +72,12 @@ public class AnyMutator implements NamedMutator {
     }
     
     public static <C, V> void setValue(C target, String path, V value, boolean required, boolean autoConvert) {
-        int sep = path.indexOf('.');
-        if (sep < 0)
+        if (path.indexOf('.') < 0)
         	// it is a local property
             setLocal(target, path, value, required, autoConvert);
-        else {
-        	// a recursive feature path needs to be resolved
-            String localName = path.substring(0, sep);
-            Object subTarget = FeatureAccessor.getValue(target, localName, true);
-            if (subTarget == null) {
-                // feature exists but is null, so create an object and assign it to the feature
-            	subTarget = setFeatureDefault(target, localName);
-            }
-            String remainingName = path.substring(sep + 1);
-            setValue(subTarget, remainingName, value, required, autoConvert);
-        }
+        else
+        	// a feature path needs to be resolved
+        	PropertyPath.of(path).setValue(target, value, required, autoConvert);
     }
 
     public static Object setFeatureDefault(Object target, String featureName) {
@@ -22,6 +22,7 @@ import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Pattern.Flag;
 
+import org.databene.commons.PatternCache;
 import org.databene.commons.Validator;
 import org.databene.commons.validator.bean.AbstractConstraintValidator;
 
@@ -100,7 +101,7 @@ public class RegexValidator extends AbstractConstraintValidator<Pattern, String>
     public void setRegexp(String regexp) {
 	    this.regexp = regexp;
 	    if (this.regexp != null)
-	    	this.pattern = java.util.regex.Pattern.compile(regexp, flagsAsNumber());
+	    	this.pattern = PatternCache.compile(regexp, flagsAsNumber());
     }
 
     public Flag[] getFlags() {
@@ -110,7 +111,7 @@ public class RegexValidator extends AbstractConstraintValidator<Pattern, String>
     public void setFlags(Flag[] flags) {
 	    this.flags = flags;
 	    if (this.regexp != null)
-	    	this.pattern = java.util.regex.Pattern.compile(regexp, flagsAsNumber());
+	    	this.pattern = PatternCache.compile(regexp, flagsAsNumber());
     }
 
     private int flagsAsNumber() {
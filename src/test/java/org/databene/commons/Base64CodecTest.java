@@ -14,6 +14,10 @@
  */
 package org.databene.commons;
 
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.Arrays;
 
 import org.junit.Test;
@@ -72,6 +76,61 @@ public class Base64CodecTest {
         checkRecodeString("ABCD");
     }
     
+	@Test
+    public void testBuffers() {
+        CharBuffer code = Base64Codec.encode(ByteBuffer.wrap(ALL_BYTES));
+        assertEquals(ALL_BASE64, code.toString());
+        ByteBuffer direct = ByteBuffer.allocateDirect(ALL_BYTES.length);
+        direct.put(ALL_BYTES).flip();
+        assertEquals(ALL_BASE64, Base64Codec.encode(direct).toString());
+        assertFalse(direct.hasRemaining());
+        ByteBuffer decoded = Base64Codec.decode(CharBuffer.wrap(ALL_BASE64));
+        assertTrue(Arrays.equals(ALL_BYTES, decoded.array()));
+        ByteBuffer target = ByteBuffer.allocate(300);
+        target.put((byte) 7);
+        assertEquals(26, Base64Codec.decode(ALPHABET_BASE64, target));
+        assertEquals(27, target.position());
+        assertEquals('A', target.get(1));
+    }
+    
+	@Test
+    public void testDecodeToSmallBuffer() {
+        byte[] array = new byte[30];
+        ByteBuffer target = ByteBuffer.wrap(array, 0, 10);
+        target.position(5);
+        try {
+            Base64Codec.decode(ALPHABET_BASE64, target);
+            fail("BufferOverflowException expected");
+        } catch (BufferOverflowException e) {
+            // this is the expected behavior
+        }
+        assertEquals(5, target.position());
+        assertTrue(Arrays.equals(new byte[30], array));
+    }
+    
+	@Test
+    public void testEncodeToAppendable() throws Exception {
+        byte[] large = new byte[10000];
+        for (int i = 0; i < large.length; i++)
+            large[i] = (byte) (i * 31);
+        StringWriter writer = new StringWriter();
+        Base64Codec.encode(large, writer);
+        assertEquals(Base64Codec.encode(large), writer.toString());
+        assertEquals(ALPHABET_BASE64, Base64Codec.encode(ALPHABET_BYTES, new StringBuilder()).toString());
+    }
+    
+	@Test
+    public void testIllegalCode() {
+        for (String code : new String[] { "ABC", "AB?D", "A===", "AB=D", "ABC\u00e4" }) {
+            try {
+                Base64Codec.decode(code);
+                fail("IllegalArgumentException expected for " + code);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+    
     // private helpers -------------------------------------------------------------------------------------------------
 
     private static void checkRecodeString(String code) {
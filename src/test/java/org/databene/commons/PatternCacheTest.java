@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons;
+
+import static org.junit.Assert.*;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link PatternCache}.
+ * Created: 17.10.2026 16:52:18
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class PatternCacheTest {
+
+	@Test
+	public void testHitAndMiss() {
+		PatternCache cache = new PatternCache(10);
+		Pattern pattern = cache.getPattern("a+b", 0);
+		assertEquals("a+b", pattern.pattern());
+		assertSame(pattern, cache.getPattern("a+b", 0));
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.size());
+	}
+	
+	@Test
+	public void testFlags() {
+		PatternCache cache = new PatternCache(10);
+		Pattern plain = cache.getPattern("abc", 0);
+		Pattern ignoringCase = cache.getPattern("abc", Pattern.CASE_INSENSITIVE);
+		assertNotSame(plain, ignoringCase);
+		assertEquals(Pattern.CASE_INSENSITIVE, ignoringCase.flags());
+		assertTrue(ignoringCase.matcher("ABC").matches());
+		assertFalse(plain.matcher("ABC").matches());
+		assertEquals(2, cache.size());
+	}
+	
+	@Test
+	public void testEviction() {
+		PatternCache cache = new PatternCache(10);
+		Pattern first = cache.getPattern("x0", 0);
+		for (int i = 1; i < 10; i++)
+			cache.getPattern("x" + i, 0);
+		cache.getPattern("x0", 0); // makes 'x1' the least recently used entry
+		cache.getPattern("x10", 0);
+		assertEquals(10, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+		assertSame(first, cache.getPattern("x0", 0));
+		long misses = cache.getMissCount();
+		cache.getPattern("x1", 0);
+		assertEquals(misses + 1, cache.getMissCount());
+	}
+	
+	@Test
+	public void testEvictionWithEqualAccessTimes() {
+		PatternCache cache = new PatternCache(10);
+		for (int i = 0; i < 10; i++)
+			cache.getPattern("x" + i, 0);
+		for (int i = 0; i < 10; i++)
+			cache.getPattern("x" + i, 0); // all entries get the same access time
+		cache.getPattern("x10", 0);
+		assertEquals(10, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+	}
+	
+	@Test
+	public void testShrink() {
+		PatternCache cache = new PatternCache(10);
+		for (int i = 0; i < 10; i++)
+			cache.getPattern("x" + i, 0);
+		cache.setMaxSize(5);
+		assertTrue(cache.size() <= 5);
+		assertEquals(10 - cache.size(), cache.getEvictionCount());
+	}
+	
+	@Test
+	public void testClear() {
+		PatternCache cache = new PatternCache(10);
+		cache.getPattern("a", 0);
+		cache.getPattern("a", 0);
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+	}
+	
+	@Test
+	public void testSharedInstance() {
+		assertSame(PatternCache.compile("[0-9]+"), PatternCache.compile("[0-9]+"));
+		assertSame(PatternCache.getInstance().getPattern("[0-9]+", 0), PatternCache.compile("[0-9]+"));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalMaxSize() {
+		new PatternCache(0);
+	}
+	
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons;
+
+import static org.junit.Assert.*;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.databene.commons.bean.ABean;
+import org.databene.commons.bean.BBean;
+import org.databene.commons.bean.CBean;
+import org.junit.Test;
+
+/**
+ * Tests the {@link PropertyTable}.
+ * Created: 17.10.2026 17:32:09
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class PropertyTableTest {
+
+	@Test
+	public void testLookup() {
+		PropertyTable table = PropertyTable.of(ABean.class);
+		assertSame(table, PropertyTable.of(ABean.class));
+		assertEquals(ABean.class, table.getBeanClass());
+		PropertyDescriptor name = table.get("name");
+		assertEquals("name", name.getName());
+		assertEquals(String.class, name.getPropertyType());
+		assertEquals(BBean.class, table.get("b").getPropertyType());
+		assertNull(table.get("readOnly"));
+		assertNull(table.get("nam"));
+		assertNull(table.get(""));
+		assertEquals(name, table.getDescriptor(table.indexOf("name")));
+	}
+	
+	@Test
+	public void testRegionLookup() {
+		PropertyTable table = PropertyTable.of(ABean.class);
+		int index = table.indexOf("b.name", 0, 1);
+		assertEquals("b", table.getName(index));
+		assertEquals(table.indexOf("name"), table.indexOf("b.name", 2, 6));
+		assertEquals(-1, table.indexOf("b.name", 0, 3));
+	}
+	
+	@Test
+	public void testResolve() {
+		PropertyTable table = PropertyTable.of(ABean.class);
+		PropertyDescriptor descriptor = table.resolve("b.c.name");
+		assertEquals("name", descriptor.getName());
+		assertEquals(CBean.class, descriptor.getReadMethod().getDeclaringClass());
+		assertEquals(CBean.class, table.resolve("b.c").getPropertyType());
+		assertNull(table.resolve("b.x.name"));
+		assertNull(table.resolve("b.c.x"));
+	}
+	
+	@Test
+	public void testDescriptorsAreCopied() {
+		PropertyTable table = PropertyTable.of(ABean.class);
+		PropertyDescriptor[] descriptors = table.getDescriptors();
+		assertEquals(table.size(), descriptors.length);
+		descriptors[0] = null;
+		assertNotNull(table.getDescriptors()[0]);
+	}
+	
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<PropertyDescriptor>> futures = new ArrayList<Future<PropertyDescriptor>>();
+			for (int i = 0; i < 100; i++)
+				futures.add(executor.submit(new Callable<PropertyDescriptor>() {
+					@Override
+					public PropertyDescriptor call() {
+						return BeanUtil.getPropertyDescriptor(ABean.class, "b.c.name");
+					}
+				}));
+			PropertyDescriptor expected = futures.get(0).get();
+			for (Future<PropertyDescriptor> future : futures)
+				assertSame(expected, future.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullClass() {
+		PropertyTable.of(null);
+	}
+	
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.accessor;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.databene.commons.ConfigurationError;
+import org.databene.commons.context.DefaultContext;
+import org.junit.Test;
+
+/**
+ * Tests the {@link FeatureAccessor}.
+ * Created: 17.10.2026 20:37:25
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class FeatureAccessorTest {
+
+	@Test
+	public void testHeterogeneousTargets() {
+		FeatureAccessor<Object, Object> accessor = new FeatureAccessor<Object, Object>("name");
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("name", "map");
+		DefaultContext context = new DefaultContext();
+		context.set("name", "context");
+		for (int i = 0; i < 3; i++) {
+			assertEquals("map", accessor.getValue(map));
+			assertEquals("context", accessor.getValue(context));
+			assertEquals("bean", accessor.getValue(new NamedBean("bean")));
+			assertEquals("field", accessor.getValue(new FieldHolder("field")));
+		}
+		assertEquals(4, accessor.getInlineCacheSize());
+		assertNull(accessor.getValue(null));
+	}
+	
+	@Test
+	public void testMegamorphic() {
+		FeatureAccessor<Object, Object> accessor = new FeatureAccessor<Object, Object>("name");
+		Map<String, Object> hashMap = new HashMap<String, Object>();
+		hashMap.put("name", "hash");
+		Map<String, Object> treeMap = new TreeMap<String, Object>();
+		treeMap.put("name", "tree");
+		DefaultContext context = new DefaultContext();
+		context.set("name", "context");
+		accessor.getValue(hashMap);
+		accessor.getValue(treeMap);
+		accessor.getValue(context);
+		accessor.getValue(new NamedBean("bean"));
+		assertEquals(FeatureAccessor.MAX_INLINE_CACHE_SIZE, accessor.getInlineCacheSize());
+		// a fifth class is served by the generic lookup
+		assertEquals("field", accessor.getValue(new FieldHolder("field")));
+		assertEquals(FeatureAccessor.MAX_INLINE_CACHE_SIZE, accessor.getInlineCacheSize());
+		assertEquals("tree", accessor.getValue(treeMap));
+	}
+	
+	@Test
+	public void testSetFeatureName() {
+		FeatureAccessor<Object, Object> accessor = new FeatureAccessor<Object, Object>("name");
+		assertEquals("bean", accessor.getValue(new NamedBean("bean")));
+		accessor.setFeatureName("length");
+		assertEquals(0, accessor.getInlineCacheSize());
+		assertEquals(4, accessor.getValue(new NamedBean("bean")));
+	}
+	
+	@Test(expected = ConfigurationError.class)
+	public void testMissingFeature() {
+		FeatureAccessor<Object, Object> accessor = new FeatureAccessor<Object, Object>("missing");
+		accessor.getValue(new NamedBean("bean"));
+	}
+	
+	public static class NamedBean {
+		
+		private String name;
+		
+		public NamedBean(String name) {
+			this.name = name;
+		}
+		
+		public String getName() {
+			return name;
+		}
+		
+		public int getLength() {
+			return name.length();
+		}
+		
+	}
+	
+	public static class FieldHolder {
+		
+		public String name;
+		
+		public FieldHolder(String name) {
+			this.name = name;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.bean;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.databene.commons.BeanUtil;
+import org.databene.commons.ConfigurationError;
+import org.junit.Test;
+
+/**
+ * Tests the {@link AccessorGenerator} and its application in 
+ * {@link TypedPropertyAccessor} and {@link TypedPropertyMutator}.
+ * Created: 17.10.2026 18:41:16
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class AccessorGeneratorTest {
+
+	@Test
+	public void testGetter() throws Throwable {
+		for (AccessorMode mode : AccessorMode.values()) {
+			AccessorGenerator.Getter getter = AccessorGenerator.createGetter(
+					BeanUtil.getPropertyDescriptor(PBean.class, "count").getReadMethod(), mode);
+			if (mode == AccessorMode.REFLECTION)
+				assertNull(getter);
+			else
+				assertEquals(3, getter.get(new PBean(3, "x")));
+			if (mode == AccessorMode.GENERATED)
+				assertTrue(getter.getClass().isSynthetic());
+		}
+	}
+	
+	@Test
+	public void testSetter() throws Throwable {
+		for (AccessorMode mode : AccessorMode.values()) {
+			AccessorGenerator.Setter setter = AccessorGenerator.createSetter(
+					BeanUtil.getPropertyDescriptor(PBean.class, "name").getWriteMethod(), mode);
+			if (mode == AccessorMode.REFLECTION)
+				assertNull(setter);
+			else {
+				PBean bean = new PBean(0, null);
+				setter.set(bean, "y");
+				assertEquals("y", bean.getName());
+			}
+		}
+	}
+	
+	@Test
+	public void testInaccessibleClass() {
+		for (AccessorMode mode : AccessorMode.values())
+			assertNull(AccessorGenerator.createGetter(
+					BeanUtil.getPropertyDescriptor(HiddenBean.class, "value").getReadMethod(), mode));
+	}
+	
+	@Test
+	public void testTypedAccessors() {
+		for (AccessorMode mode : AccessorMode.values()) {
+			PBean bean = new PBean(0, "x");
+			TypedPropertyMutator countMutator = new TypedPropertyMutator(PBean.class, "count", true, true, mode);
+			countMutator.setValue(bean, "42");
+			TypedPropertyAccessor<PBean> countAccessor = new TypedPropertyAccessor<PBean>(PBean.class, "count", true, mode);
+			assertEquals(42, countAccessor.getValue(bean));
+		}
+	}
+	
+	@Test
+	public void testTypeMismatch() {
+		for (AccessorMode mode : AccessorMode.values()) {
+			TypedPropertyMutator mutator = new TypedPropertyMutator(PBean.class, "count", true, false, mode);
+			try {
+				mutator.setValue(new PBean(0, "x"), "1");
+				fail("IllegalArgumentException expected for " + mode);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+	
+	@Test
+	public void testWidening() {
+		for (AccessorMode mode : AccessorMode.values()) {
+			PBean bean = new PBean(0, "x");
+			new TypedPropertyMutator(PBean.class, "total", true, false, mode).setValue(bean, 7);
+			assertEquals(7L, bean.getTotal());
+		}
+	}
+	
+	@Test
+	public void testExceptions() {
+		for (AccessorMode mode : AccessorMode.values()) {
+			PBean bean = new PBean(0, "x");
+			try {
+				new TypedPropertyAccessor<PBean>(PBean.class, "failing", true, mode).getValue(bean);
+				fail("Exception expected for " + mode);
+			} catch (RuntimeException e) {
+				assertTrue(e.getCause() instanceof InvocationTargetException);
+				assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+			}
+			try {
+				new TypedPropertyMutator(PBean.class, "failing", true, false, mode).setValue(bean, 1);
+				fail("ConfigurationError expected for " + mode);
+			} catch (ConfigurationError e) {
+				assertTrue(e.getCause() instanceof InvocationTargetException);
+				assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+			}
+		}
+	}
+	
+	@Test
+	public void testWrongBeanType() {
+		for (AccessorMode mode : AccessorMode.values()) {
+			try {
+				new TypedPropertyAccessor<PBean>(PBean.class, "count", true, mode).getValue("x");
+				fail("Exception expected for " + mode);
+			} catch (RuntimeException e) {
+				assertTrue(e.getCause() instanceof IllegalArgumentException);
+			}
+			try {
+				new TypedPropertyMutator(PBean.class, "name", true, false, mode).setValue("x", "y");
+				fail("Exception expected for " + mode);
+			} catch (RuntimeException e) {
+				assertFalse(e.getCause() instanceof InvocationTargetException);
+			}
+		}
+	}
+	
+	public static class PBean {
+		
+		private int count;
+		private String name;
+		
+		public PBean(int count, String name) {
+			this.count = count;
+			this.name = name;
+		}
+		
+		public int getCount() {
+			return count;
+		}
+		
+		public void setCount(int count) {
+			this.count = count;
+		}
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(String name) {
+			this.name = name;
+		}
+		
+		private long total;
+		
+		public long getTotal() {
+			return total;
+		}
+		
+		public void setTotal(long total) {
+			this.total = total;
+		}
+		
+		public int getFailing() {
+			throw new IllegalStateException();
+		}
+		
+		public void setFailing(int value) {
+			throw new IllegalStateException();
+		}
+		
+	}
+	
+	static class HiddenBean {
+		
+		private String value;
+		
+		public String getValue() {
+			return value;
+		}
+		
+		public void setValue(String value) {
+			this.value = value;
+		}
+		
+	}
+	
+}
@@ -38,4 +38,15 @@ public class BeanToPropertyArrayConverterTest {
         assertTrue(Arrays.equals(expectedResult, converter.convert(bean)));
     }
 	
+	@Test
+    public void testReusedArray() throws ConversionException {
+        BeanToPropertyArrayConverter<Bean> converter 
+        	= new BeanToPropertyArrayConverter<Bean>(Bean.class, "number", "text");
+        Object[] row = new Object[2];
+        assertSame(row, converter.convert(new Bean(42, "foobar"), row));
+        assertTrue(Arrays.equals(new Object[]{42, "foobar"}, row));
+        converter.convert(new Bean(43, "baz"), row);
+        assertTrue(Arrays.equals(new Object[]{43, "baz"}, row));
+    }
+	
 }
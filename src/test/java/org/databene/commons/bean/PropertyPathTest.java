@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.bean;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.databene.commons.ConfigurationError;
+import org.junit.Test;
+
+/**
+ * Tests the {@link PropertyPath}.
+ * Created: 17.10.2026 19:58:03
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class PropertyPathTest {
+
+	@Test
+	public void testCaching() {
+		PropertyPath path = PropertyPath.of("b.c.name");
+		assertSame(path, PropertyPath.of("b.c.name"));
+		assertSame(path, PropertyPath.of(null, "b.c.name"));
+		PropertyPath typed = PropertyPath.of(ABean.class, "b.c.name");
+		assertSame(typed, PropertyPath.of(ABean.class, "b.c.name"));
+		assertNotSame(path, typed);
+		assertEquals(3, typed.length());
+		assertEquals("c", typed.getName(1));
+		assertEquals("b.c.name", typed.getPath());
+	}
+	
+	@Test
+	public void testGetValue() {
+		ABean a = createGraph();
+		assertEquals("cName", PropertyPath.of(ABean.class, "b.c.name").getValue(a));
+		assertEquals("cName", PropertyPath.of("b.c.name").getValue(a));
+		assertEquals(7, PropertyPath.of("b.c.n").getValue(a));
+		a.b.c = null;
+		assertNull(PropertyPath.of("b.c.name").getValue(a));
+		assertNull(PropertyPath.of("b.c.name").getValue(null));
+	}
+	
+	@Test
+	public void testAlternatingClasses() {
+		ABean a = createGraph();
+		PropertyPath path = PropertyPath.of("name");
+		for (int i = 0; i < 3; i++) {
+			assertEquals("aName", path.getValue(a));
+			assertEquals("bName", path.getValue(a.b));
+			assertEquals("cName", path.getValue(a.b.c));
+		}
+		path.setValue(a.b, "bName2", true, false);
+		assertEquals("bName2", path.getValue(a.b));
+		assertEquals("aName", path.getValue(a));
+	}
+	
+	@Test
+	public void testMixedGraph() {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("a", createGraph());
+		PropertyPath path = PropertyPath.of("a.b.name");
+		assertEquals("bName", path.getValue(map));
+		Map<String, Object> b = new HashMap<String, Object>();
+		b.put("name", "mapName");
+		Map<String, Object> a = new HashMap<String, Object>();
+		a.put("b", b);
+		map.put("a", a);
+		assertEquals("mapName", path.getValue(map));
+	}
+	
+	@Test(expected = ConfigurationError.class)
+	public void testMissingFeature() {
+		PropertyPath.of("b.missing").getValue(createGraph());
+	}
+	
+	@Test
+	public void testGetPropertyValue() {
+		ABean a = createGraph();
+		assertEquals("cName", PropertyPath.of("b.c.name").getPropertyValue(a));
+		try {
+			PropertyPath.of("b.missing").getPropertyValue(a);
+			fail("ConfigurationError expected");
+		} catch (ConfigurationError e) {
+			// expected
+		}
+	}
+	
+	@Test
+	public void testSetValue() {
+		ABean a = new ABean();
+		PropertyPath.of(ABean.class, "b.c.name").setValue(a, "created", true, false);
+		assertEquals("created", a.b.c.name);
+		PropertyPath.of(ABean.class, "b.c.n").setValue(a, "12", true, true);
+		assertEquals(12, a.b.c.n);
+		try {
+			PropertyPath.of(ABean.class, "b.c.n").setValue(a, "13", true, false);
+			fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+	
+	@Test
+	public void testGeneratedAccessors() {
+		AccessorMode readMode = PropertyAccessorFactory.getAccessorMode();
+		AccessorMode writeMode = PropertyMutatorFactory.getAccessorMode();
+		try {
+			PropertyAccessorFactory.setAccessorMode(AccessorMode.GENERATED);
+			PropertyMutatorFactory.setAccessorMode(AccessorMode.GENERATED);
+			// SubBean is used only here, so the path is compiled with the modes set above
+			PropertyPath path = PropertyPath.of(SubBean.class, "b.c.n");
+			SubBean sub = new SubBean();
+			sub.b = createGraph().b;
+			path.setValue(sub, 3, true, false);
+			assertEquals(3, path.getValue(sub));
+			assertEquals(3, sub.b.c.n);
+		} finally {
+			PropertyAccessorFactory.setAccessorMode(readMode);
+			PropertyMutatorFactory.setAccessorMode(writeMode);
+		}
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private static ABean createGraph() {
+		ABean a = new ABean();
+		a.name = "aName";
+		a.b = new BBean();
+		a.b.name = "bName";
+		a.b.c = new CBean();
+		a.b.c.name = "cName";
+		a.b.c.n = 7;
+		return a;
+	}
+	
+	public static class SubBean extends ABean {
+	}
+	
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.bean;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import org.databene.commons.ConversionException;
+import org.junit.Test;
+
+/**
+ * Tests the {@link RowExtractor}.
+ * Created: 17.10.2026 21:41:52
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class RowExtractorTest {
+
+	@Test
+	public void testExtract() {
+		RowExtractor<Bean> extractor = new RowExtractor<Bean>(Bean.class, "number", "text");
+		assertEquals(2, extractor.getColumnCount());
+		assertEquals(int.class, extractor.getColumnType(0));
+		Object[] row = new Object[3];
+		assertSame(row, extractor.extract(new Bean(42, "foobar"), row));
+		assertArrayEquals(new Object[] { 42, "foobar", null }, row);
+		extractor.extract(new Bean(43, "x"), row);
+		assertArrayEquals(new Object[] { 43, "x", null }, row);
+	}
+	
+	@Test
+	public void testNestedProperty() {
+		RowExtractor<ABean> extractor = new RowExtractor<ABean>(ABean.class, "name", "b.name");
+		ABean a = new ABean();
+		a.name = "aName";
+		a.b = new BBean();
+		a.b.name = "bName";
+		assertArrayEquals(new Object[] { "aName", "bName" }, extractor.extract(a, new Object[2]));
+	}
+	
+	@Test
+	public void testPrimitiveColumns() {
+		AccessorMode mode = PropertyAccessorFactory.getAccessorMode();
+		try {
+			for (AccessorMode accessorMode : AccessorMode.values()) {
+				PropertyAccessorFactory.setAccessorMode(accessorMode);
+				RowExtractor<NumberBean> extractor = new RowExtractor<NumberBean>(
+						NumberBean.class, "count", "amount", "boxed", "date");
+				NumberBean bean = new NumberBean(3, 1.5, 7L, new Date(1000));
+				assertArrayEquals(new long[] { 3, 1, 7, 1000 }, extractor.extractLongs(bean, new long[4]));
+				assertEquals(1.5, extractor.getDouble(bean, 1), 0.);
+				assertEquals(3., extractor.getDouble(bean, 0), 0.);
+				assertEquals(7, extractor.getLong(bean, 2));
+			}
+		} finally {
+			PropertyAccessorFactory.setAccessorMode(mode);
+		}
+	}
+	
+	@Test
+	public void testDoubleRow() {
+		RowExtractor<NumberBean> extractor = new RowExtractor<NumberBean>(NumberBean.class, "amount", "count", "boxed");
+		assertArrayEquals(new double[] { 2.5, 4., 1. }, 
+				extractor.extractDoubles(new NumberBean(4, 2.5, 1L, null), new double[3]), 0.);
+	}
+	
+	@Test(expected = ConversionException.class)
+	public void testNullInPrimitiveColumn() {
+		RowExtractor<NumberBean> extractor = new RowExtractor<NumberBean>(NumberBean.class, "boxed");
+		extractor.getLong(new NumberBean(0, 0., null, null), 0);
+	}
+	
+	@Test
+	public void testColumns() {
+		RowExtractor<Bean> extractor = new RowExtractor<Bean>(Bean.class, "number", "text");
+		List<Bean> beans = Arrays.asList(new Bean(1, "a"), new Bean(2, "b"), new Bean(3, "c"));
+		Iterator<Bean> iterator = beans.iterator();
+		Object[][] columns = new Object[2][2];
+		assertEquals(2, extractor.extractColumns(iterator, columns));
+		assertArrayEquals(new Object[] { 1, 2 }, columns[0]);
+		assertArrayEquals(new Object[] { "a", "b" }, columns[1]);
+		assertEquals(1, extractor.extractColumns(iterator, columns));
+		assertArrayEquals(new Object[] { 3, 2 }, columns[0]);
+		assertEquals(0, extractor.extractColumns(iterator, columns));
+	}
+	
+	@Test
+	public void testPrimitiveBatch() {
+		RowExtractor<NumberBean> extractor = new RowExtractor<NumberBean>(NumberBean.class, "count", "amount");
+		List<NumberBean> beans = Arrays.asList(new NumberBean(1, 0.5, null, null), new NumberBean(2, 1.5, null, null));
+		long[][] longs = new long[2][4];
+		assertEquals(2, extractor.extractLongColumns(beans.iterator(), longs));
+		assertArrayEquals(new long[] { 1, 2, 0, 0 }, longs[0]);
+		double[][] doubles = new double[2][2];
+		assertEquals(2, extractor.extractDoubleColumns(beans.iterator(), doubles));
+		assertArrayEquals(new double[] { 0.5, 1.5 }, doubles[1], 0.);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testShortRow() {
+		new RowExtractor<Bean>(Bean.class, "number", "text").extract(new Bean(1, "a"), new Object[1]);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testRaggedColumns() {
+		new RowExtractor<Bean>(Bean.class, "number", "text").extractColumns(
+				Arrays.asList(new Bean(1, "a")).iterator(), new Object[][] { new Object[2], new Object[1] });
+	}
+	
+	@Test
+	public void testGetterException() {
+		for (AccessorMode accessorMode : AccessorMode.values()) {
+			AccessorMode mode = PropertyAccessorFactory.getAccessorMode();
+			PropertyAccessorFactory.setAccessorMode(accessorMode);
+			RowExtractor<FailingBean> extractor;
+			try {
+				extractor = new RowExtractor<FailingBean>(FailingBean.class, "count", "amount");
+			} finally {
+				PropertyAccessorFactory.setAccessorMode(mode);
+			}
+			try {
+				extractor.getLong(new FailingBean(), 0);
+				fail("Exception expected for " + accessorMode);
+			} catch (RuntimeException e) {
+				assertTrue(unwrap(e) instanceof IllegalStateException);
+			}
+			try {
+				extractor.getDouble(new FailingBean(), 1);
+				fail("Exception expected for " + accessorMode);
+			} catch (RuntimeException e) {
+				assertTrue(unwrap(e) instanceof IllegalStateException);
+			}
+			if (accessorMode == AccessorMode.GENERATED) {
+				try {
+					extractor.extractLongs(new FailingBean(), new long[2]);
+					fail("IllegalStateException expected");
+				} catch (IllegalStateException e) {
+					// expected: thrown by the getter itself
+				}
+			}
+		}
+	}
+	
+	private static Throwable unwrap(Throwable t) {
+		while (!(t instanceof IllegalStateException) && t.getCause() != null)
+			t = t.getCause();
+		return t;
+	}
+	
+	public static class FailingBean {
+		
+		public int getCount() {
+			throw new IllegalStateException("count");
+		}
+		
+		public double getAmount() {
+			throw new IllegalStateException("amount");
+		}
+		
+	}
+	
+	public static class NumberBean {
+		
+		private int count;
+		private double amount;
+		private Long boxed;
+		private Date date;
+		
+		public NumberBean(int count, double amount, Long boxed, Date date) {
+			this.count = count;
+			this.amount = amount;
+			this.boxed = boxed;
+			this.date = date;
+		}
+		
+		public int getCount() {
+			return count;
+		}
+		
+		public double getAmount() {
+			return amount;
+		}
+		
+		public Long getBoxed() {
+			return boxed;
+		}
+		
+		public Date getDate() {
+			return date;
+		}
+		
+	}
+	
+}
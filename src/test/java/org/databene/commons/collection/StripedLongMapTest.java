@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.collection;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link StripedLongMap}.
+ * Created: 18.10.2026 12:58:31
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class StripedLongMapTest {
+
+	@Test
+	public void testPutAndGet() {
+		StripedLongMap map = new StripedLongMap(3);
+		for (long i = -1000; i < 1000; i++)
+			assertTrue(map.putIfAbsent(i * 7919, i));
+		assertFalse(map.putIfAbsent(7919, 5));
+		assertEquals(1, map.get(7919, -1));
+		assertEquals(0, map.get(0, -1));
+		assertEquals(-1, map.get(1, -1));
+		assertEquals(2000, map.size());
+	}
+
+	@Test
+	public void testGetAndAdd() {
+		StripedLongMap map = new StripedLongMap();
+		assertEquals(0, map.getAndAdd(1, 2));
+		assertEquals(2, map.getAndAdd(1, 3));
+		assertEquals(5, map.get(1, 0));
+		assertEquals(0, map.getAndAdd(0, 4));
+		assertEquals(4, map.get(0, -1));
+		assertEquals(2, map.size());
+	}
+
+	@Test
+	public void testClear() {
+		StripedLongMap map = new StripedLongMap();
+		map.putIfAbsent(0, 1);
+		map.putIfAbsent(1, 1);
+		map.clear();
+		assertEquals(0, map.size());
+		assertEquals(-1, map.get(0, -1));
+		assertEquals(-1, map.get(1, -1));
+	}
+
+}
@@ -109,4 +109,16 @@ public class AnyConverterTest extends AbstractConverterTest {
     	assertEquals(1L, (long) AnyConverter.convert(Boolean.TRUE, Long.class));
     }
 	
+	@Test
+    public void testInstanceConversions() {
+    	AnyConverter<Integer> converter = new AnyConverter<Integer>(Integer.class);
+    	assertEquals(1, converter.convert("1").intValue());
+    	assertEquals(2, converter.convert("2").intValue());
+    	assertEquals(3, converter.convert(3L).intValue());
+    	assertEquals(4, converter.convert("4").intValue());
+    	ConverterManager.getInstance().reset();
+    	assertEquals(5, converter.convert("5").intValue());
+    	assertNull(converter.convert(null));
+    }
+	
 }
@@ -20,6 +20,7 @@ import java.util.Arrays;
 
 import org.databene.commons.ArrayFormat;
 import org.databene.commons.ConversionException;
+import org.databene.commons.Converter;
 import org.junit.Test;
 
 /**
@@ -41,6 +42,22 @@ public class ArrayConverterTest {
 		assertEqualArrays(INT_2_4, ArrayConverter.convertWith(inc, Integer.class, STRING_1_3));
 	}
 	
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testConvertUntypedArrays() {
+		Object[] strings = new Object[] { "1", "2" };
+		Converter parser = new String2NumberConverter<Integer>(Integer.class);
+		assertArrayEquals(new Integer[] { 1, 2 }, ArrayConverter.convertWith(parser, Integer.class, strings));
+		assertArrayEquals(new Object[] { 1, 2 }, 
+				(Object[]) ConverterManager.convertAll(strings, parser, Object.class));
+		Object[] numbers = new Object[] { 1.5, 2L };
+		Converter toInt = new NumberToNumberConverter<Number, Integer>(Integer.class);
+		assertArrayEquals(new Object[] { 1, 2 }, (Object[]) ConverterManager.convertAll(numbers, toInt, Object.class));
+		Object[] target = new Object[2];
+		new ConverterChain(parser, new NumberToNumberConverter<Number, Long>(Long.class)).convertAll(strings, 0, 2, target);
+		assertArrayEquals(new Object[] { 1L, 2L }, target);
+	}
+	
 	@Test
 	public void testArrayTypeConversion() {
 		@SuppressWarnings("unchecked")
@@ -55,6 +72,27 @@ public class ArrayConverterTest {
 		assertEqualArrays(INT_2_4, converter.convert(STRING_1_3));
 	}
 	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testInPlace() {
+		ArrayConverter<String, Integer> converter = new ArrayConverter<String, Integer>(String.class, Integer.class, inc);
+		Integer[] target = new Integer[2];
+		assertSame(target, converter.convert(STRING_1_3, target));
+		assertEqualArrays(INT_2_4, target);
+		assertEqualArrays(INT_2_4, converter.convert(STRING_1_3, new Integer[1]));
+	}
+	
+	@Test
+	public void testArrayTypeConverterStatics() {
+		assertEqualArrays(INT_1_3, ArrayTypeConverter.convert(STRING_1_3, Integer.class));
+		Integer[] target = new Integer[2];
+		assertSame(target, ArrayTypeConverter.convert(STRING_1_3, Integer.class, target));
+		assertEqualArrays(INT_1_3, target);
+		Object[] mixed = new Object[2];
+		assertSame(mixed, ArrayTypeConverter.convert(STRING_1_3, new Class<?>[] { Integer.class, Long.class }, mixed));
+		assertEqualArrays(new Object[] { 1, 3L }, mixed);
+	}
+	
 	private static void assertEqualArrays(Object[] array1, Object[] array2) {
 		assertTrue("Expected [" + ArrayFormat.format(array1) + "] but was [" + ArrayFormat.format(array2) + "]", 
 				Arrays.equals(array1, array2));
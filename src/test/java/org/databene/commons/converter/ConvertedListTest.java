@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+
+import org.databene.commons.CollectionUtil;
+import org.databene.commons.ConversionException;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConvertedList} and the {@link ConvertedMap}.
+ * Created: 18.10.2026 14:10:52
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ConvertedListTest {
+
+	@Test
+	public void testLazyConversion() {
+		CountingParser parser = new CountingParser();
+		List<Integer> view = new ConvertedList<String, Integer>(CollectionUtil.toList("1", "2", "3"), parser);
+		assertEquals(3, view.size());
+		assertEquals(0, parser.count);
+		assertEquals(2, view.get(1).intValue());
+		assertEquals(2, view.get(1).intValue());
+		assertEquals(2, parser.count);
+		assertEquals(CollectionUtil.toList(1, 2, 3), new ArrayList<Integer>(view));
+	}
+
+	@Test
+	public void testMemoization() {
+		CountingParser parser = new CountingParser();
+		List<Integer> view = ConverterManager.convertAllLazily(CollectionUtil.toList("1", "2", "3", "4"), parser, true);
+		assertEquals(3, view.get(2).intValue());
+		assertEquals(3, view.get(2).intValue());
+		assertEquals(1, parser.count);
+		List<Integer> subList = view.subList(1, 4);
+		assertEquals(CollectionUtil.toList(2, 3, 4), subList);
+		assertEquals(3, parser.count);
+		assertEquals(CollectionUtil.toList(3, 4), subList.subList(1, 3));
+		assertEquals(CollectionUtil.toList(1, 2, 3, 4), view);
+		assertEquals(4, parser.count);
+	}
+
+	@Test
+	public void testMemoizedSubListBounds() {
+		List<Integer> view = ConverterManager.convertAllLazily(CollectionUtil.toList("1", "2", "3", "4"), 
+				new String2NumberConverter<Integer>(Integer.class), true);
+		List<Integer> subList = view.subList(1, 2);
+		assertEquals(2, subList.get(0).intValue());
+		for (int index : new int[] { -1, 1, 2 }) {
+			try {
+				subList.get(index);
+				fail("IndexOutOfBoundsException expected for index " + index);
+			} catch (IndexOutOfBoundsException e) {
+				// this is the expected behavior
+			}
+		}
+	}
+
+	@Test
+	public void testRandomAccess() {
+		List<Integer> view = ConvertedList.of(CollectionUtil.toList("1", "2", "3"), new CountingParser(), false);
+		assertTrue(view instanceof RandomAccess);
+		assertTrue(view.subList(1, 3) instanceof RandomAccess);
+		List<String> sequential = new LinkedList<String>(CollectionUtil.toList("1", "2"));
+		assertFalse(ConvertedList.of(sequential, new CountingParser(), false) instanceof RandomAccess);
+	}
+
+	@Test
+	public void testSequentialSource() {
+		List<String> source = new LinkedList<String>(CollectionUtil.toList("1", "2", "3"));
+		List<Integer> view = new ConvertedList<String, Integer>(source, new CountingParser());
+		assertEquals(CollectionUtil.toList(1, 2, 3), view.stream().collect(Collectors.toList()));
+		assertEquals(CollectionUtil.toList(2, 3), view.subList(1, 3));
+	}
+
+	@Test
+	public void testParallelStream() {
+		List<String> source = new ArrayList<String>();
+		for (int i = 0; i < 10000; i++)
+			source.add(String.valueOf(i));
+		List<Integer> view = new ConvertedList<String, Integer>(source, new String2NumberConverter<Integer>(Integer.class), true);
+		assertEquals(10000 * 9999 / 2, view.parallelStream().mapToInt(Integer::intValue).sum());
+		assertEquals(9999, view.get(9999).intValue());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testReadOnly() {
+		new ConvertedList<String, Integer>(CollectionUtil.toList("1"), new CountingParser()).add(2);
+	}
+
+	@Test
+	public void testMap() {
+		Map<String, String> source = new HashMap<String, String>();
+		source.put("a", "1");
+		source.put("b", "2");
+		source.put("n", null);
+		CountingParser parser = new CountingParser();
+		Map<String, Integer> view = new ConvertedMap<String, String, Integer>(source, parser, true);
+		assertEquals(3, view.size());
+		assertEquals(1, view.get("a").intValue());
+		assertEquals(1, view.get("a").intValue());
+		assertNull(view.get("x"));
+		assertNull(view.get("n"));
+		assertTrue(view.containsKey("n"));
+		assertEquals(2, parser.count);
+		Map<String, Integer> expected = new HashMap<String, Integer>();
+		expected.put("a", 1);
+		expected.put("b", 2);
+		expected.put("n", null);
+		assertEquals(expected, view);
+		assertEquals(3, parser.count);
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void testReadOnlyKeySet() {
+		Map<String, String> source = new HashMap<String, String>();
+		source.put("a", "1");
+		new ConvertedMap<String, String, Integer>(source, new CountingParser()).keySet().remove("a");
+	}
+	
+	static class CountingParser extends UnsafeConverter<String, Integer> {
+		
+		int count;
+		
+		CountingParser() {
+			super(String.class, Integer.class);
+		}
+
+		@Override
+		public Integer convert(String sourceValue) throws ConversionException {
+			count++;
+			return (sourceValue != null ? Integer.valueOf(sourceValue) : null);
+		}
+	}
+
+}
@@ -17,6 +17,7 @@ package org.databene.commons.converter;
 import static org.junit.Assert.*;
 
 import org.databene.commons.ConversionException;
+import org.databene.commons.Converter;
 import org.junit.Test;
 
 /**
@@ -35,6 +36,33 @@ public class ConverterChainTest {
 		assertEquals(x, chain.convert(x));
 	}
 
+	@Test
+	public void testConvertAll() {
+		ConverterChain<String, Long> chain = new ConverterChain<String, Long>(
+				new String2NumberConverter<Integer>(Integer.class), new NumberToNumberConverter<Integer, Long>(Integer.class, Long.class));
+		String[] source = { "0", "1", "2", "3" };
+		Long[] target = new Long[4];
+		chain.convertAll(source, 1, 3, target);
+		assertArrayEquals(new Long[] { null, 1L, 2L, null }, target);
+		chain.convertAll(source, 0, 4, target);
+		assertArrayEquals(new Long[] { 0L, 1L, 2L, 3L }, target);
+	}
+
+	@Test
+	public void testConvertAllWithUntypedIntermediateValues() {
+		// SubCon declares Object as target type, but the next component declares Long as source type 
+		// while accepting any Number in convert()
+		ConverterChain<Object, Double> chain = new ConverterChain<Object, Double>(
+				new SubCon(), new NumberToNumberConverter<Long, Double>(Long.class, Double.class));
+		Object[] source = { 1, 2, 3 };
+		Double[] target = new Double[3];
+		chain.convertAll(source, 0, 3, target);
+		assertArrayEquals(new Double[] { 1., 2., 3. }, target);
+		target = new Double[3];
+		chain.convertAll(source, 1, 3, target);
+		assertArrayEquals(new Double[] { null, 2., 3. }, target);
+	}
+
 	public static class SubCon extends ThreadSafeConverter<Object, Object> {
 		protected SubCon() {
 			super(Object.class, Object.class);
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import static org.junit.Assert.*;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Date;
+
+import org.databene.commons.OrderedMap;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConverterIndex}.
+ * Created: 18.10.2026 08:52:10
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ConverterIndexTest {
+
+	@Test
+	public void testDefaultIndexUpToDate() throws Exception {
+		ConverterIndex expected = ConverterIndex.create(ConverterIndex.DEFAULT_CONFIG_FILENAME);
+		ConverterIndex actual = ConverterIndex.read(ConverterIndex.DEFAULT_INDEX_FILENAME);
+		assertNotNull(actual);
+		assertEquals("converters.idx is outdated, regenerate it with the 'converter-index' profile", 
+				format(expected), format(actual));
+	}
+
+	@Test
+	public void testReadWrite() throws Exception {
+		ConverterIndex index = new ConverterIndex();
+		index.put(String.class.getName(), Date.class.getName(), String2DateConverter.class.getName());
+		index.put(byte[].class.getName(), String.class.getName(), ByteArrayToBase64Converter.class.getName());
+		String text = format(index);
+		ConverterIndex copy = ConverterIndex.read("string://" + text);
+		assertEquals(2, copy.size());
+		assertEquals(String2DateConverter.class.getName(), copy.get("java.lang.String", "java.util.Date"));
+		assertEquals(ByteArrayToBase64Converter.class.getName(), copy.get("[B", "java.lang.String"));
+		assertNull(ConverterIndex.read("org/databene/commons/converter/none.idx"));
+	}
+
+	@Test
+	public void testRemove() {
+		ConverterIndex index = new ConverterIndex();
+		index.put("A", "B", "AB");
+		index.put("A", "C", "AC");
+		index.put("B", "C", "BC");
+		assertEquals("AB", index.remove("A", "B"));
+		assertNull(index.remove("A", "B"));
+		OrderedMap<String, String> remaining = index.removeAll("A");
+		assertEquals(1, remaining.size());
+		assertEquals("AC", remaining.get("C"));
+		assertEquals(1, index.size());
+	}
+
+	@Test
+	public void testLazyConverterManager() {
+		ConverterManager manager = ConverterManager.getInstance();
+		manager.reset();
+		assertTrue(manager.createConverter(String.class, Date.class) instanceof String2DateConverter);
+		assertTrue(manager.createConverter(Date.class, Long.class) instanceof Date2LongConverter);
+		assertEquals(Character.valueOf('A'), manager.createConverter(Number.class, Character.class).convert(65));
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private static String format(ConverterIndex index) {
+		StringWriter writer = new StringWriter();
+		PrintWriter out = new PrintWriter(writer);
+		index.write(out);
+		out.flush();
+		return writer.toString();
+	}
+
+}
@@ -33,10 +33,12 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import org.databene.SomeEnum;
 import org.databene.commons.ArrayUtil;
+import org.databene.commons.ConfigurationError;
 import org.databene.commons.ConversionException;
 import org.databene.commons.Converter;
 import org.databene.commons.TimeUtil;
@@ -291,6 +293,182 @@ public class ConverterManagerTest {
         		converter.convert("[1-3]{2,4}").toString());
     }
 	
+	// primitive converter tests -------------------------------------------------------------------------------------
+	
+	@Test
+	public void testCreateIntConverter() {
+		assertEquals(42, mgr.createIntConverter(String.class).convertToInt("42"));
+		assertEquals(42, mgr.createIntConverter(Long.class).convertToInt(42L));
+		assertEquals(42, mgr.createIntConverter(Integer.class).convertToInt(42));
+	}
+	
+	@Test
+	public void testCreateLongConverter() {
+		assertEquals(12345678901L, mgr.createLongConverter(String.class).convertToLong("12345678901"));
+		assertEquals(3L, mgr.createLongConverter(Double.class).convertToLong(3.7));
+	}
+	
+	@Test
+	public void testCreateDoubleConverter() {
+		assertEquals(1.5, mgr.createDoubleConverter(String.class).convertToDouble("1.5"), 0.);
+		assertEquals(2., mgr.createDoubleConverter(Integer.class).convertToDouble(2), 0.);
+	}
+	
+	@Test(expected = ConversionException.class)
+	public void testPrimitiveConversionOfEmptyString() {
+		mgr.createIntConverter(String.class).convertToInt("");
+	}
+	
+	@Test
+	public void testPrimitiveTargetConverterSupportsPrimitiveInterface() {
+		assertTrue(mgr.createConverter(String.class, int.class) instanceof IntConverter);
+		assertTrue(mgr.createConverter(Long.class, double.class) instanceof DoubleConverter);
+	}
+	
+	// lookup cache tests --------------------------------------------------------------------------------------------
+	
+	@Test
+	public void testUnsupportedConversionIsRemembered() {
+		for (int i = 0; i < 2; i++) {
+			try {
+				mgr.createConverter(String.class, ConverterManagerTest.class);
+				fail(ConversionException.class.getSimpleName() + " expected");
+			} catch (ConversionException e) {
+				// this is the expected behavior
+			}
+		}
+	}
+	
+	@Test
+	public void testRegistrationClearsUnsupportedSupertypeLookups() {
+		try {
+			try {
+				mgr.createConverter(String.class, Marker.class);
+				fail(ConversionException.class.getSimpleName() + " expected");
+			} catch (ConversionException e) {
+				// this is the expected behavior
+			}
+			mgr.registerConverterClass(String2MarkedValueConverter.class);
+			assertEquals("x", ((MarkedValue) mgr.createConverter(String.class, Marker.class).convert("x")).text);
+		} finally {
+			mgr.reset();
+		}
+	}
+	
+	@Test
+	public void testConcurrentLookup() throws Exception {
+		final Class<?>[] targetTypes = { Integer.class, Long.class, Double.class, BigDecimal.class, int.class, Locale.class };
+		final AtomicInteger failures = new AtomicInteger();
+		Thread[] threads = new Thread[8];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 1000; i++) {
+						Class<?> targetType = targetTypes[i % targetTypes.length];
+						try {
+							if (mgr.createConverter(String.class, targetType).convert("1") == null)
+								failures.incrementAndGet();
+						} catch (RuntimeException e) {
+							failures.incrementAndGet();
+						}
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(0, failures.get());
+	}
+	
+	@Test
+	public void testFactoryInvokers() {
+		assertEquals(new StringBuilder("abc").toString(), mgr.createConverter(String.class, StringBuilder.class).convert("abc").toString());
+		assertEquals(LongHolder.valueOf(3L).value, mgr.createConverter(Long.class, LongHolder.class).convert(3L).value);
+		assertEquals(Long.valueOf(5), mgr.createConverter(LongHolder.class, Long.class).convert(new LongHolder(5)));
+	}
+	
+	@Test(expected = ConfigurationError.class)
+	public void testFactoryInvokerFailure() {
+		mgr.createConverter(Long.class, LongHolder.class).convert(-1L);
+	}
+	
+	@Test
+	public void testFactoryInvokerArgumentConversion() throws Exception {
+		assertEquals(5, mgr.createConverter(Long.class, IntHolder.class).convert(5L).value);
+		StaticTargetClassMethodInvoker<Long, IntHolder> invoker = new StaticTargetClassMethodInvoker<Long, IntHolder>(
+				Long.class, IntHolder.class, IntHolder.class.getMethod("valueOf", int.class));
+		assertEquals(7, invoker.convert(7L).value);
+		ConstructorInvoker<Integer, LongHolder> constructorInvoker = new ConstructorInvoker<Integer, LongHolder>(
+				Integer.class, LongHolder.class.getConstructor(long.class));
+		assertEquals(9L, constructorInvoker.convert(9).value);
+	}
+	
+	@Test(expected = AssertionError.class)
+	public void testFactoryInvokerError() throws Exception {
+		new StaticTargetClassMethodInvoker<Integer, IntHolder>(
+				Integer.class, IntHolder.class, IntHolder.class.getMethod("valueOf", int.class)).convert(Integer.MIN_VALUE);
+	}
+	
+	public interface Marker {
+	}
+	
+	public static class MarkedValue implements Marker {
+		
+		final String text;
+		
+		public MarkedValue(String text) {
+			this.text = text;
+		}
+	}
+	
+	public static class String2MarkedValueConverter extends ThreadSafeConverter<String, MarkedValue> {
+		
+		public String2MarkedValueConverter() {
+			super(String.class, MarkedValue.class);
+		}
+		
+		@Override
+		public MarkedValue convert(String sourceValue) {
+			return new MarkedValue(sourceValue);
+		}
+	}
+	
+	public static class LongHolder {
+		
+		final long value;
+		
+		public LongHolder(long value) {
+			this.value = value;
+		}
+		
+		public static LongHolder valueOf(Long value) {
+			if (value < 0)
+				throw new IllegalArgumentException("negative: " + value);
+			return new LongHolder(value);
+		}
+		
+		public long longValue() {
+			return value;
+		}
+	}
+	
+	public static class IntHolder {
+		
+		final int value;
+		
+		private IntHolder(int value) {
+			this.value = value;
+		}
+		
+		public static IntHolder valueOf(int value) {
+			if (value == Integer.MIN_VALUE)
+				throw new AssertionError("unexpected value: " + value);
+			return new IntHolder(value);
+		}
+	}
+	
 	// private helpers -------------------------------------------------------------------------------------------------
 	
 	@SuppressWarnings("unchecked")
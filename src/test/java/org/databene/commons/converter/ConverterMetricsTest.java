@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.List;
+
+import javax.management.ObjectName;
+
+import org.databene.commons.ConversionException;
+import org.databene.commons.Converter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConverterMetrics} and the metrics mode of the {@link ConverterManager}.
+ * Created: 18.10.2026 11:02:36
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ConverterMetricsTest {
+	
+	private ConverterManager manager;
+	
+	@Before
+	public void setUp() {
+		manager = ConverterManager.getInstance();
+		manager.setMetricsEnabled(true);
+	}
+	
+	@After
+	public void tearDown() {
+		manager.setMetricsEnabled(false);
+	}
+
+	@Test
+	public void testInvocations() {
+		Converter<String, Integer> converter = manager.createConverter(String.class, Integer.class);
+		assertTrue(converter instanceof InstrumentedConverter);
+		assertEquals(1, converter.convert("1").intValue());
+		assertEquals(2, converter.convert("2").intValue());
+		try {
+			converter.convert("x");
+			fail(ConversionException.class.getSimpleName() + " expected");
+		} catch (ConversionException e) {
+			// expected
+		}
+		String[] sources = new String[] { "3", "4" };
+		Integer[] targets = new Integer[2];
+		converter.convertAll(sources, 0, 2, targets);
+		assertEquals(4, targets[1].intValue());
+		ConversionStats stats = manager.getMetrics().getStats(String.class, Integer.class);
+		assertEquals(5, stats.getInvocations());
+		assertEquals(1, stats.getFailures());
+		assertTrue(stats.getTotalNanos() >= stats.getMaxNanos());
+		assertTrue(stats.getMaxNanos() > 0);
+	}
+
+	@Test
+	public void testClones() {
+		manager.createConverter(String.class, Date.class);
+		manager.createConverter(String.class, Date.class);
+		ConversionStats stats = manager.getMetrics().getStats(String.class, Date.class);
+		assertEquals(0, stats.getInvocations());
+		assertEquals(2, stats.getClones());
+	}
+
+	@Test
+	public void testSnapshotAndReset() {
+		ConverterMetrics metrics = manager.getMetrics();
+		manager.createConverter(String.class, Long.class).convert("1");
+		manager.createConverter(String.class, Double.class).convert("1.5");
+		List<ConversionStats> snapshot = metrics.snapshot();
+		assertEquals(2, snapshot.size());
+		assertTrue(snapshot.get(0).getTotalNanos() >= snapshot.get(1).getTotalNanos());
+		assertEquals(2, metrics.getTotalInvocations());
+		assertEquals(2, metrics.getStatistics().length);
+		metrics.reset();
+		assertEquals(0, metrics.getTotalInvocations());
+	}
+
+	@Test
+	public void testDisabled() {
+		manager.setMetricsEnabled(false);
+		assertNull(manager.getMetrics());
+		assertFalse(manager.createConverter(String.class, Integer.class) instanceof InstrumentedConverter);
+	}
+
+	@Test
+	public void testMBean() throws Exception {
+		ConverterMetrics metrics = manager.getMetrics();
+		metrics.registerMBean();
+		ObjectName name = new ObjectName(ConverterMetrics.DEFAULT_OBJECT_NAME);
+		assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+		manager.createConverter(String.class, Integer.class).convert("1");
+		assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "TotalInvocations"));
+		manager.setMetricsEnabled(false);
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+	}
+
+}
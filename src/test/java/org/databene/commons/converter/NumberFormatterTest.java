@@ -66,6 +66,14 @@ public class NumberFormatterTest extends AbstractConverterTest {
 		});
 	}
 
+	@Test
+	public void testThreadSafe() {
+		NumberFormatter converter = new NumberFormatter("#,##0.00");
+		assertTrue(converter.isThreadSafe());
+		assertEquals("1,234.57", converter.convert(1234.567));
+		assertEquals("1,234.57", converter.convert(1234.567, new StringBuilder()).toString());
+	}
+	
 	void checkConversions() {
         NumberFormatter converter = new NumberFormatter();
 		// default
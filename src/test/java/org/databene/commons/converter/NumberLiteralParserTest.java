@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link NumberLiteralParser}.
+ * Created: 17.10.2026 15:58:20
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class NumberLiteralParserTest {
+
+	@Test
+	public void testParseInt() {
+		assertEquals(0, NumberLiteralParser.parseInt("0"));
+		assertEquals(123, NumberLiteralParser.parseInt(" 123 "));
+		assertEquals(-123, NumberLiteralParser.parseInt("-123"));
+		assertEquals(123, NumberLiteralParser.parseInt("+123"));
+		assertEquals(Integer.MAX_VALUE, NumberLiteralParser.parseInt(String.valueOf(Integer.MAX_VALUE)));
+		assertEquals(Integer.MIN_VALUE, NumberLiteralParser.parseInt(String.valueOf(Integer.MIN_VALUE)));
+	}
+
+	@Test
+	public void testParseIntRange() {
+		assertEquals(45, NumberLiteralParser.parseInt("12,45,78", 3, 5));
+		assertEquals(45, NumberLiteralParser.parseInt("12,45,78".toCharArray(), 3, 5));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testIntOverflow() {
+		NumberLiteralParser.parseInt("2147483648");
+	}
+
+	@Test
+	public void testParseLong() {
+		assertEquals(Long.MAX_VALUE, NumberLiteralParser.parseLong(String.valueOf(Long.MAX_VALUE)));
+		assertEquals(Long.MIN_VALUE, NumberLiteralParser.parseLong(String.valueOf(Long.MIN_VALUE)));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testLongOverflow() {
+		NumberLiteralParser.parseLong("9223372036854775808");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testIllegalInt() {
+		NumberLiteralParser.parseInt("1x");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testSignOnly() {
+		NumberLiteralParser.parseLong("-");
+	}
+
+	@Test
+	public void testParseDouble() {
+		String[] literals = { "0", "-0.0", "1", "1.5", "-1.25", ".5", "1.", "0.001", "123.456e3", "1E-5", "3.141592653589793", 
+				"0.1", "0.30000000000000004", "12345678901234567890", "1e300", "4.9e-324", "1e+5", "NaN", "-Infinity", "1d" };
+		for (String literal : literals)
+			assertEquals(literal, Double.parseDouble(literal), NumberLiteralParser.parseDouble(literal), 0.);
+		assertEquals(2.5, NumberLiteralParser.parseDouble("x2.5x".toCharArray(), 1, 4), 0.);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testIllegalDouble() {
+		NumberLiteralParser.parseDouble("1.2.3");
+	}
+
+	@Test
+	public void testIllegalExponent() {
+		for (String literal : new String[] { "1e 5", "1e", "1e+", "1e--5", "1e5x" }) {
+			try {
+				NumberLiteralParser.parseDouble(literal);
+				fail("NumberFormatException expected for '" + literal + "'");
+			} catch (NumberFormatException e) {
+				// this is the expected behavior
+			}
+		}
+	}
+
+	@Test
+	public void testParseBigDecimal() {
+		assertEquals(new BigDecimal("1.50"), NumberLiteralParser.parseBigDecimal("1.50", 0, 4));
+		assertEquals(new BigDecimal("-12.345"), NumberLiteralParser.parseBigDecimal(" -12.345 ", 0, 9));
+		assertEquals(new BigDecimal("1234567890.1234567890123"), NumberLiteralParser.parseBigDecimal("1234567890.1234567890123", 0, 24));
+		assertEquals(new BigDecimal("1.5E3"), NumberLiteralParser.parseBigDecimal("1.5E3", 0, 5));
+	}
+
+	@Test
+	public void testParseTyped() {
+		assertEquals(Byte.valueOf((byte) 12), NumberLiteralParser.parse("12", 0, 2, Byte.class));
+		assertEquals(Short.valueOf((short) 12), NumberLiteralParser.parse("12", 0, 2, Short.class));
+		assertEquals(Float.valueOf(1.5f), NumberLiteralParser.parse("1.5", 0, 3, Float.class));
+		assertEquals(Double.valueOf(1.5), NumberLiteralParser.parse("1.5", 0, 3, Number.class));
+		assertEquals(new BigInteger("123456789012345678901234"), 
+				NumberLiteralParser.parse("123456789012345678901234", 0, 24, BigInteger.class));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testByteOverflow() {
+		NumberLiteralParser.parse("128", 0, 3, Byte.class);
+	}
+
+}
@@ -47,6 +47,14 @@ public class NumberParserTest extends AbstractConverterTest {
 		assertEquals(1000, converter.convert("1000").intValue());
 	}
 	
+	@Test
+	public void testPrimitive() {
+		NumberParser converter = new NumberParser();
+		assertEquals(1000, converter.convertToInt("1000"));
+		assertEquals(1000L, converter.convertToLong("1000"));
+		assertEquals(0.5, converter.convertToDouble("0.5"));
+	}
+	
 	@Test
 	public void testConvert_US() {
 		LocaleUtil.runInLocale(Locale.US, new Runnable() {
@@ -47,6 +47,14 @@ public class NumberToNumberConverterTest {
 		checkStaticConversion(new BigDecimal("5.0"), BigDecimal.class);
 	}
 
+	@Test
+	public void testConvertAll() {
+		NumberToNumberConverter<Integer, Double> converter = new NumberToNumberConverter<Integer, Double>(Integer.class, Double.class);
+		Double[] target = new Double[3];
+		converter.convertAll(new Integer[] { 1, null, 3 }, 0, 3, target);
+		assertArrayEquals(new Double[] { 1., null, 3. }, target);
+	}
+
 	@Test
 	public void testInstanceConversion() {
 		checkInstanceConversion(5L, Long.class);
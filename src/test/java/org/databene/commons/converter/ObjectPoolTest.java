@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.databene.commons.Factory;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ObjectPool}.
+ * Created: 17.10.2026 23:41:27
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ObjectPoolTest {
+
+	@Test
+	public void testReuse() {
+		CountingFactory factory = new CountingFactory();
+		ObjectPool<StringBuilder> pool = new ObjectPool<StringBuilder>(factory);
+		StringBuilder first = pool.borrow();
+		pool.release(first);
+		assertEquals(1, pool.getIdleCount());
+		assertSame(first, pool.borrow());
+		assertEquals(0, pool.getIdleCount());
+		assertNotSame(first, pool.borrow());
+		assertEquals(2, factory.count.get());
+	}
+
+	@Test
+	public void testBoundedSize() {
+		ObjectPool<StringBuilder> pool = new ObjectPool<StringBuilder>(new CountingFactory(), 1, 2, 60000);
+		StringBuilder[] objects = new StringBuilder[] { pool.borrow(), pool.borrow(), pool.borrow() };
+		for (StringBuilder object : objects)
+			pool.release(object);
+		assertEquals(2, pool.getIdleCount());
+		pool.clear();
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	@Test
+	public void testIdleEviction() throws Exception {
+		CountingFactory factory = new CountingFactory();
+		ObjectPool<StringBuilder> pool = new ObjectPool<StringBuilder>(factory, 1, 4, 1);
+		StringBuilder first = pool.borrow();
+		pool.release(first);
+		Thread.sleep(10);
+		assertNotSame(first, pool.borrow());
+		assertEquals(2, factory.count.get());
+	}
+
+	@Test
+	public void testSweepOfIdleStripes() throws Exception {
+		final ObjectPool<StringBuilder> pool = new ObjectPool<StringBuilder>(new CountingFactory(), 64, 4, 1);
+		Thread other = new Thread() {
+			@Override
+			public void run() {
+				pool.release(pool.borrow());
+			}
+		};
+		other.start();
+		other.join();
+		assertEquals(1, pool.getIdleCount());
+		Thread.sleep(10);
+		pool.release(pool.borrow());
+		assertEquals(1, pool.getIdleCount());
+		Thread.sleep(10);
+		pool.evictIdle();
+		assertEquals(0, pool.getIdleCount());
+	}
+	
+	static class CountingFactory implements Factory<StringBuilder> {
+		final AtomicInteger count = new AtomicInteger();
+		@Override
+		public StringBuilder create() {
+			count.incrementAndGet();
+			return new StringBuilder();
+		}
+	}
+
+}
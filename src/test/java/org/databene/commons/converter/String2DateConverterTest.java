@@ -14,8 +14,11 @@
  */
 package org.databene.commons.converter;
 
+import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.TimeZone;
 
 import org.junit.Test;
 import static junit.framework.Assert.*;
@@ -60,6 +63,33 @@ public class String2DateConverterTest extends AbstractConverterTest {
         assertEquals(TimeUtil.date(-10000, 3, 1), convert("-10000-4-1"));
     }
 
+	@Test
+    public void testSpaceSeparator() {
+        assertEquals(TimeUtil.date(2007, 8, 6, 13, 28, 56, 0), convert("2007-09-06 13:28:56"));
+        assertEquals(TimeUtil.date(2007, 8, 6, 13, 28, 56, 123), convert("2007-09-06 13:28:56.123"));
+    }
+
+	@Test
+    public void testLenientIsoShape() {
+        assertEquals(TimeUtil.date(2008, 0, 1), convert("2007-13-01"));
+    }
+
+	@Test
+    public void testTimeZoneChange() {
+		for (final String zoneId : new String[] { "GMT", "Asia/Singapore", "America/Los_Angeles" }) {
+			TimeUtil.runInTimeZone(TimeZone.getTimeZone(zoneId), new Runnable() {
+				@Override
+				public void run() {
+					Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone(zoneId));
+					calendar.clear();
+					calendar.set(2007, 8, 6, 13, 28, 56);
+					assertEquals(zoneId, calendar.getTime(), convert("2007-09-06T13:28:56"));
+					assertEquals(zoneId, calendar.getTime(), new String2DateConverter<Date>("dd.MM.yyyy HH:mm:ss").convert("06.09.2007 13:28:56"));
+				}
+			});
+		}
+    }
+
 	private static Date convert(String stringValue) {
 		return new String2DateConverter<Date>().convert(stringValue);
 	}
@@ -60,6 +60,20 @@ public class TimestampFormatterTest extends AbstractConverterTest {
 		assertEquals("1971-02-03 13:14:15", new TimestampFormatter("yyyy-MM-dd HH:mm:ss").format(timestamp));
 	}
 	
+	@Test
+	public void testLeadingZeros() {
+		Timestamp early = TimeUtil.timestamp(1971, 1, 3, 13, 14, 15, 5000000);
+		assertEquals("1971-02-03 13:14:15.005", new TimestampFormatter("yyyy-MM-dd HH:mm:ss.SSS").format(early));
+	}
+	
+	@Test
+	public void testAppendable() {
+		StringBuilder builder = new StringBuilder("ts=");
+		new TimestampFormatter("yyyy-MM-dd HH:mm:ss.SSS").format(timestamp, builder).append(';');
+		new TimestampFormatter().convert(null, builder);
+		assertEquals("ts=1971-02-03 13:14:15.123;", builder.toString());
+	}
+	
 	@Test
 	public void testNull() {
 		assertEquals(null, new TimestampFormatter().format(null));
@@ -63,6 +63,18 @@ public class ToArrayConverterTest extends AbstractConverterTest {
 		check(ArrayUtil.toArray("Alpha"), "Alpha", String.class);
 	}
 	
+	@Test
+	public void testInPlace() {
+		String[] target = new String[3];
+		Assert.equals(target, ToArrayConverter.convert(CollectionUtil.toList("A", "B"), target));
+		Assert.equals(new String[] { "A", "B", null }, target);
+		target[2] = "X";
+		Assert.equals(target, ToArrayConverter.convert(new String[] { "C" }, target));
+		Assert.equals(new String[] { "C", null, "X" }, target);
+		Assert.equals(new String[] { "A", "B" }, ToArrayConverter.convert(new String[] { "A", "B" }, new String[1]));
+		Assert.equals(new String[] { "Alpha" }, ToArrayConverter.convert("Alpha", new String[0]));
+	}
+	
 	// helpers ---------------------------------------------------------------------------------------------------------
 	
 	@SuppressWarnings("unchecked")
@@ -43,6 +43,19 @@ public class ToCollectionConverterTest extends AbstractConverterTest {
         assertNull(ToCollectionConverter.convert(null, List.class));
     }
 
+    @Test
+	@SuppressWarnings("rawtypes")
+    public void testView() {
+        Converter<Object, List> converter = new ToCollectionConverter<List>(List.class, true);
+        List<Integer> list = createList();
+        assertSame(list, converter.convert(list));
+        Integer[] array = createArray();
+        List view = converter.convert(array);
+        assertEquals(list, view);
+        array[0] = 5;
+        assertEquals(5, view.get(0));
+    }
+
     @Test
 	@SuppressWarnings({ "rawtypes", "unchecked" })
     public void testToList() throws ConversionException {
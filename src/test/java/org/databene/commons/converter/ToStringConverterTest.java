@@ -14,9 +14,11 @@
  */
 package org.databene.commons.converter;
 
+import java.math.BigDecimal;
 import java.util.Locale;
 
 import org.databene.commons.LocaleUtil;
+import org.databene.commons.TimeUtil;
 import org.junit.Test;
 import static junit.framework.Assert.*;
 
@@ -46,6 +48,29 @@ public class ToStringConverterTest extends AbstractConverterTest {
 		assertEquals("1000", new ToStringConverter().convert(1000));
     }
 	
+	@Test
+	public void testAppendable() {
+		ToStringConverter converter = new ToStringConverter("<null>");
+		converter.setStringQuote("'");
+		converter.setDecimalPattern("0.00");
+		StringBuilder builder = new StringBuilder();
+		converter.convert("abc", builder).append(',');
+		converter.convert(-11, builder).append(',');
+		converter.convert(0.5, builder).append(',');
+		converter.convert(null, builder).append(',');
+		converter.convert(TimeUtil.date(2015, 2, 27), builder).append(',');
+		converter.convert(Locale.GERMANY, builder);
+		assertEquals("'abc',-11,0.50,<null>,2015-03-27,de_DE", builder.toString());
+	}
+	
+	@Test
+	public void testAppendableEqualsConvert() {
+		ToStringConverter converter = new ToStringConverter();
+		Object[] values = { 1L, 2.5, 3., new BigDecimal("1.50"), 'c', TimeUtil.timestamp(1971, 1, 3, 13, 14, 15, 123456789), TimeUtil.time(1, 2, 3) };
+		for (Object value : values)
+			assertEquals(converter.convert(value), converter.convert(value, new StringBuffer()).toString());
+	}
+	
 	@Test
 	public void testDecimal_US() {
 		LocaleUtil.runInLocale(Locale.US, new Runnable() {
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.databene.commons.ConversionException;
+
+import org.databene.commons.Converter;
+import org.databene.commons.TimeUtil;
+import org.databene.commons.iterator.ListTableRowIterator;
+import org.junit.Test;
+
+/**
+ * Tests the {@link TypeInferrer} and the {@link LiteralClassifier}.
+ * Created: 17.10.2026 18:02:13
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class TypeInferrerTest {
+	
+	@Test
+	public void testClassify() {
+		LiteralClassifier classifier = new LiteralClassifier();
+		assertNull(classifier.classify(""));
+		assertNull(classifier.classify("  "));
+		assertEquals(LiteralType.BOOLEAN, classifier.classify("true"));
+		assertEquals(LiteralType.INTEGER, classifier.classify(" 123 "));
+		assertEquals(123L, classifier.getLongValue());
+		assertEquals(LiteralType.INTEGER, classifier.classify("-5"));
+		assertEquals(LiteralType.LONG, classifier.classify("12345678901"));
+		assertEquals(LiteralType.DOUBLE, classifier.classify("1.5"));
+		assertEquals(1.5, classifier.getDoubleValue(), 0.);
+		assertEquals(LiteralType.DATE, classifier.classify("2015-03-27"));
+		assertEquals(2015, classifier.getYear());
+		assertEquals(3, classifier.getMonth());
+		assertEquals(27, classifier.getDay());
+		assertEquals(LiteralType.TIME, classifier.classify("12:30"));
+		assertEquals(LiteralType.STRING, classifier.classify("Alice"));
+		assertEquals(LiteralType.STRING, classifier.classify("'123'"));
+		assertEquals(LiteralType.INTEGER, classifier.classify("a123b", 1, 4));
+	}
+	
+	@Test
+	public void testGeneralize() {
+		assertEquals(LiteralType.LONG, LiteralType.INTEGER.generalize(LiteralType.LONG));
+		assertEquals(LiteralType.DOUBLE, LiteralType.DOUBLE.generalize(LiteralType.INTEGER));
+		assertEquals(LiteralType.STRING, LiteralType.DATE.generalize(LiteralType.INTEGER));
+		assertEquals(LiteralType.BOOLEAN, LiteralType.BOOLEAN.generalize(null));
+	}
+	
+	@Test
+	public void testSample() {
+		ListTableRowIterator iterator = new ListTableRowIterator("id", "name", "score", "birth", "flag", "empty");
+		iterator.addRow(new Object[] { "1", "Alice", "3",   "1970-01-02", "true",  null });
+		iterator.addRow(new Object[] { "2", "Bob",   "3.5", "1980-05-06", "false", ""   });
+		iterator.addRow(new Object[] { "3", "4",     "7",   "1990-07-08", "true",  null });
+		TypeInferrer inferrer = TypeInferrer.sample(iterator, 2);
+		assertEquals(2, inferrer.getSampleCount());
+		assertArrayEquals(new LiteralType[] { LiteralType.INTEGER, LiteralType.STRING, LiteralType.DOUBLE, 
+				LiteralType.DATE, LiteralType.BOOLEAN, null }, inferrer.getColumnTypes());
+		assertArrayEquals(new Class<?>[] { Integer.class, String.class, Double.class, Date.class, Boolean.class, String.class }, 
+				inferrer.getColumnJavaTypes());
+		// the remaining row is converted without classification
+		Converter<Object[], Object[]> rowConverter = inferrer.createRowConverter();
+		Object[] row = rowConverter.convert(iterator.next());
+		assertArrayEquals(new Object[] { 3, "4", 7., TimeUtil.date(1990, 6, 8), true, null }, row);
+		assertFalse(iterator.hasNext());
+	}
+	
+	@Test
+	public void testNonStringCells() {
+		TypeInferrer inferrer = new TypeInferrer();
+		inferrer.addRow(new Object[] { 1, "2" });
+		inferrer.addRow(new Object[] { 2L, "x", "extra" });
+		assertEquals(3, inferrer.getColumnCount());
+		assertEquals(LiteralType.LONG, inferrer.getColumnType(0));
+		assertEquals(LiteralType.STRING, inferrer.getColumnType(1));
+		assertEquals(LiteralType.STRING, inferrer.getColumnType(2));
+		assertNull(inferrer.getColumnType(3));
+	}
+	
+	@Test
+	public void testSampledRowsHandedBack() {
+		ListTableRowIterator iterator = new ListTableRowIterator("id", "name");
+		iterator.addRow(new Object[] { "1", "Alice" });
+		iterator.addRow(new Object[] { "2", "Bob" });
+		iterator.addRow(new Object[] { "3", "Charly" });
+		List<Object[]> sampledRows = new ArrayList<Object[]>();
+		TypeInferrer inferrer = TypeInferrer.sample(iterator, 2, sampledRows);
+		assertEquals(2, sampledRows.size());
+		Converter<Object[], Object[]> rowConverter = inferrer.createRowConverter();
+		assertArrayEquals(new Object[] { 1, "Alice" }, rowConverter.convert(sampledRows.get(0)));
+		assertArrayEquals(new Object[] { 2, "Bob" }, rowConverter.convert(sampledRows.get(1)));
+		assertArrayEquals(new Object[] { 3, "Charly" }, rowConverter.convert(iterator.next()));
+	}
+	
+	@Test
+	public void testNonStringCellsPassedThrough() {
+		TypeInferrer inferrer = new TypeInferrer();
+		inferrer.addRow(new Object[] { "1", "2015-03-27" });
+		Date date = TimeUtil.date(2000, 0, 1);
+		Object[] row = inferrer.createRowConverter().convert(new Object[] { 5L, date });
+		assertEquals(5L, row[0]);
+		assertSame(date, row[1]);
+	}
+	
+	@Test
+	public void testDateAndTimeColumns() {
+		TypeInferrer inferrer = new TypeInferrer();
+		inferrer.addRow(new Object[] { "2015-03-27T12:30", "12:30:15" });
+		assertArrayEquals(new LiteralType[] { LiteralType.DATE, LiteralType.TIME }, inferrer.getColumnTypes());
+		Object[] row = inferrer.createRowConverter().convert(new Object[] { " 2016-04-28T13:45 ", "08:15" });
+		assertEquals(TimeUtil.date(2016, 3, 28, 13, 45, 0, 0), row[0]);
+		assertEquals(TimeUtil.time(8, 15), row[1]);
+	}
+	
+	@Test(expected = ConversionException.class)
+	public void testNonDateInDateColumn() {
+		new LiteralDateConverter(false).convert("12:30");
+	}
+	
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.converter;
+
+import static org.junit.Assert.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link UniqueStringConverter}.
+ * Created: 17.10.2026 22:58:14
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class UniqueStringConverterTest extends AbstractConverterTest {
+
+	public UniqueStringConverterTest() {
+		super(UniqueStringConverter.class);
+	}
+
+	@Test
+	public void testSequence() {
+		check(new UniqueStringConverter());
+	}
+
+	@Test
+	public void testCompact() {
+		UniqueStringConverter converter = new UniqueStringConverter(true);
+		assertTrue(converter.isCompact());
+		check(converter);
+	}
+
+	@Test
+	public void testManyDuplicates() {
+		UniqueStringConverter converter = new UniqueStringConverter();
+		for (int i = 0; i < 100000; i++)
+			assertEquals(i == 0 ? "x" : "x" + (i - 1), converter.convert("x"));
+	}
+
+	@Test
+	public void testFingerprintCollision() {
+		UniqueStringConverter converter = new UniqueStringConverter(true) {
+			@Override
+			long fingerprint(String value) {
+				return 42; // all Strings collide
+			}
+		};
+		assertEquals("a", converter.convert("a"));
+		assertEquals("b", converter.convert("b"));
+		assertEquals("c", converter.convert("c"));
+		assertEquals("a0", converter.convert("a"));
+		assertEquals("b1", converter.convert("b"));
+		assertEquals("b2", converter.convert("b"));
+		assertEquals("c3", converter.convert("c"));
+	}
+
+	@Test
+	public void testConcurrentClones() throws Exception {
+		final UniqueStringConverter prototype = new UniqueStringConverter(true);
+		final Set<String> results = ConcurrentHashMap.newKeySet();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final UniqueStringConverter converter = (UniqueStringConverter) ConverterManager.cloneIfSupported(prototype);
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 10000; i++)
+						results.add(converter.convert("key" + (i % 100)));
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(40000, results.size());
+	}
+
+	private static void check(UniqueStringConverter converter) {
+		assertEquals("a", converter.convert("a"));
+		assertEquals("a0", converter.convert("a"));
+		assertEquals("b", converter.convert("b"));
+		assertEquals("a1", converter.convert("a"));
+		assertEquals("a00", converter.convert("a0"));
+		assertEquals("a2", converter.convert("a"));
+		assertNull(converter.convert(null));
+	}
+
+}
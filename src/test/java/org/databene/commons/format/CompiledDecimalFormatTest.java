@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.format;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link CompiledDecimalFormat}.
+ * Created: 17.10.2026 21:20:45
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class CompiledDecimalFormatTest {
+	
+	private static final DecimalFormatSymbols US = DecimalFormatSymbols.getInstance(Locale.US);
+
+	@Test
+	public void testCompiledPatterns() {
+		for (String pattern : new String[] { "0", "#", "0.#", "#.#", "0.00", "#,##0.00", "#,##0", "00.0##", ".00" })
+			assertTrue(pattern, new CompiledDecimalFormat(pattern, US).isCompiled());
+		for (String pattern : new String[] { "0.00%", "0.###E0", "$#,##0.00", "#,##0.00;(#,##0.00)" })
+			assertFalse(pattern, new CompiledDecimalFormat(pattern, US).isCompiled());
+	}
+
+	@Test
+	public void testFormat() {
+		assertEquals("1,234.50", new CompiledDecimalFormat("#,##0.00", US).format(1234.5));
+		assertEquals("0.1", new CompiledDecimalFormat("#.#", US).format(0.05));
+		assertEquals("2.67", new CompiledDecimalFormat("0.00", US).format(2.675));
+		assertEquals("-0.00", new CompiledDecimalFormat("0.00", US).format(-0.001));
+		assertEquals(".50", new CompiledDecimalFormat("#.00", US).format(0.5));
+		assertEquals("12.5%", new CompiledDecimalFormat("0.#%", US).format(0.125));
+	}
+
+	@Test
+	public void testCustomSeparators() {
+		DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.US);
+		symbols.setDecimalSeparator(',');
+		symbols.setGroupingSeparator('.');
+		CompiledDecimalFormat format = new CompiledDecimalFormat("#,##0.00", symbols);
+		assertEquals("1.234.567,89", format.format(1234567.891));
+		assertEquals("1.234.567,89", format.format(1234567.891, new StringBuilder()).toString());
+	}
+
+	@Test
+	public void testEqualToDecimalFormat() {
+		Random random = new Random(0);
+		for (String pattern : new String[] { "0.#", "0.00", "#,##0.00", "#,##0", "#.##", "00.000" }) {
+			DecimalFormat expected = new DecimalFormat(pattern, US);
+			CompiledDecimalFormat actual = new CompiledDecimalFormat(pattern, US);
+			for (int i = 0; i < 10000; i++) {
+				double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(10));
+				assertEquals(expected.format(value), actual.format(value));
+				long longValue = random.nextLong() >> random.nextInt(64);
+				assertEquals(expected.format(longValue), actual.format(longValue));
+			}
+			for (Number value : new Number[] { 0.125, 2.5, -0.0, Double.NaN, Double.NEGATIVE_INFINITY, 1e300, 
+					Long.MIN_VALUE, new BigDecimal("123456789.987654321"), 1.5f })
+				assertEquals(expected.format(value), actual.format(value));
+		}
+	}
+
+	@Test
+	public void testParse() throws ParseException {
+		assertEquals(1234.5, new CompiledDecimalFormat("#,##0.00", US).parse("1,234.50").doubleValue(), 0.);
+	}
+
+}
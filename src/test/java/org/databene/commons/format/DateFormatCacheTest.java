@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.format;
+
+import static org.junit.Assert.*;
+
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link DateFormatCache}.
+ * Created: 18.10.2026 12:40:15
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class DateFormatCacheTest {
+
+	@Test
+	public void testReuse() {
+		SimpleDateFormat format = DateFormatCache.getFormat("yyyy-MM-dd", Locale.US);
+		assertSame(format, DateFormatCache.getFormat("yyyy-MM-dd", Locale.US));
+		assertNotSame(format, DateFormatCache.getFormat("yyyy-MM-dd", Locale.GERMANY));
+		assertEquals("yyyy-MM-dd", format.toPattern());
+	}
+
+	@Test
+	public void testBoundedSize() {
+		for (int i = 0; i < DateFormatCache.MAX_CACHE_SIZE * 2; i++)
+			assertEquals("'" + i + "'", DateFormatCache.getFormat("'" + i + "'", Locale.US).toPattern());
+		assertTrue(DateFormatCache.size() <= DateFormatCache.MAX_CACHE_SIZE);
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.format;
+
+import static org.junit.Assert.*;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.databene.commons.Patterns;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DateRenderCache}.
+ * Created: 18.10.2026 15:44:18
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class DateRenderCacheTest {
+	
+	private static final String[] CACHING_PATTERNS = {
+		Patterns.DEFAULT_DATE_PATTERN, 
+		Patterns.DEFAULT_TIME_MILLIS_PATTERN, 
+		Patterns.DEFAULT_DATETIME_SECONDS_PATTERN, 
+		Patterns.DEFAULT_DATETIME_MICROS_PATTERN, 
+		Patterns.DEFAULT_DATETIME_SECONDS_PATTERN + '.', 
+		"dd.MM.yyyy HH:mm:s 'sec'", 
+		"z EEE, d MMM yyyy HH:mm:ss", 
+		"yyyyMMddHHmmssSSS"
+	};
+	
+	private static final String[] NON_CACHING_PATTERNS = {
+		"ss:mm:HH", 
+		"HH:mm:ss.SSS ss", 
+		"EEE, d MMM yyyy HH:mm:ss z", 
+		"SSS"
+	};
+	
+	private static final String[] ZONES = { "UTC", "Europe/Berlin", "America/New_York", "Europe/Amsterdam", "Asia/Kolkata" };
+
+	@Test
+	public void testCaching() {
+		for (String pattern : CACHING_PATTERNS)
+			assertTrue(pattern, new DateRenderCache(pattern).isCaching());
+		for (String pattern : NON_CACHING_PATTERNS)
+			assertFalse(pattern, new DateRenderCache(pattern).isCaching());
+	}
+
+	@Test
+	public void testEquivalence() {
+		TimeZone defaultZone = TimeZone.getDefault();
+		try {
+			Random random = new Random(0);
+			for (String zone : ZONES) {
+				TimeZone.setDefault(TimeZone.getTimeZone(zone));
+				for (String pattern : CACHING_PATTERNS)
+					check(pattern, random);
+				for (String pattern : NON_CACHING_PATTERNS)
+					check(pattern, random);
+			}
+		} finally {
+			TimeZone.setDefault(defaultZone);
+		}
+	}
+
+	@Test
+	public void testDaylightSavingChange() {
+		TimeZone defaultZone = TimeZone.getDefault();
+		try {
+			TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+			DateRenderCache renderer = new DateRenderCache("yyyy-MM-dd HH:mm:ss z");
+			// 2015-10-25 02:30:00 CEST, then one hour later 02:30:00 CET
+			long time = 1445733000000L;
+			assertEquals("2015-10-25 02:30:00 CEST", renderer.format(new Date(time)));
+			assertEquals("2015-10-25 02:30:00 CET", renderer.format(new Date(time + 3600000L)));
+		} finally {
+			TimeZone.setDefault(defaultZone);
+		}
+	}
+	
+	@Test
+	public void testDefaultZoneChange() {
+		TimeZone defaultZone = TimeZone.getDefault();
+		try {
+			TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+			DateRenderCache renderer = new DateRenderCache(Patterns.DEFAULT_DATETIME_SECONDS_PATTERN);
+			assertEquals("1970-01-01T00:00:01", renderer.format(new Date(1000)));
+			TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+			assertEquals("1970-01-01T05:31:00", renderer.format(new Date(60000)));
+		} finally {
+			TimeZone.setDefault(defaultZone);
+		}
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private static void check(String pattern, Random random) {
+		DateRenderCache renderer = new DateRenderCache(pattern);
+		SimpleDateFormat format = new SimpleDateFormat(pattern);
+		long time = -2500000000000L;
+		while (time < 2500000000000L) {
+			for (int i = 0; i < 5; i++) {
+				Date date = new Date(time + random.nextInt(120000));
+				assertEquals(format.format(date), renderer.format(date));
+			}
+			time += (long) (random.nextDouble() * 5000000000L);
+		}
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.io;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.databene.commons.Base64Codec;
+import org.databene.commons.IOUtil;
+import org.junit.Test;
+
+/**
+ * Tests the {@link Base64InputStream} and the {@link Base64OutputStream}.
+ * Created: 17.10.2026 22:14:27
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class Base64StreamTest {
+
+	@Test
+	public void testOutputStream() throws IOException {
+		Random random = new Random(0);
+		for (int length : new int[] { 0, 1, 2, 3, 4, 3071, 3072, 3073, 10000 }) {
+			byte[] data = new byte[length];
+			random.nextBytes(data);
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			Base64OutputStream out = new Base64OutputStream(buffer);
+			int half = length / 2;
+			out.write(data, 0, half);
+			out.flush();
+			for (int i = half; i < length; i++)
+				out.write(data[i]);
+			out.close();
+			assertEquals(Base64Codec.encode(data), new String(buffer.toByteArray(), StandardCharsets.US_ASCII));
+		}
+	}
+
+	@Test
+	public void testInputStream() throws IOException {
+		Random random = new Random(1);
+		for (int length : new int[] { 0, 1, 2, 3, 4, 3071, 3072, 3073, 10000 }) {
+			byte[] data = new byte[length];
+			random.nextBytes(data);
+			byte[] code = Base64Codec.encode(data).getBytes(StandardCharsets.US_ASCII);
+			InputStream in = new Base64InputStream(new ByteArrayInputStream(code));
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			IOUtil.transfer(in, result);
+			assertArrayEquals(data, result.toByteArray());
+		}
+	}
+
+	@Test
+	public void testLineBreaks() throws IOException {
+		byte[] code = "QUJDREVG\r\nR0hJ\nSktM TU5PUFFSU1RVVldYWVo=\r\n".getBytes(StandardCharsets.US_ASCII);
+		InputStream in = new Base64InputStream(new ByteArrayInputStream(code));
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		IOUtil.transfer(in, result);
+		assertEquals("ABCDEFGHIJKLMNOPQRSTUVWXYZ", new String(result.toByteArray(), StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void testSingleByteRead() throws IOException {
+		InputStream in = new Base64InputStream(new ByteArrayInputStream("QUI=".getBytes(StandardCharsets.US_ASCII)));
+		assertEquals('A', in.read());
+		assertEquals('B', in.read());
+		assertEquals(-1, in.read());
+	}
+
+	@Test(expected = IOException.class)
+	public void testIllegalCharacter() throws IOException {
+		InputStream in = new Base64InputStream(new ByteArrayInputStream("QU?=".getBytes(StandardCharsets.US_ASCII)));
+		in.read();
+	}
+
+	@Test(expected = IOException.class)
+	public void testDataAfterPadding() throws IOException {
+		InputStream in = new Base64InputStream(new ByteArrayInputStream("QQ==QUJD".getBytes(StandardCharsets.US_ASCII)));
+		IOUtil.transfer(in, new ByteArrayOutputStream());
+	}
+
+}
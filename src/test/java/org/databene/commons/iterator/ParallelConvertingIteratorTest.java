@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.databene.commons.iterator;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.databene.commons.ConversionException;
+import org.databene.commons.converter.ParallelConvertingIterable;
+import org.databene.commons.converter.String2NumberConverter;
+import org.databene.commons.converter.UnsafeConverter;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ParallelConvertingIterator} and the {@link ParallelConvertingIterable}.
+ * Created: 17.10.2026 19:55:40
+ * @since 1.0.13
+ * @author Volker Bergmann
+ */
+public class ParallelConvertingIteratorTest extends IteratorTestCase {
+
+	@Test
+	public void testOrder() {
+		List<String> source = new ArrayList<String>();
+		for (int i = 0; i < 1000; i++)
+			source.add(String.valueOf(i));
+		ParallelConvertingIterator<String, Integer> iterator = new ParallelConvertingIterator<String, Integer>(
+				source.iterator(), new String2NumberConverter<Integer>(Integer.class), 4, 7);
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(iterator.hasNext());
+			assertEquals(i, iterator.next().intValue());
+		}
+		assertFalse(iterator.hasNext());
+		iterator.close();
+	}
+
+	@Test
+	public void testIterable() {
+		ParallelConvertingIterable<String, Integer> iterable = new ParallelConvertingIterable<String, Integer>(
+				Arrays.asList("1", "2", "3"), new String2NumberConverter<Integer>(Integer.class), 2, 2);
+		assertEquals(Integer.class, iterable.getType());
+		expectNextElements(iterable.iterator(), 1, 2, 3).withNoNext();
+		expectNextElements(iterable.iterator(), 1, 2, 3).withNoNext();
+	}
+
+	@Test
+	public void testCallerSuppliedExecutor() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			List<String> source = new ArrayList<String>();
+			for (int i = 0; i < 1000; i++)
+				source.add(String.valueOf(i));
+			ParallelConvertingIterable<String, Integer> iterable = new ParallelConvertingIterable<String, Integer>(
+					source, new String2NumberConverter<Integer>(Integer.class), executor, 2, 5);
+			// abandon an iteration
+			try (ParallelConvertingIterator<String, Integer> iterator = iterable.iterator()) {
+				assertEquals(0, iterator.next().intValue());
+				assertEquals(1, iterator.next().intValue());
+			}
+			assertFalse(executor.isShutdown());
+			// finish an iteration
+			ParallelConvertingIterator<String, Integer> iterator = iterable.iterator();
+			for (int i = 0; i < 1000; i++)
+				assertEquals(i, iterator.next().intValue());
+			assertFalse(iterator.hasNext());
+			assertFalse(executor.isShutdown());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		ParallelConvertingIterator<String, Integer> iterator = new ParallelConvertingIterator<String, Integer>(
+				new ArrayList<String>().iterator(), new String2NumberConverter<Integer>(Integer.class));
+		assertFalse(iterator.hasNext());
+		iterator.close();
+	}
+
+	@Test
+	public void testUnsafeConverter() {
+		List<Integer> source = new ArrayList<Integer>();
+		for (int i = 0; i < 200; i++)
+			source.add(i);
+		ParallelConvertingIterator<Integer, Integer> iterator = new ParallelConvertingIterator<Integer, Integer>(
+				source.iterator(), new Incrementor(), 4, 3);
+		for (int i = 0; i < 200; i++)
+			assertEquals(i + 1, iterator.next().intValue());
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test(expected = ConversionException.class)
+	public void testFailure() {
+		ParallelConvertingIterator<String, Integer> iterator = new ParallelConvertingIterator<String, Integer>(
+				Arrays.asList("1", "x", "3").iterator(), new String2NumberConverter<Integer>(Integer.class), 2, 1);
+		assertEquals(1, iterator.next().intValue());
+		iterator.next();
+	}
+
+	/** Converter which is neither thread-safe nor parallelizable. */
+	public static class Incrementor extends UnsafeConverter<Integer, Integer> {
+
+		private int lastResult;
+
+		public Incrementor() {
+			super(Integer.class, Integer.class);
+		}
+
+		@Override
+		public Integer convert(Integer sourceValue) {
+			lastResult = sourceValue + 1;
+			Thread.yield();
+			return lastResult;
+		}
+	}
+
+}